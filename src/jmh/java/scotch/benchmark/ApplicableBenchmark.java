@@ -0,0 +1,59 @@
+package scotch.benchmark;
+
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ApplicableBenchmark {
+
+    @SuppressWarnings("unchecked")
+    private static Callable curry(int depth, int sum) {
+        if (depth == 0) {
+            return box(sum);
+        } else {
+            return applicable(argument -> callable(() -> curry(depth - 1, sum + (Integer) argument.call()).call()));
+        }
+    }
+
+    @Param({ "1", "2", "4", "8" })
+    private int               depth;
+    private Callable          function;
+    private Callable<Integer> argument;
+
+    @Setup
+    public void setUp() {
+        function = curry(depth, 0);
+        argument = box(1);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object applyAll() {
+        Object result = function.call();
+        for (int i = 0; i < depth; i++) {
+            result = ((Applicable) result).apply(argument).call();
+        }
+        return result;
+    }
+}
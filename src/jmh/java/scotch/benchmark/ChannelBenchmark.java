@@ -0,0 +1,67 @@
+package scotch.benchmark;
+
+import static scotch.io.IO.io;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.control.concurrent.Chan;
+import scotch.control.concurrent.Scheduler;
+import scotch.control.concurrent.Task;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ChannelBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    @Param({ "1", "64", "1024" })
+    private int capacity;
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long pipeline() throws InterruptedException {
+        Chan<Integer> input = Chan.chan(capacity);
+        Chan<Integer> output = Chan.chan(capacity);
+        Task<Integer> producer = Task.start(io(() -> {
+            try {
+                for (int i = 0; i < MESSAGES; i++) {
+                    input.write(i);
+                }
+                return MESSAGES;
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }), Scheduler.executor());
+        Task<Integer> stage = Task.start(io(() -> {
+            try {
+                for (int i = 0; i < MESSAGES; i++) {
+                    output.write(input.read() * 2);
+                }
+                return MESSAGES;
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }), Scheduler.executor());
+        long sum = 0;
+        for (int i = 0; i < MESSAGES; i++) {
+            sum += output.read();
+        }
+        producer.await();
+        stage.await();
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+package scotch.benchmark;
+
+import static scotch.compiler.ClassLoaderResolver.resolver;
+import static scotch.compiler.Compiler.compiler;
+import static scotch.compiler.scanner.Token.TokenKind.EOF;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.scanner.Scanner;
+import scotch.compiler.scanner.Token;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class CompilerBenchmark {
+
+    private static final URI SOURCE = URI.create("bench://scotch.bench");
+
+    @Param({ "100", "1000" })
+    private int                 values;
+    private String[]            lines;
+    private ClassLoaderResolver resolver;
+
+    @Setup
+    public void setUp() {
+        List<String> source = new ArrayList<>();
+        source.add("module scotch.bench");
+        for (int i = 0; i < values; i++) {
+            source.add("value" + i + " = \\x y -> x + y * " + i);
+            source.add("run" + i + " = value" + i + " 1 2 == " + (1 + 2 * i));
+        }
+        lines = source.toArray(new String[source.size()]);
+        resolver = resolver(Optional.empty());
+    }
+
+    @Benchmark
+    public int scan() {
+        Scanner scanner = Scanner.forString(SOURCE, lines);
+        int tokens = 0;
+        Token token;
+        do {
+            token = scanner.nextToken();
+            tokens++;
+        } while (!token.is(EOF));
+        return tokens;
+    }
+
+    @Benchmark
+    public DefinitionGraph parse() {
+        return compiler(resolver, SOURCE, lines).parseInput();
+    }
+
+    @Benchmark
+    public DefinitionGraph checkTypes() {
+        return compiler(resolver, SOURCE, lines).checkTypes();
+    }
+}
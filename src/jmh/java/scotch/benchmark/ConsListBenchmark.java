@@ -0,0 +1,57 @@
+package scotch.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.runtime.NormalForm;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ConsListBenchmark {
+
+    @Param({ "100", "10000" })
+    private int               size;
+    private ConsList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        list = ConsList.eagerCons(values);
+    }
+
+    @Benchmark
+    public long traverse() {
+        long sum = 0;
+        ConsList<Integer> current = list;
+        while (current instanceof ConsCell) {
+            ConsCell<Integer> cell = (ConsCell<Integer>) current;
+            sum += cell.getHead().call();
+            current = cell.getTail().call();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ConsList<Integer> deepSeq() {
+        NormalForm.deepSeq(list);
+        return list;
+    }
+}
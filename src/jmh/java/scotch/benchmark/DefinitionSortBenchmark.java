@@ -0,0 +1,64 @@
+package scotch.benchmark;
+
+import static scotch.compiler.ClassLoaderResolver.resolver;
+import static scotch.compiler.Compiler.compiler;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.syntax.definition.BindingGroup;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class DefinitionSortBenchmark {
+
+    private static final URI SOURCE = URI.create("bench://scotch.bench");
+
+    @Param({ "20000" })
+    private int             values;
+    @Param({ "1", "10" })
+    private int             groupSize;
+    private DefinitionGraph graph;
+
+    @Setup
+    public void setUp() {
+        List<String> source = new ArrayList<>();
+        source.add("module scotch.bench");
+        for (int i = 0; i < values; i++) {
+            if (i % groupSize == 0) {
+                source.add("value" + i + " = \\x -> " + (groupSize == 1 || i + groupSize > values ? "x" : "value" + (i + groupSize - 1) + " x"));
+            } else {
+                source.add("value" + i + " = \\x -> value" + (i - 1) + " x");
+            }
+        }
+        graph = compiler(resolver(Optional.empty()), SOURCE, source.toArray(new String[source.size()])).accumulateDependencies();
+    }
+
+    @Benchmark
+    public DefinitionGraph sort() {
+        return graph.sort();
+    }
+
+    @Benchmark
+    public List<BindingGroup> groupValues() {
+        return graph.getBindingGroups();
+    }
+}
@@ -0,0 +1,71 @@
+package scotch.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.io.StreamIO;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx32m")
+@State(Scope.Benchmark)
+public class LineCountBenchmark {
+
+    private static final byte[] LINE = "2015-04-01 12:00:00 INFO scotch.runner.Runner - compiled module in 12ms\n".getBytes(UTF_8);
+
+    @Param({ "256", "5120" })
+    private int  megabytes;
+    private Path path;
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("scotch-lines", ".log");
+        long size = megabytes * 1024L * 1024L;
+        byte[] block = new byte[LINE.length * 1024];
+        for (int i = 0; i < 1024; i++) {
+            System.arraycopy(LINE, 0, block, i * LINE.length, LINE.length);
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            for (long written = 0; written < size; written += block.length) {
+                out.write(block);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long countLines() {
+        long count = 0;
+        ConsList<String> current = StreamIO.readLines().apply(box(path.toString())).call().run().call();
+        while (current instanceof ConsCell) {
+            count++;
+            current = ((ConsCell<String>) current).getTail().call();
+        }
+        return count;
+    }
+}
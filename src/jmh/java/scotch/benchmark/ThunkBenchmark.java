@@ -0,0 +1,63 @@
+package scotch.benchmark;
+
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.runtime.Callable;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ThunkBenchmark {
+
+    private int value = 42;
+
+    @Benchmark
+    public Callable<Integer> createThunk() {
+        return callable(() -> value);
+    }
+
+    @Benchmark
+    public Integer createAndForceThunk() {
+        return callable(() -> value).call();
+    }
+
+    @Benchmark
+    public Integer forceEvaluatedThunk(EvaluatedThunk state) {
+        return state.thunk.call();
+    }
+
+    @Benchmark
+    public Integer forceNestedThunk() {
+        return flatCallable(() -> callable(() -> value)).call();
+    }
+
+    @Benchmark
+    public Integer boxAndUnbox() {
+        return box(value).call();
+    }
+
+    @State(Scope.Thread)
+    public static class EvaluatedThunk {
+
+        private final Callable<Integer> thunk = callable(() -> 42);
+
+        {
+            thunk.call();
+        }
+    }
+}
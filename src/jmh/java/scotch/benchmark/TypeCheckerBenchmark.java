@@ -0,0 +1,59 @@
+package scotch.benchmark;
+
+import static scotch.compiler.ClassLoaderResolver.resolver;
+import static scotch.compiler.Compiler.compiler;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+@State(Scope.Thread)
+public class TypeCheckerBenchmark {
+
+    private static final URI SOURCE = URI.create("bench://scotch.bench");
+
+    @Param({ "100", "1000" })
+    private int                 depth;
+    private String[]            lines;
+    private ClassLoaderResolver resolver;
+
+    @Setup
+    public void setUp() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            body.append("(\\y").append(i).append(" -> y").append(i).append(") (");
+        }
+        body.append("x");
+        for (int i = 0; i < depth; i++) {
+            body.append(")");
+        }
+        lines = new String[] {
+            "module scotch.bench",
+            "run = \\x -> " + body,
+        };
+        resolver = resolver(Optional.empty());
+    }
+
+    @Benchmark
+    public DefinitionGraph checkNestedApplications() {
+        return compiler(resolver, SOURCE, lines).checkTypes();
+    }
+}
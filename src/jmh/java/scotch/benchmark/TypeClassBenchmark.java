@@ -0,0 +1,53 @@
+package scotch.benchmark;
+
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.data.eq.Eq;
+import scotch.data.eq.EqInt;
+import scotch.data.num.Num;
+import scotch.data.num.NumInt;
+import scotch.data.ord.Ord;
+import scotch.data.ord.OrdInt;
+import scotch.data.ord.Ordering;
+import scotch.runtime.Callable;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("unchecked")
+public class TypeClassBenchmark {
+
+    private final Callable<Num<Integer>> num   = (Callable) NumInt.instance();
+    private final Callable<Eq<Integer>>  eq    = (Callable) EqInt.instance();
+    private final Callable<Ord<Integer>> ord   = (Callable) OrdInt.instance();
+    private final Callable<Integer>      left  = box(3);
+    private final Callable<Integer>      right = box(4);
+
+    @Benchmark
+    public Integer numAdd() {
+        return Num.<Integer>add().apply(num).call().apply(left).call().apply(right).call();
+    }
+
+    @Benchmark
+    public Boolean eqEq() {
+        return Eq.<Integer>eq().apply(eq).call().apply(left).call().apply(right).call();
+    }
+
+    @Benchmark
+    public Ordering ordCompare() {
+        return Ord.<Integer>compare().apply(eq).call().apply(ord).call().apply(left).call().apply(right).call();
+    }
+}
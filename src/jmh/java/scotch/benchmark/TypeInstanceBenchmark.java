@@ -0,0 +1,82 @@
+package scotch.benchmark;
+
+import static java.util.Arrays.asList;
+import static scotch.symbol.MethodSignature.methodSignature;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.descriptor.TypeInstanceDescriptor.typeInstance;
+import static scotch.symbol.type.Types.sum;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.ModuleIndex;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.symbol.Symbol;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.type.Type;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeInstanceBenchmark {
+
+    private static final int    INSTANCES  = 1000;
+    private static final Symbol TYPE_CLASS = symbol("scotch.bench.instances.Show");
+
+    private ClassLoaderResolver resolver;
+    private List<List<Type>>    lookups;
+    private int                 next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path root = Files.createTempDirectory("scotch-instances");
+        Set<TypeInstanceDescriptor> instances = new HashSet<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            instances.add(typeInstance(
+                "scotch.bench.instances",
+                TYPE_CLASS,
+                asList(sum("scotch.bench.instances.Type" + i)),
+                methodSignature("scotch/bench/instances/ShowType" + i + ":instance:()Lscotch/runtime/Callable;")
+            ));
+        }
+        Map<String, ScanResult> scans = new TreeMap<>();
+        scans.put("scotch.bench.instances", new ScanResult(new HashSet<>(), instances, new TreeMap<>()));
+        ModuleIndex.writeIndex(root.resolve(ModuleIndex.INDEX_PATH), scans);
+        ClassLoader parent = new URLClassLoader(new URL[] { root.toUri().toURL() }, getClass().getClassLoader());
+        resolver = new ClassLoaderResolver(Optional.empty(), parent);
+        lookups = IntStream.range(0, INSTANCES)
+            .mapToObj(i -> asList((Type) sum("scotch.bench.instances.Type" + i)))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Set<TypeInstanceDescriptor> lookup() {
+        next = (next + 1) % INSTANCES;
+        return resolver.getTypeInstances(TYPE_CLASS, lookups.get(next));
+    }
+}
@@ -0,0 +1,428 @@
+package scotch.compiler;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.objectweb.asm.ClassReader.SKIP_CODE;
+import static org.objectweb.asm.ClassReader.SKIP_DEBUG;
+import static org.objectweb.asm.ClassReader.SKIP_FRAMES;
+import static org.objectweb.asm.Opcodes.ASM5;
+import static scotch.symbol.Operator.operator;
+import static scotch.symbol.Symbol.qualified;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.Value.Fixity.NONE;
+import static scotch.symbol.descriptor.DataFieldDescriptor.field;
+import static scotch.symbol.descriptor.TypeClassDescriptor.typeClass;
+import static scotch.symbol.descriptor.TypeInstanceDescriptor.typeInstance;
+import static scotch.symbol.type.Types.var;
+import static scotch.util.StringUtil.quote;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.symbol.DataConstructor;
+import scotch.symbol.DataField;
+import scotch.symbol.DataFieldType;
+import scotch.symbol.DataType;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.Member;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.Module;
+import scotch.symbol.Symbol;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.SymbolEntry.ImmutableEntryBuilder;
+import scotch.symbol.TypeClass;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.Value.Fixity;
+import scotch.symbol.ValueType;
+import scotch.symbol.descriptor.DataConstructorDescriptor;
+import scotch.symbol.descriptor.DataTypeDescriptor;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.exception.IncompleteDataTypeError;
+import scotch.symbol.exception.IncompleteTypeInstanceError;
+import scotch.symbol.exception.InvalidMethodSignatureError;
+import scotch.symbol.exception.SymbolResolutionError;
+import scotch.symbol.type.Type;
+
+public class ClassFileScanner {
+
+    private static String descriptor(Class<? extends Annotation> annotation) {
+        return org.objectweb.asm.Type.getDescriptor(annotation);
+    }
+
+    private final String                             moduleName;
+    private final List<ClassReader>                  readers;
+    private final ClassLoader                        classLoader;
+    private final Map<Symbol, ImmutableEntryBuilder> builders;
+    private final Set<TypeInstanceDescriptor>        typeInstances;
+    private final Map<String, String>                reExports;
+
+    public ClassFileScanner(String moduleName, List<ClassReader> readers, ClassLoader classLoader) {
+        this.moduleName = moduleName;
+        this.readers = readers;
+        this.classLoader = classLoader;
+        this.builders = new HashMap<>();
+        this.typeInstances = new HashSet<>();
+        this.reExports = new LinkedHashMap<>();
+    }
+
+    public ScanResult scan() {
+        List<ClassData> classes = readers.stream()
+            .map(this::read)
+            .collect(toList());
+        classes.forEach(this::processModules);
+        classes.forEach(this::processDataTypes);
+        classes.forEach(this::processDataConstructors);
+        classes.forEach(clazz -> {
+            processTypeClasses(clazz);
+            processTypeInstances(clazz);
+            processValues(clazz);
+        });
+        return new ScanResult(
+            builders.values().stream().map(ImmutableEntryBuilder::build).collect(toSet()),
+            typeInstances,
+            reExports
+        );
+    }
+
+    public Set<TypeInstanceDescriptor> scanInstances() {
+        readers.stream()
+            .map(this::read)
+            .forEach(this::processTypeInstances);
+        return typeInstances;
+    }
+
+    private ImmutableEntryBuilder getBuilder(String memberName) {
+        return builders.computeIfAbsent(qualify(memberName), SymbolEntry::immutableEntry);
+    }
+
+    private ImmutableEntryBuilder getBuilder(Symbol memberSymbol) {
+        return builders.computeIfAbsent(memberSymbol, SymbolEntry::immutableEntry);
+    }
+
+    private IncompleteDataTypeError incompleteDataType(ClassData clazz, Class<? extends Annotation> missingAnnotation) {
+        return new IncompleteDataTypeError("Data type definition for class " + quote(clazz.getCanonicalName()) + " in module "
+            + quote(moduleName) + " is incomplete: missing method annotated with " + missingAnnotation.getCanonicalName());
+    }
+
+    private IncompleteTypeInstanceError incompleteTypeInstance(String typeClass, Class<? extends Annotation> missingAnnotation) {
+        return new IncompleteTypeInstanceError("Type instance definition for class " + quote(typeClass)
+            + " in module " + quote(moduleName) + " is incomplete"
+            + ": missing method annotated with " + missingAnnotation.getCanonicalName());
+    }
+
+    // type signatures are built by Java code, so modules missing from a module index still initialize their classes here
+    @SuppressWarnings("unchecked")
+    private <T> T invoke(ClassData clazz, MethodData methodData) {
+        try {
+            Method method = Class.forName(clazz.getJavaName(), true, classLoader).getDeclaredMethod(methodData.name);
+            method.setAccessible(true);
+            return (T) method.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            throw new SymbolResolutionError(exception);
+        }
+    }
+
+    private boolean isAssignable(Class<?> target, String internalName) {
+        try {
+            return target.isAssignableFrom(Class.forName(internalName.replace('/', '.'), false, classLoader));
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    private void processDataConstructors(ClassData clazz) {
+        clazz.getAnnotation(DataConstructor.class).ifPresent(annotation -> {
+            Symbol constructor = qualify(annotation.getString("memberName"));
+            Symbol dataType = qualify(annotation.getString("dataType"));
+            DataConstructorDescriptor.Builder builder = getBuilder(constructor).dataConstructor(annotation.getInt("ordinal", 0), dataType, clazz.name);
+
+            Map<String, Type> fieldTypes = new HashMap<>();
+            clazz.methods.forEach(method -> method.getAnnotation(DataFieldType.class)
+                .ifPresent(fieldType -> fieldTypes.put(fieldType.getString("forMember"), invoke(clazz, method))));
+
+            clazz.methods.forEach(method -> method.getAnnotation(DataField.class).ifPresent(field -> builder.addField(field(
+                field.getInt("ordinal", 0),
+                field.getString("memberName"),
+                method.name,
+                Optional.ofNullable(fieldTypes.get(field.getString("memberName")))
+                    .orElseThrow(() -> incompleteDataType(clazz, DataFieldType.class))
+            ))));
+
+            getBuilder(dataType).dataType().addConstructor(builder.build());
+        });
+    }
+
+    private void processDataTypes(ClassData clazz) {
+        clazz.getAnnotation(DataType.class).ifPresent(annotation -> {
+            Symbol symbol = qualify(annotation.getString("memberName"));
+            DataTypeDescriptor.Builder builder = getBuilder(symbol).dataType();
+            MethodData parametersGetter = clazz.findMethod(TypeParameters.class).orElseThrow(() -> incompleteDataType(clazz, TypeParameters.class));
+            validateParametersGetter(clazz, parametersGetter);
+            List<Type> parametersList = invoke(clazz, parametersGetter);
+            for (int i = 0; i < annotation.getAnnotations("parameters").size(); i++) {
+                builder.addParameter(parametersList.get(i));
+            }
+            builder.withClassName(clazz.name);
+        });
+    }
+
+    private void processModules(ClassData clazz) {
+        if (!reExports.isEmpty()) {
+            throw new SymbolResolutionError(
+                "Multiple classes in module " + quote(moduleName) + " found with annotation @Module:"
+                    + " duplicate class is " + quote(clazz.getJavaName())
+            );
+        } else {
+            clazz.getAnnotation(Module.class).ifPresent(module -> module.getAnnotations("reExports").forEach(
+                reExport -> reExport.getAnnotations("members").forEach(
+                    member -> reExports.put(member.getString("memberName"), reExport.getString("moduleName")))));
+        }
+    }
+
+    private void processTypeClasses(ClassData clazz) {
+        clazz.getAnnotation(TypeClass.class).ifPresent(typeClass -> {
+            ImmutableEntryBuilder builder = getBuilder(typeClass.getString("memberName"));
+            Symbol symbol = qualify(typeClass.getString("memberName"));
+            List<Symbol> members = new ArrayList<>();
+            clazz.methods.forEach(method -> method.getAnnotation(Member.class)
+                .ifPresent(member -> members.add(qualify(member.getString("value")))));
+            List<Type> parameters = typeClass.getAnnotations("parameters").stream()
+                .map(parameter -> var(parameter.getString("name"), parameter.getStrings("constraints")))
+                .collect(toList());
+            builder.withTypeClass(typeClass(symbol, parameters, members));
+            members.forEach(member -> getBuilder(member).withMemberOf(symbol));
+        });
+    }
+
+    private void processTypeInstances(ClassData clazz) {
+        clazz.getAnnotation(TypeInstance.class).ifPresent(typeInstance -> {
+            String typeClass = typeInstance.getString("typeClass");
+            MethodData parametersGetter = clazz.findMethod(TypeParameters.class).orElseThrow(() -> incompleteTypeInstance(typeClass, TypeParameters.class));
+            MethodData instanceGetter = clazz.findMethod(InstanceGetter.class).orElseThrow(() -> incompleteTypeInstance(typeClass, InstanceGetter.class));
+            validateParametersGetter(clazz, parametersGetter);
+            typeInstances.add(typeInstance(
+                moduleName,
+                symbol(typeClass),
+                invoke(clazz, parametersGetter),
+                instanceGetter.getSignature(clazz)
+            ));
+        });
+    }
+
+    private void processValues(ClassData clazz) {
+        clazz.methods.forEach(method -> {
+            method.getAnnotation(Value.class).ifPresent(value -> {
+                ImmutableEntryBuilder builder = getBuilder(value.getString("memberName"));
+                builder.withValueMethod(method.getSignature(clazz));
+                Fixity fixity = Fixity.valueOf(value.getEnum("fixity", NONE.name()));
+                int precedence = value.getInt("precedence", 7);
+                if (fixity != NONE && precedence != -1) {
+                    builder.withOperator(operator(fixity, precedence));
+                }
+            });
+            method.getAnnotation(ValueType.class).ifPresent(valueType -> {
+                ImmutableEntryBuilder builder = getBuilder(valueType.getString("forMember"));
+                if (isAssignable(Type.class, org.objectweb.asm.Type.getReturnType(method.descriptor).getInternalName())) {
+                    builder.withValueType(invoke(clazz, method));
+                } else {
+                    throw new InvalidMethodSignatureError("Method " + method.getCanonicalName(clazz)
+                        + " annotated by " + ValueType.class.getCanonicalName()
+                        + " does not return " + Type.class.getCanonicalName());
+                }
+            });
+        });
+    }
+
+    private Symbol qualify(String memberName) {
+        return qualified(moduleName, memberName);
+    }
+
+    private ClassData read(ClassReader reader) {
+        ClassData clazz = new ClassData(reader.getClassName());
+        reader.accept(new ClassVisitor(ASM5) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                AnnotationData annotation = new AnnotationData();
+                clazz.annotations.put(desc, annotation);
+                return new AnnotationCollector(annotation.values::put);
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+                MethodData method = new MethodData(access, name, desc, signature);
+                clazz.methods.add(method);
+                return new MethodVisitor(ASM5) {
+                    @Override
+                    public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                        AnnotationData annotation = new AnnotationData();
+                        method.annotations.put(desc, annotation);
+                        return new AnnotationCollector(annotation.values::put);
+                    }
+                };
+            }
+        }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+        return clazz;
+    }
+
+    private void validateParametersGetter(ClassData clazz, MethodData parametersGetter) {
+        org.objectweb.asm.Type methodType = org.objectweb.asm.Type.getMethodType(parametersGetter.descriptor);
+        if (!isAssignable(List.class, methodType.getReturnType().getInternalName()) || !parametersGetter.returnsListOf(Type.class, this)) {
+            throw new InvalidMethodSignatureError("Method " + parametersGetter.getCanonicalName(clazz)
+                + " annotated by " + TypeParameters.class.getCanonicalName()
+                + " does not return " + List.class.getCanonicalName() + "<" + Type.class.getCanonicalName() + ">");
+        } else if (methodType.getArgumentTypes().length != 0) {
+            throw new InvalidMethodSignatureError("Method " + parametersGetter.getCanonicalName(clazz)
+                + " annotated by " + TypeParameters.class.getCanonicalName()
+                + " should not accept arguments");
+        }
+    }
+
+    private static final class AnnotationCollector extends AnnotationVisitor {
+
+        private final BiConsumer<String, Object> sink;
+
+        public AnnotationCollector(BiConsumer<String, Object> sink) {
+            super(ASM5);
+            this.sink = sink;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            sink.accept(name, value);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String desc) {
+            AnnotationData annotation = new AnnotationData();
+            sink.accept(name, annotation);
+            return new AnnotationCollector(annotation.values::put);
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            List<Object> values = new ArrayList<>();
+            sink.accept(name, values);
+            return new AnnotationCollector((ignored, value) -> values.add(value));
+        }
+
+        @Override
+        public void visitEnum(String name, String desc, String value) {
+            sink.accept(name, value);
+        }
+    }
+
+    private static final class AnnotationData {
+
+        private final Map<String, Object> values = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public List<AnnotationData> getAnnotations(String name) {
+            return (List<AnnotationData>) values.getOrDefault(name, new ArrayList<>());
+        }
+
+        public String getEnum(String name, String defaultValue) {
+            return (String) values.getOrDefault(name, defaultValue);
+        }
+
+        public int getInt(String name, int defaultValue) {
+            return (Integer) values.getOrDefault(name, defaultValue);
+        }
+
+        public String getString(String name) {
+            return (String) values.get(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        public List<String> getStrings(String name) {
+            return (List<String>) values.getOrDefault(name, new ArrayList<>());
+        }
+    }
+
+    private static final class ClassData {
+
+        private final String                      name;
+        private final Map<String, AnnotationData> annotations;
+        private final List<MethodData>            methods;
+
+        public ClassData(String name) {
+            this.name = name;
+            this.annotations = new HashMap<>();
+            this.methods = new ArrayList<>();
+        }
+
+        public Optional<MethodData> findMethod(Class<? extends Annotation> annotation) {
+            return methods.stream()
+                .filter(method -> method.getAnnotation(annotation).isPresent())
+                .findFirst();
+        }
+
+        public Optional<AnnotationData> getAnnotation(Class<? extends Annotation> annotation) {
+            return Optional.ofNullable(annotations.get(descriptor(annotation)));
+        }
+
+        public String getCanonicalName() {
+            return getJavaName().replace('$', '.');
+        }
+
+        public String getJavaName() {
+            return name.replace('/', '.');
+        }
+    }
+
+    private static final class MethodData {
+
+        private final int                         access;
+        private final String                      name;
+        private final String                      descriptor;
+        private final String                      signature;
+        private final Map<String, AnnotationData> annotations;
+
+        public MethodData(int access, String name, String descriptor, String signature) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.signature = signature;
+            this.annotations = new HashMap<>();
+        }
+
+        public Optional<AnnotationData> getAnnotation(Class<? extends Annotation> annotation) {
+            return Optional.ofNullable(annotations.get(descriptor(annotation)));
+        }
+
+        public String getCanonicalName(ClassData clazz) {
+            return clazz.getCanonicalName() + "#" + name;
+        }
+
+        public MethodSignature getSignature(ClassData clazz) {
+            return MethodSignature.fromMethod(access, clazz.name, name, descriptor);
+        }
+
+        public boolean returnsListOf(Class<?> elementType, ClassFileScanner scanner) {
+            if (signature == null) {
+                return false;
+            }
+            int start = signature.indexOf(")L");
+            int open = signature.indexOf('<', start);
+            if (start == -1 || open == -1 || signature.charAt(open + 1) != 'L') {
+                return false;
+            }
+            int end = signature.indexOf(';', open);
+            return scanner.isAssignable(elementType, signature.substring(open + 2, end));
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package scotch.compiler;
 
 import static java.lang.management.ManagementFactory.getRuntimeMXBean;
-import static java.util.regex.Pattern.compile;
 import static java.util.stream.Collectors.toList;
+import static scotch.compiler.SymbolLibrary.library;
+import static scotch.compiler.SymbolLibrary.privateLibrary;
+import static scotch.compiler.util.Pair.pair;
 import static scotch.symbol.Symbol.getPackageName;
-import static scotch.symbol.Symbol.getPackagePath;
 import static scotch.symbol.Symbol.qualified;
-import static scotch.symbol.Symbol.toJavaName;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -15,7 +15,6 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -23,13 +22,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import com.google.common.collect.ImmutableSet;
 import scotch.compiler.ModuleScanner.ScanResult;
 import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.util.Pair;
 import scotch.symbol.Symbol;
 import scotch.symbol.Symbol.QualifiedSymbol;
 import scotch.symbol.Symbol.SymbolVisitor;
@@ -38,7 +35,6 @@ import scotch.symbol.SymbolEntry;
 import scotch.symbol.SymbolResolver;
 import scotch.symbol.descriptor.TypeInstanceDescriptor;
 import scotch.symbol.descriptor.TypeParameterDescriptor;
-import scotch.symbol.exception.SymbolResolutionError;
 import scotch.symbol.type.SumType;
 import scotch.symbol.type.Type;
 
@@ -48,16 +44,19 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         return new ClassLoaderResolver(optionalOutputPath, ClassLoaderResolver.class.getClassLoader());
     }
 
-    private final Optional<File>                                                               optionalOutputPath;
-    private final Map<Symbol, SymbolEntry>                                                     namedSymbols;
-    private final Set<String>                                                                  searchedClasses;
-    private final Set<URL>                                                                     searchedUrls;
-    private final Map<Symbol, Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>> typeInstances;
-    private final Map<Symbol, Set<TypeInstanceDescriptor>>                                     typeInstancesByClass;
-    private final Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>              typeInstancesByArguments;
-    private final Map<String, Set<TypeInstanceDescriptor>>                                     typeInstancesByModule;
-    private final Map<String, Set<Class<?>>>                                                   definedClasses;
-    private final Map<String, Map<String, String>>                                             reExports;
+    private final Optional<File>                                                                             optionalOutputPath;
+    private final Map<Symbol, SymbolEntry>                                                                   namedSymbols;
+    private final Set<String>                                                                                searchedClasses;
+    private final Map<Symbol, Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>>               typeInstances;
+    private final Map<Pair<Symbol, Symbol>, Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>> typeInstancesByHead;
+    private final Map<Pair<Symbol, List<Type>>, Set<TypeInstanceDescriptor>>                                 resolvedInstances;
+    private final Map<Symbol, Set<TypeInstanceDescriptor>>                                                   typeInstancesByClass;
+    private final Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>                            typeInstancesByArguments;
+    private final Map<String, Set<TypeInstanceDescriptor>>                                                   typeInstancesByModule;
+    private final Map<String, Set<Class<?>>>                                                                 definedClasses;
+    private final Map<String, Map<String, String>>                                                           reExports;
+    private final Set<String>                                                                                searchedModules;
+    private final SymbolLibrary                                                                              library;
 
     public ClassLoaderResolver(Optional<File> optionalOutputPath, ClassLoader parent) {
         this(optionalOutputPath, new URL[0], parent);
@@ -68,13 +67,16 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         this.optionalOutputPath = optionalOutputPath;
         this.namedSymbols = new HashMap<>();
         this.searchedClasses = new HashSet<>();
-        this.searchedUrls = new HashSet<>();
         this.typeInstances = new HashMap<>();
+        this.typeInstancesByHead = new HashMap<>();
+        this.resolvedInstances = new HashMap<>();
         this.typeInstancesByClass = new HashMap<>();
         this.typeInstancesByArguments = new HashMap<>();
         this.typeInstancesByModule = new HashMap<>();
         this.definedClasses = new HashMap<>();
         this.reExports = new HashMap<>();
+        this.searchedModules = new HashSet<>();
+        this.library = urls.length == 0 ? library(parent) : privateLibrary(this);
     }
 
     public Class<?> define(GeneratedClass generatedClass) {
@@ -86,9 +88,10 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         optionalOutputPath.ifPresent(outputPath -> writeClass(generatedClass, generatedClass.getBytes(), outputPath));
     }
 
-    private Class<?> define_(GeneratedClass generatedClass) {
+    private synchronized Class<?> define_(GeneratedClass generatedClass) {
         byte[] bytes = generatedClass.getBytes();
         Class<?> clazz = defineClass(generatedClass.getClassName(), bytes, 0, bytes.length);
+        resolvedInstances.clear();
         definedClasses
             .computeIfAbsent(clazz.getName().replace(Pattern.quote("." + clazz.getSimpleName()) + "$", ""), k -> new HashSet<>())
             .add(clazz);
@@ -103,7 +106,7 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     }
 
     @Override
-    public Optional<SymbolEntry> getEntry(Symbol symbol) {
+    public synchronized Optional<SymbolEntry> getEntry(Symbol symbol) {
         search(symbol);
         if (namedSymbols.containsKey(symbol)) {
             return Optional.ofNullable(namedSymbols.get(symbol));
@@ -127,31 +130,37 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     }
 
     @Override
-    public Set<TypeInstanceDescriptor> getTypeInstances(Symbol symbol, List<Type> types) {
-        search(symbol);
-        search(types);
-        return Optional.ofNullable(typeInstances.get(symbol))
-            .flatMap(instances -> instances.keySet().stream()
-                .filter(parameters -> parametersMatch(parameters, types))
-                .map(instances::get)
-                .findFirst())
-            .orElse(ImmutableSet.of());
+    public synchronized Set<TypeInstanceDescriptor> getTypeInstances(Symbol symbol, List<Type> types) {
+        Pair<Symbol, List<Type>> key = pair(symbol, types);
+        Set<TypeInstanceDescriptor> resolved = resolvedInstances.get(key);
+        if (resolved == null) {
+            search(symbol);
+            search(types);
+            resolved = findTypeInstances(symbol, types);
+            resolvedInstances.put(key, resolved);
+        }
+        return resolved;
     }
 
     @Override
-    public Set<TypeInstanceDescriptor> getTypeInstancesByModule(String moduleName) {
+    public synchronized Set<TypeInstanceDescriptor> getTypeInstancesByModule(String moduleName) {
         search(moduleName);
         return typeInstancesByModule.getOrDefault(moduleName, ImmutableSet.of());
     }
 
-    private String baseName(File file) {
-        String fileName = file.getName();
-        return fileName.substring(0, fileName.lastIndexOf('.'));
-    }
-
-    private File[] classFiles(File directory) {
-        File[] files = directory.listFiles(pathName -> pathName.isFile() && pathName.getName().endsWith(".class"));
-        return files == null ? new File[0] : files;
+    private Set<TypeInstanceDescriptor> findTypeInstances(Symbol symbol, List<Type> types) {
+        Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>> candidates;
+        if (!types.isEmpty() && types.get(0) instanceof SumType) {
+            candidates = typeInstancesByHead.get(pair(symbol, ((SumType) types.get(0)).getSymbol()));
+        } else {
+            candidates = typeInstances.get(symbol);
+        }
+        return Optional.ofNullable(candidates)
+            .flatMap(instances -> instances.keySet().stream()
+                .filter(parameters -> parametersMatch(parameters, types))
+                .map(instances::get)
+                .findFirst())
+            .orElse(ImmutableSet.of());
     }
 
     private boolean parametersMatch(List<TypeParameterDescriptor> parameters, List<Type> types) {
@@ -169,7 +178,16 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     private void processScan(String moduleName, ScanResult scan) {
         reExports.computeIfAbsent(moduleName, k -> new LinkedHashMap<>()).putAll(scan.getReExports());
         scan.getEntries().forEach(entry -> namedSymbols.put(entry.getSymbol(), entry));
+        if (!scan.getInstances().isEmpty()) {
+            resolvedInstances.clear();
+        }
         scan.getInstances().forEach(typeInstance -> {
+            if (!typeInstance.getParameters().isEmpty()) {
+                typeInstancesByHead
+                    .computeIfAbsent(pair(typeInstance.getTypeClass(), typeInstance.getParameters().get(0).getSymbol()), k -> new HashMap<>())
+                    .computeIfAbsent(typeInstance.getParameters(), k -> new HashSet<>())
+                    .add(typeInstance);
+            }
             typeInstances
                 .computeIfAbsent(typeInstance.getTypeClass(), k -> new HashMap<>())
                 .computeIfAbsent(typeInstance.getParameters(), k -> new HashSet<>())
@@ -180,48 +198,6 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         });
     }
 
-    private Optional<Class<?>> resolveClass(String className) {
-        try {
-            return Optional.of(loadClass(className));
-        } catch (ClassNotFoundException exception) {
-            return Optional.empty();
-        }
-    }
-
-    private List<Class<?>> resolveClasses(URL resource, String packagePath) {
-        List<Class<?>> classes = new ArrayList<>();
-        try (ZipInputStream zipStream = new ZipInputStream(resource.openStream())) {
-            ZipEntry entry;
-            while (null != (entry = zipStream.getNextEntry())) {
-                try {
-                    if (!entry.isDirectory()) {
-                        String name = entry.getName();
-                        Pattern pattern = compile("(" + packagePath + "/[^\\./]+)\\.class");
-                        Matcher matcher = pattern.matcher(name);
-                        if (matcher.find()) {
-                            resolveClass(matcher.group(1).replace('/', '.')).ifPresent(classes::add);
-                        }
-                    }
-                } finally {
-                    zipStream.closeEntry();
-                }
-            }
-        } catch (IOException exception) {
-            throw new SymbolResolutionError(exception);
-        }
-        return classes;
-    }
-
-    private List<Class<?>> resolveClasses(File directory, String packageName) {
-        List<Class<?>> classes = new ArrayList<>();
-        if (directory.exists()) {
-            for (File file : classFiles(directory)) {
-                resolveClass(packageName + '.' + baseName(file)).ifPresent(classes::add);
-            }
-        }
-        return classes;
-    }
-
     private void search(List<Type> parameters) {
         parameters.forEach(parameter -> parameter.accept(this::search));
     }
@@ -242,30 +218,18 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     }
 
     private void search(String moduleName) {
-        List<Class<?>> classes = new ArrayList<>();
-        try {
-            Enumeration<URL> resources = getResources(getPackagePath(moduleName));
-            while (resources.hasMoreElements()) {
-                URL resource = resources.nextElement();
-                if (!searchedUrls.contains(resource)) {
-                    searchedUrls.add(resource);
-                    if (resource.getFile().contains("!")) {
-                        String path = new File(resource.getFile()).getPath();
-                        classes.addAll(resolveClasses(new URL(path.substring(0, path.indexOf('!'))), getPackagePath(moduleName)));
-                    } else {
-                        classes.addAll(resolveClasses(new File(resource.getFile()), getPackageName(moduleName)));
-                    }
-                }
-            }
-            Optional
-                .ofNullable(definedClasses.get(toJavaName(moduleName)))
-                .ifPresent(cs -> cs.forEach(classes::add));
-        } catch (IOException exception) {
-            throw new SymbolResolutionError(exception);
+        if (searchedModules.add(moduleName)) {
+            processScan(moduleName, library.getModule(moduleName));
         }
+        List<Class<?>> classes = new ArrayList<>();
+        Optional
+            .ofNullable(definedClasses.get(getPackageName(moduleName)))
+            .ifPresent(cs -> cs.forEach(classes::add));
         classes.removeIf(c -> searchedClasses.contains(c.getName()));
-        classes.stream().map(Class::getName).forEach(searchedClasses::add);
-        processScan(moduleName, new ModuleScanner(moduleName, classes).scan());
+        if (!classes.isEmpty()) {
+            classes.stream().map(Class::getName).forEach(searchedClasses::add);
+            processScan(moduleName, new ModuleScanner(moduleName, classes).scan());
+        }
     }
 
     private void writeClass(GeneratedClass generatedClass, byte[] bytes, File outputPath) {
@@ -1,7 +1,12 @@
 package scotch.compiler;
 
+import static scotch.runtime.FlightEvents.phase;
+
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import scotch.compiler.target.BytecodeGenerator;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateGraph;
@@ -18,59 +23,86 @@ import scotch.compiler.analyzer.TypeChecker;
 import scotch.compiler.syntax.definition.DefinitionGraph;
 import scotch.symbol.SymbolResolver;
 
-// TODO multiple file compilation
-// TODO incremental compilation
 public class Compiler {
 
     public static Compiler compiler(SymbolResolver symbolResolver, URI source, String... lines) {
-        return new Compiler(symbolResolver, Scanner.forString(source, lines));
+        return compiler(symbolResolver, Scanner.forString(source, lines));
+    }
+
+    public static Compiler compiler(SymbolResolver symbolResolver, Path file) {
+        return compiler(symbolResolver, Scanner.forFile(file));
     }
 
-    private final SymbolResolver symbolResolver;
-    private final Scanner        scanner;
+    public static Compiler compiler(SymbolResolver symbolResolver, Scanner scanner) {
+        return new Compiler(() -> new InputParser(symbolResolver, scanner).parse());
+    }
 
-    private Compiler(SymbolResolver symbolResolver, Scanner scanner) {
-        this.symbolResolver = symbolResolver;
-        this.scanner = scanner;
+    static Compiler compiler(DefinitionGraph parsedInput) {
+        return new Compiler(() -> parsedInput);
+    }
+
+    private final Supplier<DefinitionGraph> parser;
+
+    private Compiler(Supplier<DefinitionGraph> parser) {
+        this.parser = parser;
     }
 
     public DefinitionGraph accumulateDependencies() {
-        return new DependencyAccumulator(reducePatterns()).accumulateDependencies();
+        DefinitionGraph graph = reducePatterns();
+        return phase("accumulateDependencies", () -> new DependencyAccumulator(graph).accumulateDependencies());
     }
 
     public DefinitionGraph accumulateNames() {
-        return new NameAccumulator(parsePrecedence()).accumulateNames();
+        DefinitionGraph graph = parsePrecedence();
+        return phase("accumulateNames", () -> new NameAccumulator(graph).accumulateNames());
     }
 
     public DefinitionGraph accumulateOperators() {
-        return new OperatorAccumulator(parseInput()).accumulateOperators();
+        DefinitionGraph graph = parseInput();
+        return phase("accumulateOperators", () -> new OperatorAccumulator(graph).accumulateOperators());
     }
 
     public DefinitionGraph checkTypes() {
-        return new TypeChecker(accumulateDependencies()).checkTypes();
+        DefinitionGraph graph = accumulateDependencies();
+        return phase("checkTypes", () -> new TypeChecker(graph).checkTypes());
+    }
+
+    public DefinitionGraph checkTypes(Executor executor) {
+        DefinitionGraph graph = accumulateDependencies();
+        return phase("checkTypes", () -> new TypeChecker(graph).checkTypes(executor));
     }
 
     public List<GeneratedClass> generateBytecode() {
-        return new BytecodeGenerator(generateIntermediateCode()).generateBytecode();
+        IntermediateGraph graph = generateIntermediateCode();
+        return phase("generateBytecode", () -> new BytecodeGenerator(graph).generateBytecode());
+    }
+
+    public List<GeneratedClass> generateBytecode(boolean profiling) {
+        IntermediateGraph graph = generateIntermediateCode();
+        return phase("generateBytecode", () -> new BytecodeGenerator(graph, profiling).generateBytecode());
     }
 
     public IntermediateGraph generateIntermediateCode() {
-        return new IntermediateGenerator(checkTypes()).generateIntermediateCode();
+        DefinitionGraph graph = checkTypes();
+        return phase("generateIntermediateCode", () -> new IntermediateGenerator(graph).generateIntermediateCode());
     }
 
     public DefinitionGraph parseInput() {
-        return new InputParser(symbolResolver, scanner).parse();
+        return phase("parseInput", parser);
     }
 
     public DefinitionGraph parsePrecedence() {
-        return new PrecedenceParser(accumulateOperators()).parsePrecedence();
+        DefinitionGraph graph = accumulateOperators();
+        return phase("parsePrecedence", () -> new PrecedenceParser(graph).parsePrecedence());
     }
 
     public DefinitionGraph qualifyNames() {
-        return new ScopedNameQualifier(accumulateNames()).qualifyNames();
+        DefinitionGraph graph = accumulateNames();
+        return phase("qualifyNames", () -> new ScopedNameQualifier(graph).qualifyNames());
     }
 
     public DefinitionGraph reducePatterns() {
-        return new PatternAnalyzer(qualifyNames()).reducePatterns();
+        DefinitionGraph graph = qualifyNames();
+        return phase("reducePatterns", () -> new PatternAnalyzer(graph).reducePatterns());
     }
 }
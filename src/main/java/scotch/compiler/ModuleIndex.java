@@ -0,0 +1,215 @@
+package scotch.compiler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import com.google.common.io.ByteStreams;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.exception.SymbolResolutionError;
+import scotch.symbol.util.SymbolReader;
+import scotch.symbol.util.SymbolWriter;
+
+public class ModuleIndex {
+
+    public static final String INDEX_PATH = "META-INF/scotch/modules.idx";
+
+    private static final int MAGIC   = 0x5C07C1D8;
+    private static final int VERSION = 1;
+
+    public static ModuleIndex readIndexes(ClassLoader classLoader) {
+        Map<String, Slice> modules = new HashMap<>();
+        Map<String, List<URL>> shadowedModules = new TreeMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_PATH);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                for (Map.Entry<String, Slice> slice : readSlices(map(resource)).entrySet()) {
+                    // the first index on the classpath wins, like the classes it describes
+                    if (modules.containsKey(slice.getKey())) {
+                        shadowedModules.computeIfAbsent(slice.getKey(), k -> new ArrayList<>()).add(resource);
+                    } else {
+                        modules.put(slice.getKey(), slice.getValue());
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            throw new SymbolResolutionError(exception);
+        }
+        return new ModuleIndex(modules, shadowedModules);
+    }
+
+    public static ModuleIndex readIndex(Path path) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            return new ModuleIndex(readSlices(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())), new TreeMap<>());
+        } catch (IOException exception) {
+            throw new SymbolResolutionError(exception);
+        }
+    }
+
+    public static void writeIndex(Path path, Map<String, ScanResult> scans) {
+        try {
+            Map<String, byte[]> blobs = new TreeMap<>();
+            for (Map.Entry<String, ScanResult> scan : scans.entrySet()) {
+                blobs.put(scan.getKey(), writeScan(scan.getValue()));
+            }
+            List<byte[]> names = new ArrayList<>();
+            int headerSize = 12;
+            for (String moduleName : blobs.keySet()) {
+                byte[] name = moduleName.getBytes(UTF_8);
+                names.add(name);
+                headerSize += 12 + name.length;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(blobs.size());
+            int offset = headerSize;
+            int index = 0;
+            for (byte[] blob : blobs.values()) {
+                byte[] name = names.get(index++);
+                out.writeInt(name.length);
+                out.write(name);
+                out.writeInt(offset);
+                out.writeInt(blob.length);
+                offset += blob.length;
+            }
+            for (byte[] blob : blobs.values()) {
+                out.write(blob);
+            }
+            out.flush();
+            Files.createDirectories(path.getParent());
+            Files.write(path, bytes.toByteArray());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static ByteBuffer map(URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(resource.toURI()))) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException exception) {
+                throw new IOException(exception);
+            }
+        } else {
+            try (InputStream in = resource.openStream()) {
+                return ByteBuffer.wrap(ByteStreams.toByteArray(in));
+            }
+        }
+    }
+
+    private static Map<String, Slice> readSlices(ByteBuffer buffer) {
+        Map<String, Slice> slices = new LinkedHashMap<>();
+        if (buffer.remaining() < 12 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return slices;
+        }
+        int size = buffer.getInt(8);
+        int position = 12;
+        for (int i = 0; i < size; i++) {
+            byte[] name = new byte[buffer.getInt(position)];
+            position += 4;
+            for (int j = 0; j < name.length; j++) {
+                name[j] = buffer.get(position + j);
+            }
+            position += name.length;
+            slices.put(new String(name, UTF_8), new Slice(buffer, buffer.getInt(position), buffer.getInt(position + 4)));
+            position += 8;
+        }
+        return slices;
+    }
+
+    private static byte[] writeScan(ScanResult scan) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SymbolWriter writer = new SymbolWriter(new DataOutputStream(bytes));
+        writer.writeEntries(scan.getEntries());
+        writer.writeInstances(scan.getInstances());
+        writer.writeInt(scan.getReExports().size());
+        for (Map.Entry<String, String> reExport : scan.getReExports().entrySet()) {
+            writer.writeString(reExport.getKey());
+            writer.writeString(reExport.getValue());
+        }
+        return bytes.toByteArray();
+    }
+
+    private final Map<String, Slice>     modules;
+    private final Map<String, List<URL>> shadowedModules;
+
+    private ModuleIndex(Map<String, Slice> modules, Map<String, List<URL>> shadowedModules) {
+        this.modules = modules;
+        this.shadowedModules = shadowedModules;
+    }
+
+    public boolean contains(String moduleName) {
+        return modules.containsKey(moduleName);
+    }
+
+    public Set<String> getModules() {
+        return modules.keySet();
+    }
+
+    public Map<String, List<URL>> getShadowedModules() {
+        return shadowedModules;
+    }
+
+    public Optional<ScanResult> scan(String moduleName) {
+        return Optional.ofNullable(modules.get(moduleName)).map(Slice::read);
+    }
+
+    private static final class Slice {
+
+        private final ByteBuffer buffer;
+        private final int        offset;
+        private final int        length;
+
+        public Slice(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public ScanResult read() {
+            byte[] bytes = new byte[length];
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            view.get(bytes);
+            try {
+                SymbolReader reader = new SymbolReader(new DataInputStream(new ByteArrayInputStream(bytes)));
+                Set<SymbolEntry> entries = new LinkedHashSet<>(reader.readEntries());
+                Set<TypeInstanceDescriptor> instances = new LinkedHashSet<>(reader.readInstances());
+                Map<String, String> reExports = new LinkedHashMap<>();
+                for (int i = reader.readInt(); i > 0; i--) {
+                    reExports.put(reader.readString(), reader.readString());
+                }
+                return new ScanResult(entries, instances, reExports);
+            } catch (IOException exception) {
+                throw new SymbolResolutionError(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package scotch.compiler;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static scotch.symbol.Symbol.getModuleName;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.objectweb.asm.ClassReader;
+import scotch.compiler.ModuleScanner.ScanResult;
+
+public class ModuleIndexer {
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: ModuleIndexer <class directory> <index file>");
+            System.exit(1);
+        }
+        Path classPath = Paths.get(args[0]).toAbsolutePath();
+        ModuleIndex.writeIndex(Paths.get(args[1]).toAbsolutePath(), new ModuleIndexer(classPath, ModuleIndexer.class.getClassLoader()).index());
+    }
+
+    private final Path        classPath;
+    private final ClassLoader parent;
+
+    public ModuleIndexer(Path classPath, ClassLoader parent) {
+        this.classPath = classPath;
+        this.parent = parent;
+    }
+
+    public Map<String, ScanResult> index() {
+        Map<String, ScanResult> scans = new TreeMap<>();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { toUrl(classPath) }, parent)) {
+            findClassNames().forEach((packageName, classNames) -> {
+                String moduleName = getModuleName(packageName);
+                List<ClassReader> readers = classNames.stream()
+                    .map(this::readClass)
+                    .collect(toList());
+                ScanResult scan = new ClassFileScanner(moduleName, readers, classLoader).scan();
+                if (!scan.getEntries().isEmpty() || !scan.getInstances().isEmpty() || !scan.getReExports().isEmpty()) {
+                    scans.put(moduleName, scan);
+                }
+            });
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return scans;
+    }
+
+    private Map<String, List<String>> findClassNames() throws IOException {
+        try (Stream<Path> paths = Files.walk(classPath)) {
+            return paths
+                .filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(".class"))
+                .map(path -> classPath.relativize(path).toString().replace(File.separatorChar, '/'))
+                .filter(path -> path.contains("/"))
+                .map(path -> path.substring(0, path.length() - ".class".length()).replace('/', '.'))
+                .collect(groupingBy(className -> className.substring(0, className.lastIndexOf('.')), TreeMap::new, toList()));
+        }
+    }
+
+    private ClassReader readClass(String className) {
+        try {
+            return new ClassReader(Files.readAllBytes(classPath.resolve(className.replace('.', File.separatorChar) + ".class")));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private URL toUrl(Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
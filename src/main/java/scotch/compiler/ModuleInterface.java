@@ -0,0 +1,214 @@
+package scotch.compiler;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.output.GeneratedClass.ClassType;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.util.SymbolReader;
+import scotch.symbol.util.SymbolWriter;
+
+public class ModuleInterface {
+
+    private static final int MAGIC   = 0x5C07C41F;
+    private static final int VERSION = 3;
+
+    public static String hash(byte[] bytes) {
+        return Hashing.sha1().hashBytes(bytes).toString();
+    }
+
+    public static ModuleInterface moduleInterface(String sourceHash, Set<String> modules, Map<String, String> imports, List<GeneratedClass> classes,
+                                                  Collection<SymbolEntry> entries, Collection<TypeInstanceDescriptor> instances) {
+        List<SymbolEntry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(comparing(SymbolEntry::getSymbol));
+        List<TypeInstanceDescriptor> sortedInstances = new ArrayList<>(instances);
+        sortedInstances.sort(comparing(TypeInstanceDescriptor::toString));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            SymbolWriter writer = new SymbolWriter(new DataOutputStream(bytes));
+            writer.writeEntries(sortedEntries);
+            writer.writeInstances(sortedInstances);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return new ModuleInterface(
+            sourceHash,
+            new TreeSet<>(modules),
+            new TreeMap<>(imports),
+            classes.stream()
+                .sorted()
+                .map(generatedClass -> new ClassFile(generatedClass.getType(), generatedClass.getClassName(), hash(generatedClass.getBytes())))
+                .collect(toList()),
+            bytes.toByteArray()
+        );
+    }
+
+    public static Optional<ModuleInterface> readInterface(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return Optional.empty();
+            }
+            String sourceHash = in.readUTF();
+            Set<String> modules = new LinkedHashSet<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                modules.add(in.readUTF());
+            }
+            Map<String, String> imports = new LinkedHashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                imports.put(in.readUTF(), in.readUTF());
+            }
+            List<ClassFile> classes = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                classes.add(new ClassFile(ClassType.values()[in.readInt()], in.readUTF(), in.readUTF()));
+            }
+            byte[] symbols = new byte[in.readInt()];
+            in.readFully(symbols);
+            return Optional.of(new ModuleInterface(sourceHash, modules, imports, classes, symbols));
+        } catch (IOException | RuntimeException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private final String              sourceHash;
+    private final Set<String>         modules;
+    private final Map<String, String> imports;
+    private final List<ClassFile>     classes;
+    private final byte[]              symbols;
+    private final String              interfaceHash;
+
+    private ModuleInterface(String sourceHash, Set<String> modules, Map<String, String> imports, List<ClassFile> classes, byte[] symbols) {
+        this.sourceHash = sourceHash;
+        this.modules = ImmutableSet.copyOf(modules);
+        this.imports = ImmutableMap.copyOf(imports);
+        this.classes = ImmutableList.copyOf(classes);
+        this.symbols = symbols;
+        this.interfaceHash = hash(symbols);
+    }
+
+    public List<SymbolEntry> getEntries() {
+        try {
+            return symbolReader().readEntries();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public List<TypeInstanceDescriptor> getInstances() {
+        try {
+            SymbolReader reader = symbolReader();
+            reader.readEntries();
+            return reader.readInstances();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public Map<String, String> getImports() {
+        return imports;
+    }
+
+    public String getInterfaceHash() {
+        return interfaceHash;
+    }
+
+    public Set<String> getModules() {
+        return modules;
+    }
+
+    public String getSourceHash() {
+        return sourceHash;
+    }
+
+    public Optional<List<GeneratedClass>> readClasses(Path outputPath) {
+        List<GeneratedClass> generatedClasses = new ArrayList<>();
+        for (ClassFile classFile : classes) {
+            Path path = outputPath.resolve(classFile.className.replace('.', '/') + ".class");
+            try {
+                byte[] bytes = Files.readAllBytes(path);
+                if (!hash(bytes).equals(classFile.hash)) {
+                    return Optional.empty();
+                }
+                generatedClasses.add(new GeneratedClass(classFile.type, classFile.className, bytes));
+            } catch (IOException exception) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(generatedClasses);
+    }
+
+    public void write(Path path) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(sourceHash);
+            out.writeInt(modules.size());
+            for (String module : modules) {
+                out.writeUTF(module);
+            }
+            out.writeInt(imports.size());
+            for (Map.Entry<String, String> entry : imports.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+            }
+            out.writeInt(classes.size());
+            for (ClassFile classFile : classes) {
+                out.writeInt(classFile.type.ordinal());
+                out.writeUTF(classFile.className);
+                out.writeUTF(classFile.hash);
+            }
+            out.writeInt(symbols.length);
+            out.write(symbols);
+            out.flush();
+            Files.createDirectories(path.getParent());
+            Files.write(path, bytes.toByteArray());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private SymbolReader symbolReader() {
+        return new SymbolReader(new DataInputStream(new ByteArrayInputStream(symbols)));
+    }
+
+    private static final class ClassFile {
+
+        private final ClassType type;
+        private final String    className;
+        private final String    hash;
+
+        public ClassFile(ClassType type, String className, String hash) {
+            this.type = type;
+            this.className = className;
+            this.hash = hash;
+        }
+    }
+}
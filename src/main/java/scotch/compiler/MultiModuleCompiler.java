@@ -0,0 +1,365 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static lombok.AccessLevel.PRIVATE;
+import static scotch.compiler.ModuleInterface.hash;
+import static scotch.compiler.ModuleInterface.moduleInterface;
+import static scotch.compiler.ModuleInterface.readInterface;
+import static scotch.compiler.SharedSymbolResolver.sharedResolver;
+import static scotch.compiler.text.TextUtil.repeat;
+import static scotch.runtime.FlightEvents.phase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.objectweb.asm.ClassReader;
+import scotch.compiler.error.CompileException;
+import scotch.compiler.error.SyntaxError;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateGraph;
+import scotch.compiler.output.GeneratedClass;
+import scotch.compiler.parser.InputParser;
+import scotch.compiler.scanner.Scanner;
+import scotch.compiler.syntax.definition.DefinitionEntry;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+import scotch.compiler.syntax.definition.Import;
+import scotch.compiler.syntax.definition.ImportBlock;
+import scotch.compiler.syntax.reference.ModuleReference;
+import scotch.compiler.syntax.scope.ImportScope;
+import scotch.compiler.target.BytecodeGenerator;
+import scotch.runtime.ThunkProfiler;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.SymbolResolver;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+
+public class MultiModuleCompiler {
+
+    public static MultiModuleCompiler multiModuleCompiler(SymbolResolver resolver, List<Path> sourceRoots) {
+        return multiModuleCompiler(resolver, sourceRoots, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static MultiModuleCompiler multiModuleCompiler(SymbolResolver resolver, List<Path> sourceRoots, int parallelism) {
+        return multiModuleCompiler(resolver, sourceRoots, parallelism, Optional.empty());
+    }
+
+    public static MultiModuleCompiler multiModuleCompiler(SymbolResolver resolver, List<Path> sourceRoots, int parallelism, Optional<Path> outputPath) {
+        return multiModuleCompiler(resolver, sourceRoots, parallelism, outputPath, Boolean.getBoolean(ThunkProfiler.PROPERTY));
+    }
+
+    public static MultiModuleCompiler multiModuleCompiler(SymbolResolver resolver, List<Path> sourceRoots, int parallelism, Optional<Path> outputPath, boolean profiling) {
+        return new MultiModuleCompiler(sharedResolver(resolver), sourceRoots, parallelism, outputPath, profiling);
+    }
+
+    public static SyntaxError cyclicImports(List<Path> sources) {
+        return new CyclicImportError(sources.stream().map(Path::toString).collect(toList()));
+    }
+
+    private final SharedSymbolResolver resolver;
+    private final List<Path>           sourceRoots;
+    private final int                  parallelism;
+    private final Optional<Path>       outputPath;
+    private final boolean              profiling;
+    private final Set<Path>            compiledSources;
+
+    private MultiModuleCompiler(SharedSymbolResolver resolver, List<Path> sourceRoots, int parallelism, Optional<Path> outputPath, boolean profiling) {
+        this.resolver = resolver;
+        this.sourceRoots = ImmutableList.copyOf(sourceRoots);
+        this.parallelism = parallelism;
+        this.outputPath = outputPath;
+        this.profiling = profiling;
+        this.compiledSources = ConcurrentHashMap.newKeySet();
+    }
+
+    public List<GeneratedClass> generateBytecode() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<CompilationUnit> units = join(findSources().entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> load(entry.getKey(), entry.getValue()), pool))
+                .collect(toList()));
+            Map<String, CompilationUnit> providers = new HashMap<>();
+            units.forEach(unit -> unit.modules.forEach(module -> providers.put(module, unit)));
+            ConcurrentMap<String, String> interfaceHashes = new ConcurrentHashMap<>();
+            Map<CompilationUnit, CompletableFuture<List<GeneratedClass>>> futures = new LinkedHashMap<>();
+            sortUnits(units, providers).forEach(unit -> futures.put(unit, CompletableFuture
+                .allOf(unit.getDependencies(providers).stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new))
+                .thenApplyAsync(ignored -> compile(unit, interfaceHashes, pool), pool)));
+            return join(new ArrayList<>(futures.values())).stream()
+                .flatMap(List::stream)
+                .collect(toList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public Set<Path> getCompiledSources() {
+        return ImmutableSet.copyOf(compiledSources);
+    }
+
+    private List<GeneratedClass> compile(CompilationUnit unit, ConcurrentMap<String, String> interfaceHashes, Executor pool) {
+        Map<String, String> importHashes = new HashMap<>();
+        unit.imports.forEach(module -> importHashes.put(module, interfaceHashes.getOrDefault(module, "")));
+        if (unit.isUpToDate(importHashes)) {
+            Optional<List<GeneratedClass>> classes = unit.cachedInterface.flatMap(moduleInterface -> moduleInterface.readClasses(outputPath.get()));
+            if (classes.isPresent()) {
+                resolver.publish(unit.cachedInterface.get().getEntries(), unit.cachedInterface.get().getInstances());
+                unit.modules.forEach(module -> interfaceHashes.put(module, unit.cachedInterface.get().getInterfaceHash()));
+                return classes.get();
+            }
+        }
+        compiledSources.add(unit.source);
+        DefinitionGraph graph = Compiler.compiler(unit.getGraph()).checkTypes(pool);
+        if (graph.hasErrors()) {
+            throw new CompileException(graph.getErrors());
+        }
+        List<SymbolEntry> entries = graph.stream()
+            .filter(entry -> entry.getDefinition() instanceof ImportBlock)
+            .map(entry -> (ImportScope) entry.getScope())
+            .flatMap(scope -> scope.getEntries().stream())
+            .collect(toList());
+        IntermediateGraph intermediateGraph = phase("generateIntermediateCode", () -> new IntermediateGenerator(graph).generateIntermediateCode());
+        List<GeneratedClass> classes = phase("generateBytecode", () -> new BytecodeGenerator(intermediateGraph, profiling).generateBytecode());
+        List<TypeInstanceDescriptor> instances = scanInstances(classes);
+        resolver.publish(entries, instances);
+        outputPath.ifPresent(path -> {
+            ModuleInterface moduleInterface = moduleInterface(unit.sourceHash, unit.modules, importHashes, classes, entries, instances);
+            moduleInterface.write(unit.interfacePath.get());
+            unit.modules.forEach(module -> interfaceHashes.put(module, moduleInterface.getInterfaceHash()));
+        });
+        return classes;
+    }
+
+    private List<TypeInstanceDescriptor> scanInstances(List<GeneratedClass> classes) {
+        ClassLoader classLoader = new GeneratedClassLoader(classes);
+        return classes.stream()
+            .collect(groupingBy(generatedClass -> moduleName(generatedClass.getClassName()), LinkedHashMap::new, toList()))
+            .entrySet().stream()
+            .flatMap(entry -> new ClassFileScanner(
+                entry.getKey(),
+                entry.getValue().stream().map(generatedClass -> new ClassReader(generatedClass.getBytes())).collect(toList()),
+                classLoader
+            ).scanInstances().stream())
+            .collect(toList());
+    }
+
+    private static String moduleName(String className) {
+        return className.substring(0, Math.max(className.lastIndexOf('.'), 0));
+    }
+
+    private Map<Path, Path> findSources() {
+        Map<Path, Path> sources = new LinkedHashMap<>();
+        sourceRoots.forEach(root -> {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths
+                    .filter(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(".scotch"))
+                    .sorted()
+                    .forEach(path -> sources.put(path, root));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        return sources;
+    }
+
+    private <T> List<T> join(List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>();
+        List<SyntaxError> errors = new ArrayList<>();
+        futures.forEach(future -> {
+            try {
+                results.add(future.join());
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof CompileException) {
+                    errors.addAll(((CompileException) exception.getCause()).getErrors());
+                } else {
+                    throw exception;
+                }
+            }
+        });
+        if (errors.isEmpty()) {
+            return results;
+        } else {
+            throw new CompileException(errors);
+        }
+    }
+
+    private CompilationUnit load(Path source, Path root) {
+        String sourceHash;
+        try {
+            sourceHash = hash(Files.readAllBytes(source)) + (profiling ? "+profiling" : "");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        Optional<Path> interfacePath = outputPath.map(path -> path.resolve(root.relativize(source).toString() + "i"));
+        Optional<ModuleInterface> cachedInterface = interfacePath
+            .flatMap(ModuleInterface::readInterface)
+            .filter(moduleInterface -> moduleInterface.getSourceHash().equals(sourceHash));
+        if (cachedInterface.isPresent()) {
+            return new CompilationUnit(source, sourceHash, interfacePath, cachedInterface.get());
+        } else {
+            return new CompilationUnit(source, sourceHash, interfacePath, parse(source));
+        }
+    }
+
+    private DefinitionGraph parse(Path source) {
+        return phase("parseInput", () -> new InputParser(resolver, Scanner.forFile(source)).parse());
+    }
+
+    private List<CompilationUnit> sortUnits(List<CompilationUnit> units, Map<String, CompilationUnit> providers) {
+        Map<CompilationUnit, Integer> remaining = new HashMap<>();
+        Map<CompilationUnit, List<CompilationUnit>> dependents = new HashMap<>();
+        Deque<CompilationUnit> roots = new ArrayDeque<>();
+        units.forEach(unit -> {
+            Set<CompilationUnit> dependencies = unit.getDependencies(providers);
+            dependencies.forEach(dependency -> dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(unit));
+            remaining.put(unit, dependencies.size());
+            if (dependencies.isEmpty()) {
+                roots.add(unit);
+            }
+        });
+        List<CompilationUnit> sorted = new ArrayList<>();
+        while (!roots.isEmpty()) {
+            CompilationUnit unit = roots.poll();
+            sorted.add(unit);
+            dependents.getOrDefault(unit, ImmutableList.of()).forEach(dependent -> {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    roots.add(dependent);
+                }
+            });
+        }
+        if (sorted.size() == units.size()) {
+            return sorted;
+        } else {
+            throw new CompileException(asList(cyclicImports(units.stream()
+                .filter(unit -> !sorted.contains(unit))
+                .map(unit -> unit.source)
+                .collect(toList()))));
+        }
+    }
+
+    private final class CompilationUnit {
+
+        private final Path                      source;
+        private final String                    sourceHash;
+        private final Optional<Path>            interfacePath;
+        private final Optional<ModuleInterface> cachedInterface;
+        private final Set<String>               modules;
+        private final Set<String>               imports;
+        private       DefinitionGraph           graph;
+
+        public CompilationUnit(Path source, String sourceHash, Optional<Path> interfacePath, ModuleInterface cachedInterface) {
+            this.source = source;
+            this.sourceHash = sourceHash;
+            this.interfacePath = interfacePath;
+            this.cachedInterface = Optional.of(cachedInterface);
+            this.modules = cachedInterface.getModules();
+            this.imports = cachedInterface.getImports().keySet();
+        }
+
+        public CompilationUnit(Path source, String sourceHash, Optional<Path> interfacePath, DefinitionGraph graph) {
+            this.source = source;
+            this.sourceHash = sourceHash;
+            this.interfacePath = interfacePath;
+            this.cachedInterface = Optional.empty();
+            this.graph = graph;
+            this.modules = graph.stream()
+                .map(DefinitionEntry::getReference)
+                .filter(reference -> reference instanceof ModuleReference)
+                .map(reference -> ((ModuleReference) reference).getName())
+                .collect(toSet());
+            this.imports = graph.stream()
+                .map(DefinitionEntry::getDefinition)
+                .filter(definition -> definition instanceof ImportBlock)
+                .flatMap(definition -> ((ImportBlock) definition).getImports().stream())
+                .map(Import::getModuleName)
+                .filter(moduleName -> !modules.contains(moduleName))
+                .collect(toSet());
+        }
+
+        public Set<CompilationUnit> getDependencies(Map<String, CompilationUnit> providers) {
+            return ImmutableSet.copyOf(imports.stream()
+                .filter(providers::containsKey)
+                .map(providers::get)
+                .collect(toList()));
+        }
+
+        public DefinitionGraph getGraph() {
+            if (graph == null) {
+                graph = parse(source);
+            }
+            return graph;
+        }
+
+        public boolean isUpToDate(Map<String, String> importHashes) {
+            return cachedInterface
+                .map(moduleInterface -> Objects.equals(moduleInterface.getImports(), importHashes))
+                .orElse(false);
+        }
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        public GeneratedClassLoader(List<GeneratedClass> classes) {
+            super(GeneratedClassLoader.class.getClassLoader());
+            this.classes = new HashMap<>();
+            classes.forEach(generatedClass -> this.classes.put(generatedClass.getClassName(), generatedClass.getBytes()));
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            } else {
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    @AllArgsConstructor(access = PRIVATE)
+    @EqualsAndHashCode(callSuper = false)
+    @ToString
+    public static class CyclicImportError extends SyntaxError {
+
+        private final List<String> sources;
+
+        @Override
+        public String prettyPrint() {
+            return "Cyclic imports detected between sources [" + sources.stream().collect(joining(", ")) + "]";
+        }
+
+        @Override
+        public String report(String indent, int indentLevel) {
+            return repeat(indent, indentLevel) + prettyPrint();
+        }
+    }
+}
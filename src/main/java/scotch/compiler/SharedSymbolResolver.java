@@ -0,0 +1,91 @@
+package scotch.compiler;
+
+import static scotch.compiler.util.Pair.pair;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.google.common.collect.ImmutableSet;
+import scotch.compiler.util.Pair;
+import scotch.symbol.Symbol;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.SymbolResolver;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.descriptor.TypeParameterDescriptor;
+import scotch.symbol.type.SumType;
+import scotch.symbol.type.Type;
+
+public class SharedSymbolResolver implements SymbolResolver {
+
+    public static SharedSymbolResolver sharedResolver(SymbolResolver delegate) {
+        return new SharedSymbolResolver(delegate);
+    }
+
+    private final SymbolResolver                                                       delegate;
+    private final ConcurrentMap<Symbol, Optional<SymbolEntry>>                         delegateEntries;
+    private final ConcurrentMap<Pair<Symbol, List<Type>>, Set<TypeInstanceDescriptor>> delegateInstances;
+    private final ConcurrentMap<String, Set<TypeInstanceDescriptor>>                   delegateModuleInstances;
+    private final ConcurrentMap<Symbol, SymbolEntry>                                   publishedEntries;
+    private final ConcurrentMap<Symbol, Set<TypeInstanceDescriptor>>                   publishedInstances;
+    private final ConcurrentMap<String, Set<TypeInstanceDescriptor>>                   publishedModuleInstances;
+
+    private SharedSymbolResolver(SymbolResolver delegate) {
+        this.delegate = delegate;
+        this.delegateEntries = new ConcurrentHashMap<>();
+        this.delegateInstances = new ConcurrentHashMap<>();
+        this.delegateModuleInstances = new ConcurrentHashMap<>();
+        this.publishedEntries = new ConcurrentHashMap<>();
+        this.publishedInstances = new ConcurrentHashMap<>();
+        this.publishedModuleInstances = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Optional<SymbolEntry> getEntry(Symbol symbol) {
+        SymbolEntry entry = publishedEntries.get(symbol);
+        if (entry == null) {
+            return delegateEntries.computeIfAbsent(symbol, delegate::getEntry);
+        } else {
+            return Optional.of(entry);
+        }
+    }
+
+    @Override
+    public Set<TypeInstanceDescriptor> getTypeInstances(Symbol symbol, List<Type> types) {
+        Set<TypeInstanceDescriptor> instances = new HashSet<>(delegateInstances.computeIfAbsent(pair(symbol, types), key -> ImmutableSet.copyOf(delegate.getTypeInstances(symbol, types))));
+        publishedInstances.getOrDefault(symbol, ImmutableSet.of()).stream()
+            .filter(instance -> parametersMatch(instance.getParameters(), types))
+            .forEach(instances::add);
+        return instances;
+    }
+
+    @Override
+    public Set<TypeInstanceDescriptor> getTypeInstancesByModule(String moduleName) {
+        Set<TypeInstanceDescriptor> instances = new HashSet<>(delegateModuleInstances.computeIfAbsent(moduleName, key -> ImmutableSet.copyOf(delegate.getTypeInstancesByModule(moduleName))));
+        instances.addAll(publishedModuleInstances.getOrDefault(moduleName, ImmutableSet.of()));
+        return instances;
+    }
+
+    public void publish(Collection<SymbolEntry> entries, Collection<TypeInstanceDescriptor> instances) {
+        entries.forEach(entry -> publishedEntries.put(entry.getSymbol(), entry));
+        instances.forEach(instance -> {
+            publishedInstances.computeIfAbsent(instance.getTypeClass(), k -> ConcurrentHashMap.newKeySet()).add(instance);
+            publishedModuleInstances.computeIfAbsent(instance.getModuleName(), k -> ConcurrentHashMap.newKeySet()).add(instance);
+        });
+    }
+
+    private boolean parametersMatch(List<TypeParameterDescriptor> parameters, List<Type> types) {
+        if (parameters.size() == types.size()) {
+            for (int i = 0; i < parameters.size(); i++) {
+                if (!(types.get(i) instanceof SumType) || !parameters.get(i).matches(types.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
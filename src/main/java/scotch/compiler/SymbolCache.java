@@ -0,0 +1,121 @@
+package scotch.compiler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import scotch.compiler.ModuleScanner.ScanResult;
+
+public class SymbolCache {
+
+    private static final LoadingCache<ClassLoader, String> keys = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(SymbolCache::computeKey));
+
+    public static SymbolCache symbolCache(Path directory, ClassLoader classLoader) {
+        return new SymbolCache(directory.resolve("symbols-" + keys.getUnchecked(classLoader) + ".idx"));
+    }
+
+    private static String computeKey(ClassLoader classLoader) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        for (Path entry : getClassPath(classLoader)) {
+            hasher.putString(entry.toString(), UTF_8);
+            if (Files.isDirectory(entry)) {
+                try (Stream<Path> paths = Files.walk(entry)) {
+                    paths.filter(Files::isRegularFile).sorted().forEach(path -> hashFile(hasher, path));
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            } else if (Files.isRegularFile(entry)) {
+                hashFile(hasher, entry);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static List<Path> getClassPath(ClassLoader classLoader) {
+        List<Path> classPath = new ArrayList<>();
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) loader).getURLs()) {
+                    toPath(url).ifPresent(classPath::add);
+                }
+            }
+        }
+        if (classPath.isEmpty()) {
+            for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                classPath.add(Paths.get(entry).toAbsolutePath());
+            }
+        }
+        return classPath;
+    }
+
+    private static void hashFile(Hasher hasher, Path path) {
+        try {
+            hasher.putString(path.toString(), UTF_8);
+            hasher.putLong(Files.size(path));
+            hasher.putLong(Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static Optional<Path> toPath(URL url) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return Optional.of(Paths.get(url.toURI()));
+            } catch (URISyntaxException exception) {
+                return Optional.empty();
+            }
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private final Path path;
+
+    private SymbolCache(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public Optional<ModuleIndex> read() {
+        if (Files.isRegularFile(path)) {
+            return Optional.of(ModuleIndex.readIndex(path));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    public void write(Map<String, ScanResult> modules) {
+        try {
+            Path temp = Files.createTempFile(Files.createDirectories(path.getParent()), "symbols-", ".tmp");
+            ModuleIndex.writeIndex(temp, modules);
+            Files.move(temp, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
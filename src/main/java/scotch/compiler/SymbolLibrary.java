@@ -0,0 +1,193 @@
+package scotch.compiler;
+
+import static java.util.regex.Pattern.compile;
+import static java.util.stream.Collectors.toList;
+import static scotch.symbol.Symbol.getPackagePath;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.io.ByteStreams;
+import org.objectweb.asm.ClassReader;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.symbol.exception.SymbolResolutionError;
+
+public class SymbolLibrary {
+
+    private static final LoadingCache<ClassLoader, SymbolLibrary> libraries = CacheBuilder.newBuilder()
+        .weakKeys()
+        .softValues()
+        .build(CacheLoader.from(SymbolLibrary::new));
+
+    public static SymbolLibrary library(ClassLoader classLoader) {
+        return libraries.getUnchecked(classLoader);
+    }
+
+    public static SymbolLibrary privateLibrary(ClassLoader classLoader) {
+        return new SymbolLibrary(classLoader);
+    }
+
+    static Predicate<String> classEntries(String packagePath) {
+        Pattern pattern = compile("(" + packagePath + "/[^\\./]+)\\.class");
+        return name -> pattern.matcher(name).find();
+    }
+
+    private final    ClassLoader                       classLoader;
+    private final    ConcurrentMap<String, ScanResult> modules;
+    private final    Supplier<ModuleIndex>             moduleIndex;
+    private final    Set<String>                       libraryModules;
+    private final    AtomicBoolean                     dirty;
+    private volatile Optional<SymbolCache>             symbolCache;
+    private volatile Optional<ModuleIndex>             cachedIndex;
+
+    private SymbolLibrary(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.modules = new ConcurrentHashMap<>();
+        this.moduleIndex = Suppliers.memoize(() -> ModuleIndex.readIndexes(classLoader));
+        this.libraryModules = ConcurrentHashMap.newKeySet();
+        this.dirty = new AtomicBoolean();
+        this.symbolCache = Optional.empty();
+        this.cachedIndex = Optional.empty();
+    }
+
+    public ScanResult getModule(String moduleName) {
+        return modules.computeIfAbsent(moduleName, this::scan);
+    }
+
+    public void persist() {
+        symbolCache.ifPresent(cache -> {
+            if (dirty.getAndSet(false)) {
+                Map<String, ScanResult> scans = new TreeMap<>();
+                libraryModules.forEach(moduleName -> Optional.ofNullable(modules.get(moduleName)).ifPresent(scan -> scans.put(moduleName, scan)));
+                cachedIndex.ifPresent(index -> index.getModules().stream()
+                    .filter(moduleName -> !scans.containsKey(moduleName))
+                    .forEach(moduleName -> index.scan(moduleName).ifPresent(scan -> scans.put(moduleName, scan))));
+                cache.write(scans);
+            }
+        });
+    }
+
+    public void useCache(SymbolCache cache) {
+        cachedIndex = cache.read();
+        symbolCache = Optional.of(cache);
+    }
+
+    private File[] classFiles(File directory) {
+        File[] files = directory.listFiles(pathName -> pathName.isFile() && pathName.getName().endsWith(".class"));
+        return files == null ? new File[0] : files;
+    }
+
+    private List<ClassReader> readClasses(URL resource, String packagePath) {
+        List<ClassReader> readers = new ArrayList<>();
+        Predicate<String> classEntry = classEntries(packagePath);
+        try (ZipInputStream zipStream = new ZipInputStream(resource.openStream())) {
+            ZipEntry entry;
+            while (null != (entry = zipStream.getNextEntry())) {
+                try {
+                    if (!entry.isDirectory() && classEntry.test(entry.getName())) {
+                        readers.add(new ClassReader(ByteStreams.toByteArray(zipStream)));
+                    }
+                } finally {
+                    zipStream.closeEntry();
+                }
+            }
+        } catch (IOException exception) {
+            throw new SymbolResolutionError(exception);
+        }
+        return readers;
+    }
+
+    private List<ClassReader> readClasses(File directory) {
+        List<ClassReader> readers = new ArrayList<>();
+        if (directory.exists()) {
+            for (File file : classFiles(directory)) {
+                try {
+                    readers.add(new ClassReader(Files.readAllBytes(file.toPath())));
+                } catch (IOException exception) {
+                    throw new SymbolResolutionError(exception);
+                }
+            }
+        }
+        return readers;
+    }
+
+    private ScanResult scan(String moduleName) {
+        Optional<ScanResult> cached = cachedIndex.flatMap(index -> index.scan(moduleName));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Optional<ScanResult> indexed = moduleIndex.get().scan(moduleName);
+        if (indexed.isPresent()) {
+            found(moduleName);
+            return indexed.get();
+        }
+        List<ClassReader> readers = searchResources(moduleName);
+        if (!readers.isEmpty()) {
+            found(moduleName);
+        }
+        return new ClassFileScanner(moduleName, readers, classLoader).scan();
+    }
+
+    private void found(String moduleName) {
+        libraryModules.add(moduleName);
+        dirty.set(true);
+    }
+
+    private List<ClassReader> searchResources(String moduleName) {
+        List<URL> resources = new ArrayList<>();
+        try {
+            Enumeration<URL> enumeration = classLoader.getResources(getPackagePath(moduleName));
+            while (enumeration.hasMoreElements()) {
+                resources.add(enumeration.nextElement());
+            }
+        } catch (IOException exception) {
+            throw new SymbolResolutionError(exception);
+        }
+        List<ClassReader> readers = new ArrayList<>();
+        Set<String> classNames = new HashSet<>();
+        resources.parallelStream()
+            .map(resource -> searchResource(resource, moduleName))
+            .collect(toList())
+            .forEach(found -> found.forEach(reader -> {
+                if (classNames.add(reader.getClassName())) {
+                    readers.add(reader);
+                }
+            }));
+        return readers;
+    }
+
+    private List<ClassReader> searchResource(URL resource, String moduleName) {
+        if (resource.getFile().contains("!")) {
+            String path = new File(resource.getFile()).getPath();
+            try {
+                return readClasses(new URL(path.substring(0, path.indexOf('!'))), getPackagePath(moduleName));
+            } catch (MalformedURLException exception) {
+                throw new SymbolResolutionError(exception);
+            }
+        } else {
+            return readClasses(new File(resource.getFile()));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,7 +39,7 @@ public class DependencyAccumulator {
         this.graph = graph;
         this.scopes = new ArrayDeque<>();
         this.functionScopes = new HashMap<>();
-        this.entries = new HashMap<>();
+        this.entries = new LinkedHashMap<>();
         this.errors = new ArrayList<>();
         this.symbols = new ArrayDeque<>();
     }
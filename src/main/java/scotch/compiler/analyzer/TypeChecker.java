@@ -17,10 +17,14 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -41,6 +45,7 @@ import scotch.symbol.type.Types;
 import scotch.symbol.type.Unification;
 import scotch.symbol.type.VariableType;
 import scotch.compiler.syntax.Scoped;
+import scotch.compiler.syntax.definition.BindingGroup;
 import scotch.compiler.syntax.definition.Definition;
 import scotch.compiler.syntax.definition.DefinitionEntry;
 import scotch.compiler.syntax.definition.DefinitionGraph;
@@ -75,6 +80,8 @@ public class TypeChecker implements TypeScope {
     private final Deque<Object>                             nestings;
     private final Deque<Map<Type, Argument>>                arguments;
     private final List<SyntaxError>                         errors;
+    private final List<ValueDefinition>                     deferredValues;
+    private       boolean                                   deferGeneration;
 
     public TypeChecker(DefinitionGraph graph) {
         this.graph = graph;
@@ -84,6 +91,7 @@ public class TypeChecker implements TypeScope {
         this.nestings = new ArrayDeque<>();
         this.arguments = new ArrayDeque<>(asList(ImmutableMap.of()));
         this.errors = new ArrayList<>();
+        this.deferredValues = new ArrayList<>();
     }
 
     public void addLocal(Symbol symbol) {
@@ -104,8 +112,64 @@ public class TypeChecker implements TypeScope {
         closure().capture(symbol.getCanonicalName());
     }
 
+    public void checkGroup(BindingGroup group) {
+        if (group.isCyclic()) {
+            deferGeneration = true;
+            try {
+                map(group.getReferences(), Definition::checkTypes);
+            } finally {
+                deferGeneration = false;
+            }
+            List<ValueDefinition> definitions = new ArrayList<>(deferredValues);
+            deferredValues.clear();
+            definitions.forEach(definition -> enclose(definition, () -> generate(definition)));
+        } else {
+            map(group.getReferences(), Definition::checkTypes);
+        }
+    }
+
     public DefinitionGraph checkTypes() {
-        map(graph.getSortedReferences(), Definition::checkTypes);
+        map(graph.getSortedReferences().stream()
+            .filter(reference -> !(reference instanceof ValueReference))
+            .collect(toList()), Definition::checkTypes);
+        graph.getBindingGroups().forEach(this::checkGroup);
+        return graph
+            .copyWith(entries.values())
+            .appendErrors(errors)
+            .build();
+    }
+
+    public DefinitionGraph checkTypes(Executor executor) {
+        map(graph.getSortedReferences().stream()
+            .filter(reference -> !(reference instanceof ValueReference))
+            .collect(toList()), Definition::checkTypes);
+        Map<BindingGroup, CompletableFuture<TypeChecker>> futures = new LinkedHashMap<>();
+        graph.getBindingGroups().forEach(group -> {
+            int index = futures.size();
+            futures.put(group, CompletableFuture
+                .allOf(group.getDependencies().stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new))
+                .thenApplyAsync(ignored -> graph.numberGroup(index, () -> {
+                    TypeChecker checker = new TypeChecker(graph);
+                    checker.checkGroup(group);
+                    return checker;
+                }), executor));
+        });
+        futures.values().forEach(future -> {
+            TypeChecker checker;
+            try {
+                checker = future.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                } else {
+                    throw exception;
+                }
+            }
+            entries.putAll(checker.entries);
+            errors.addAll(checker.errors);
+        });
         return graph
             .copyWith(entries.values())
             .appendErrors(errors)
@@ -187,6 +251,17 @@ public class TypeChecker implements TypeScope {
         return scope().generate(type);
     }
 
+    public Definition generate(ValueDefinition definition) {
+        if (deferGeneration) {
+            deferredValues.add(definition);
+            return definition;
+        } else {
+            ValueDefinition result = definition.withBody(definition.getBody().withType(generate(definition.getType())));
+            redefine(result);
+            return bind(result);
+        }
+    }
+
     @Override
     public Set<Symbol> getContext(Type type) {
         return scope().getContext(type);
@@ -3,8 +3,10 @@ package scotch.compiler.error;
 import static java.lang.System.err;
 import static java.util.stream.Collectors.joining;
 
+import java.io.PrintStream;
 import java.util.LinkedHashSet;
 import java.util.List;
+import com.google.common.collect.ImmutableList;
 
 public class CompileException extends RuntimeException {
 
@@ -14,6 +16,10 @@ public class CompileException extends RuntimeException {
         this.errors = new LinkedHashSet<>(errors);
     }
 
+    public List<SyntaxError> getErrors() {
+        return ImmutableList.copyOf(errors);
+    }
+
     @Override
     public String getMessage() {
         return "Failed compilation:\n\n" + errors.stream()
@@ -22,7 +28,11 @@ public class CompileException extends RuntimeException {
     }
 
     public void printErrors() {
-        err.println("Failed compilation:\n\n" + errors.stream()
+        printErrors(err);
+    }
+
+    public void printErrors(PrintStream stream) {
+        stream.println("Failed compilation:\n\n" + errors.stream()
             .map(error -> error.report("\t", 1))
             .collect(joining("\n\n")));
     }
@@ -11,20 +11,21 @@ import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.target.BytecodeGenerator;
-import scotch.runtime.AccessorSupport;
+import scotch.compiler.text.SourceLocation;
 import scotch.runtime.Callable;
-import scotch.runtime.SuppliedThunk;
 
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, exclude = "sourceLocation")
 @ToString
 public class IntermediateAccessor extends IntermediateValue {
 
-    private final List<String> captures;
+    private final SourceLocation    sourceLocation;
+    private final List<String>      captures;
     private final IntermediateValue target;
-    private final String fieldName;
-    private final String methodName;
+    private final String            fieldName;
+    private final String            methodName;
 
-    IntermediateAccessor(List<String> captures, IntermediateValue target, String fieldName, String methodName) {
+    IntermediateAccessor(SourceLocation sourceLocation, List<String> captures, IntermediateValue target, String fieldName, String methodName) {
+        this.sourceLocation = sourceLocation;
         this.captures = ImmutableList.copyOf(captures);
         this.target = target;
         this.fieldName = fieldName;
@@ -36,8 +37,7 @@ public class IntermediateAccessor extends IntermediateValue {
         List<Integer> argumentOffsets = generator.getArgumentOffsets();
         Class<?>[] argumentTypes = getArgumentTypes(argumentOffsets);
         return new CodeBlock() {{
-            newobj(p(SuppliedThunk.class));
-            dup();
+            generator.allocateThunk(this);
             argumentOffsets.forEach(this::aload);
             lambda(generator.currentClass(), new LambdaBlock(generator.reserveAccess()) {{
                 function(p(Supplier.class), "get", sig(Object.class));
@@ -46,14 +46,14 @@ public class IntermediateAccessor extends IntermediateValue {
                 delegateTo(ACC_STATIC, sig(Callable.class, argumentTypes), new CodeBlock() {{
                     List<String> arguments = generator.getArguments();
                     generator.beginMethod(arguments);
+                    generator.markLine(this, sourceLocation);
                     append(target.generateBytecode(generator));
-                    ldc(methodName);
-                    invokestatic(p(AccessorSupport.class), "access", sig(Callable.class, Callable.class, String.class));
+                    generator.accessField(this, methodName, sourceLocation);
                     areturn();
                     generator.endMethod();
                 }});
             }});
-            invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+            generator.constructThunk(this, "access", sourceLocation);
         }};
     }
 
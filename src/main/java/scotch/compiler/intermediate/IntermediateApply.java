@@ -11,19 +11,21 @@ import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.target.BytecodeGenerator;
+import scotch.compiler.text.SourceLocation;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
-import scotch.runtime.SuppliedThunk;
 
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, exclude = "sourceLocation")
 @ToString
 public class IntermediateApply extends IntermediateValue {
 
+    private final SourceLocation    sourceLocation;
     private final List<String>      captures;
     private final IntermediateValue function;
     private final IntermediateValue argument;
 
-    public IntermediateApply(List<String> captures, IntermediateValue function, IntermediateValue argument) {
+    public IntermediateApply(SourceLocation sourceLocation, List<String> captures, IntermediateValue function, IntermediateValue argument) {
+        this.sourceLocation = sourceLocation;
         this.captures = ImmutableList.copyOf(captures);
         this.function = function;
         this.argument = argument;
@@ -32,8 +34,7 @@ public class IntermediateApply extends IntermediateValue {
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator generator) {
         return new CodeBlock() {{
-            newobj(p(SuppliedThunk.class));
-            dup();
+            generator.allocateThunk(this);
             captures.forEach(capture -> aload(generator.offsetOf(capture)));
             lambda(generator.currentClass(), new LambdaBlock(generator.reserveApply()) {{
                 function(p(Supplier.class), "get", sig(Object.class));
@@ -41,6 +42,7 @@ public class IntermediateApply extends IntermediateValue {
                 capture(getCaptureTypes());
                 delegateTo(ACC_STATIC, sig(Callable.class, getCaptureTypes()), new CodeBlock() {{
                     generator.beginMethod(captures);
+                    generator.markLine(this, sourceLocation);
                     append(function.generateBytecode(generator));
                     invokeinterface(p(Callable.class), "call", sig(Object.class));
                     checkcast(p(Applicable.class));
@@ -50,7 +52,7 @@ public class IntermediateApply extends IntermediateValue {
                     generator.endMethod();
                 }});
             }});
-            invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+            generator.constructThunk(this, "apply", sourceLocation);
         }};
     }
 
@@ -29,6 +29,7 @@ import scotch.compiler.target.BytecodeGenerator;
 import scotch.runtime.Callable;
 import scotch.runtime.Copyable;
 import scotch.runtime.RuntimeSupport;
+import scotch.symbol.DataField;
 import scotch.symbol.FieldSignature;
 import scotch.symbol.Symbol;
 
@@ -174,8 +175,10 @@ public class IntermediateConstructorDefinition {
         Class<?>[] parameters = getParameters();
         AtomicInteger counter = new AtomicInteger(0);
         fields.forEach(field -> {
-            Class<?> type = parameters[counter.getAndIncrement()];
+            int ordinal = counter.getAndIncrement();
+            Class<?> type = parameters[ordinal];
             generator.method("get" + capitalize(field.getJavaName()), ACC_PUBLIC, sig(type), new CodeBlock() {{
+                annotate(DataField.class).value("memberName", field.getName()).value("ordinal", ordinal);
                 aload(0);
                 getfield(generator.currentClass().getClassName(), field.getJavaName(), ci(type));
                 areturn();
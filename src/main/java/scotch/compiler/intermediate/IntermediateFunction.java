@@ -10,18 +10,21 @@ import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.target.BytecodeGenerator;
+import scotch.compiler.text.SourceLocation;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
 
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, exclude = "sourceLocation")
 @ToString
 public class IntermediateFunction extends IntermediateValue {
 
+    private final SourceLocation    sourceLocation;
     private final List<String>      captures;
     private final String            argument;
     private final IntermediateValue body;
 
-    public IntermediateFunction(List<String> captures, String argument, IntermediateValue body) {
+    public IntermediateFunction(SourceLocation sourceLocation, List<String> captures, String argument, IntermediateValue body) {
+        this.sourceLocation = sourceLocation;
         this.captures = ImmutableList.copyOf(captures);
         this.argument = argument;
         this.body = body;
@@ -36,6 +39,7 @@ public class IntermediateFunction extends IntermediateValue {
                 capture(getCaptureTypes());
                 delegateTo(ACC_STATIC, sig(Callable.class, getLambdaArgumentTypes()), new CodeBlock() {{
                     generator.beginMethod(captures, argument);
+                    generator.markLine(this, sourceLocation);
                     append(body.generateBytecode(generator));
                     areturn();
                     generator.endMethod();
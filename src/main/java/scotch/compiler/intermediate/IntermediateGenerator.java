@@ -26,6 +26,7 @@ import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.syntax.reference.ValueReference;
 import scotch.compiler.syntax.scope.Scope;
+import scotch.compiler.text.SourceLocation;
 import scotch.symbol.FieldSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
@@ -86,8 +87,8 @@ public class IntermediateGenerator {
         return rootRef();
     }
 
-    public DefinitionReference defineValue(Symbol symbol, Type type, IntermediateValue body) {
-        definitions.add(value(symbol, type, body));
+    public DefinitionReference defineValue(SourceLocation sourceLocation, Symbol symbol, Type type, IntermediateValue body) {
+        definitions.add(value(sourceLocation, symbol, type, body));
         return valueRef(symbol);
     }
 
@@ -2,11 +2,16 @@ package scotch.compiler.intermediate;
 
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.Handle;
 import scotch.compiler.target.BytecodeGenerator;
 import scotch.runtime.Callable;
 import scotch.runtime.RuntimeSupport;
@@ -16,22 +21,28 @@ import scotch.runtime.RuntimeSupport;
 @ToString
 public class IntermediateLiteral extends IntermediateValue {
 
+    private static final Handle LITERAL_BOOTSTRAP = new Handle(
+        H_INVOKESTATIC,
+        p(RuntimeSupport.class),
+        "literal",
+        sig(CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class, Object.class)
+    );
+
     private final Object value;
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator generator) {
         return new CodeBlock() {{
-            ldc(value);
             if (value instanceof Integer) {
-                invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, int.class));
+                invokedynamic("int", sig(Callable.class), LITERAL_BOOTSTRAP, value);
             } else if (value instanceof Character) {
-                invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, char.class));
+                invokedynamic("char", sig(Callable.class), LITERAL_BOOTSTRAP, (int) (Character) value);
             } else if (value instanceof String) {
-                invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, Object.class));
+                invokedynamic("string", sig(Callable.class), LITERAL_BOOTSTRAP, value);
             } else if (value instanceof Boolean) {
-                invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, boolean.class));
+                invokedynamic("bool", sig(Callable.class), LITERAL_BOOTSTRAP, (Boolean) value ? 1 : 0);
             } else if (value instanceof Double) {
-                invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, double.class));
+                invokedynamic("double", sig(Callable.class), LITERAL_BOOTSTRAP, value);
             } else {
                 throw new UnsupportedOperationException(); // TODO
             }
@@ -3,37 +3,46 @@ package scotch.compiler.intermediate;
 import static java.util.Collections.emptyList;
 import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.target.BytecodeGenerator;
+import scotch.compiler.text.SourceLocation;
 import scotch.symbol.Symbol;
 import scotch.symbol.Value;
 import scotch.symbol.type.Type;
 
 @Getter
-@AllArgsConstructor
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, exclude = "sourceLocation")
 @ToString
 public class IntermediateValueDefinition extends IntermediateDefinition {
 
+    private final SourceLocation    sourceLocation;
     private final Symbol            symbol;
     private final Type              type;
     private final IntermediateValue value;
 
+    IntermediateValueDefinition(SourceLocation sourceLocation, Symbol symbol, Type type, IntermediateValue value) {
+        this.sourceLocation = sourceLocation;
+        this.symbol = symbol;
+        this.type = type;
+        this.value = value;
+    }
+
     @Override
     public void generateBytecode(BytecodeGenerator generator) {
+        generator.beginDefinition(symbol);
         generator.createValue(symbol, new CodeBlock() {{
             annotate(Value.class).value("memberName", symbol.getSimpleName());
             generator.beginMethod(emptyList());
-            //markLine(this); TODO
+            generator.markLine(this, sourceLocation);
             append(value.generateBytecode(generator));
             areturn();
             generator.endMethod();
         }});
+        generator.endDefinition();
     }
 
     @Override
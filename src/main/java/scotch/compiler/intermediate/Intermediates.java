@@ -3,6 +3,7 @@ package scotch.compiler.intermediate;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static scotch.compiler.syntax.reference.DefinitionReference.classRef;
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
 import static scotch.compiler.syntax.reference.DefinitionReference.moduleRef;
 import static scotch.symbol.Symbol.symbol;
 import static scotch.symbol.descriptor.TypeParameterDescriptor.typeParam;
@@ -12,6 +13,7 @@ import java.util.List;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.syntax.reference.ValueReference;
+import scotch.compiler.text.SourceLocation;
 import scotch.symbol.FieldSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
@@ -20,11 +22,19 @@ import scotch.symbol.type.Type;
 public final class Intermediates {
 
     public static IntermediateAccessor access(List<String> captures, IntermediateValue target, String fieldName, String methodName) {
-        return new IntermediateAccessor(captures, target, fieldName, methodName);
+        return access(NULL_SOURCE, captures, target, fieldName, methodName);
+    }
+
+    public static IntermediateAccessor access(SourceLocation sourceLocation, List<String> captures, IntermediateValue target, String fieldName, String methodName) {
+        return new IntermediateAccessor(sourceLocation, captures, target, fieldName, methodName);
     }
 
     public static IntermediateApply apply(List<String> captures, IntermediateValue function, IntermediateValue argument) {
-        return new IntermediateApply(captures, function, argument);
+        return apply(NULL_SOURCE, captures, function, argument);
+    }
+
+    public static IntermediateApply apply(SourceLocation sourceLocation, List<String> captures, IntermediateValue function, IntermediateValue argument) {
+        return new IntermediateApply(sourceLocation, captures, function, argument);
     }
 
     public static IntermediateAssign assign(String variable, IntermediateValue value, IntermediateValue body) {
@@ -80,7 +90,11 @@ public final class Intermediates {
     }
 
     public static IntermediateFunction function(List<String> captures, String argument, IntermediateValue body) {
-        return new IntermediateFunction(captures, argument, body);
+        return function(NULL_SOURCE, captures, argument, body);
+    }
+
+    public static IntermediateFunction function(SourceLocation sourceLocation, List<String> captures, String argument, IntermediateValue body) {
+        return new IntermediateFunction(sourceLocation, captures, argument, body);
     }
 
     public static IntermediateValue instanceOf(IntermediateValue intermediateValue, String className) {
@@ -127,7 +141,11 @@ public final class Intermediates {
     }
 
     public static IntermediateDefinition value(Symbol symbol, Type type, IntermediateValue value) {
-        return new IntermediateValueDefinition(symbol, type, value);
+        return value(NULL_SOURCE, symbol, type, value);
+    }
+
+    public static IntermediateDefinition value(SourceLocation sourceLocation, Symbol symbol, Type type, IntermediateValue value) {
+        return new IntermediateValueDefinition(sourceLocation, symbol, type, value);
     }
 
     public static IntermediateReference valueRef(String name, MethodSignature methodSignature) {
@@ -122,7 +122,6 @@ import scotch.symbol.Value.Fixity;
 import scotch.symbol.type.SumType;
 import scotch.symbol.type.Type;
 import scotch.symbol.util.DefaultSymbolGenerator;
-import scotch.symbol.util.SymbolGenerator;
 import scotch.util.StringUtil;
 
 public class InputParser {
@@ -131,7 +130,7 @@ public class InputParser {
     private final LookAheadScanner        scanner;
     private final List<DefinitionEntry>   definitions;
     private final Deque<NamedSourcePoint> positions;
-    private final SymbolGenerator         symbolGenerator;
+    private final DefaultSymbolGenerator  symbolGenerator;
     private final Deque<Scope>            scopes;
     private final Deque<List<String>>     memberNames;
     private       String                  currentModule;
@@ -0,0 +1,63 @@
+package scotch.compiler.syntax.definition;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.List;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.compiler.syntax.value.Identifier;
+import scotch.symbol.Symbol;
+
+public final class BindingGroup {
+
+    private final List<DefinitionNode> nodes;
+    private final List<BindingGroup>   dependencies;
+    private final boolean              cyclic;
+
+    BindingGroup(List<DefinitionNode> nodes, List<BindingGroup> dependencies, boolean cyclic) {
+        this.nodes = ImmutableList.copyOf(nodes);
+        this.dependencies = ImmutableList.copyOf(dependencies);
+        this.cyclic = cyclic;
+    }
+
+    public DependencyCycle getCycle() {
+        Set<Symbol> symbols = nodes.stream()
+            .map(DefinitionNode::getSymbol)
+            .collect(toSet());
+        DependencyCycle.Builder builder = DependencyCycle.builder();
+        nodes.forEach(node -> builder.addNode(
+            node.getSymbol(),
+            node.getSourceLocation(),
+            node.getDependencies().stream().filter(symbols::contains).collect(toSet())
+        ));
+        return builder.build();
+    }
+
+    public List<BindingGroup> getDependencies() {
+        return dependencies;
+    }
+
+    public List<DefinitionEntry> getEntries() {
+        return nodes.stream()
+            .map(DefinitionNode::getEntry)
+            .collect(toList());
+    }
+
+    public List<DefinitionReference> getReferences() {
+        return nodes.stream()
+            .map(node -> node.getEntry().getReference())
+            .collect(toList());
+    }
+
+    public boolean isCyclic() {
+        return cyclic;
+    }
+
+    public boolean isUnguarded() {
+        return cyclic && nodes.stream()
+            .map(node -> node.getEntry().getDefinition())
+            .allMatch(definition -> definition instanceof ValueDefinition && ((ValueDefinition) definition).getBody() instanceof Identifier);
+    }
+}
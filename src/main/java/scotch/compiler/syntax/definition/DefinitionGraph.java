@@ -1,16 +1,24 @@
 package scotch.compiler.syntax.definition;
 
+import static java.util.Comparator.comparingInt;
 import static java.util.Spliterators.spliterator;
 import static java.util.stream.Collectors.toList;
 import static lombok.AccessLevel.PRIVATE;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import com.google.common.collect.ImmutableList;
@@ -18,8 +26,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import scotch.compiler.error.SyntaxError;
+import scotch.symbol.Symbol;
 import scotch.symbol.util.DefaultSymbolGenerator;
-import scotch.symbol.util.SymbolGenerator;
 import scotch.symbol.type.Type;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.ValueReference;
@@ -35,17 +43,11 @@ public class DefinitionGraph {
         return new CyclicDependencyError(cycle);
     }
 
-    private static DependencyCycle fromNodes(Collection<DefinitionNode> nodes) {
-        DependencyCycle.Builder builder = DependencyCycle.builder();
-        nodes.forEach(builder::addNode);
-        return builder.build();
-    }
-
     public final  Map<DefinitionReference, DefinitionEntry> definitions;
-    private final SymbolGenerator                           symbolGenerator;
+    private final DefaultSymbolGenerator                    symbolGenerator;
     private final List<SyntaxError>                         errors;
 
-    private DefinitionGraph(Collection<DefinitionEntry> entries, SymbolGenerator symbolGenerator, List<SyntaxError> errors) {
+    private DefinitionGraph(Collection<DefinitionEntry> entries, DefaultSymbolGenerator symbolGenerator, List<SyntaxError> errors) {
         this.symbolGenerator = symbolGenerator;
         this.errors = ImmutableList.copyOf(errors);
         this.definitions = new LinkedHashMap<>();
@@ -70,6 +72,13 @@ public class DefinitionGraph {
         return errors;
     }
 
+    public List<BindingGroup> getBindingGroups() {
+        return groupValues(stream()
+            .filter(entry -> entry.getReference() instanceof ValueReference)
+            .map(DefinitionNode::new)
+            .collect(toList()));
+    }
+
     public Scope getScope(DefinitionReference reference) {
         return tryGetScope(reference).orElseThrow(() -> new IllegalArgumentException("No scope found for reference: " + reference));
     }
@@ -104,6 +113,10 @@ public class DefinitionGraph {
         return !errors.isEmpty();
     }
 
+    public <T> T numberGroup(int group, Supplier<T> supplier) {
+        return symbolGenerator.numberGroup(group, supplier);
+    }
+
     public DefinitionGraph sort() {
         List<SyntaxError> errors = new ArrayList<>();
         return copyWith(sort_(errors))
@@ -119,50 +132,135 @@ public class DefinitionGraph {
         return Optional.ofNullable(definitions.get(reference)).map(DefinitionEntry::getScope);
     }
 
-    private List<DefinitionEntry> sortValues(List<SyntaxError> errors, List<DefinitionNode> input) {
-        List<DefinitionNode> roots = new ArrayList<>();
-        List<DefinitionNode> nodes = new ArrayList<>();
-        List<DefinitionEntry> output = new ArrayList<>();
-        input.forEach(node -> {
-            if (node.hasDependencies()) {
-                nodes.add(node);
-            } else {
-                roots.add(node);
+    private int[] findComponents(int[][] edges) {
+        int size = edges.length;
+        int[] components = new int[size];
+        int[] indexes = new int[size];
+        int[] lowLinks = new int[size];
+        int[] edgePositions = new int[size];
+        boolean[] onStack = new boolean[size];
+        Deque<Integer> stack = new ArrayDeque<>();
+        Deque<Integer> path = new ArrayDeque<>();
+        int nextIndex = 1;
+        int nextComponent = 0;
+        for (int start = 0; start < size; start++) {
+            if (indexes[start] != 0) {
+                continue;
             }
-        });
-        while (!roots.isEmpty()) {
-            DefinitionNode root = roots.remove(0);
-            output.add(root.getEntry());
-            Iterator<DefinitionNode> iterator = nodes.iterator();
-            while (iterator.hasNext()) {
-                DefinitionNode node = iterator.next();
-                if (node.isDependentOn(root)) {
-                    node.removeDependency(root);
-                    if (!node.hasDependencies()) {
-                        roots.add(node);
-                        iterator.remove();
+            path.push(start);
+            while (!path.isEmpty()) {
+                int node = path.peek();
+                if (indexes[node] == 0) {
+                    indexes[node] = lowLinks[node] = nextIndex++;
+                    stack.push(node);
+                    onStack[node] = true;
+                }
+                if (edgePositions[node] < edges[node].length) {
+                    int dependency = edges[node][edgePositions[node]++];
+                    if (indexes[dependency] == 0) {
+                        path.push(dependency);
+                    } else if (onStack[dependency]) {
+                        lowLinks[node] = Math.min(lowLinks[node], indexes[dependency]);
+                    }
+                } else {
+                    path.pop();
+                    if (!path.isEmpty()) {
+                        lowLinks[path.peek()] = Math.min(lowLinks[path.peek()], lowLinks[node]);
                     }
+                    if (lowLinks[node] == indexes[node]) {
+                        int member;
+                        do {
+                            member = stack.pop();
+                            onStack[member] = false;
+                            components[member] = nextComponent;
+                        } while (member != node);
+                        nextComponent++;
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+    private List<BindingGroup> groupValues(List<DefinitionNode> nodes) {
+        int size = nodes.size();
+        Map<Symbol, Integer> positions = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            positions.put(nodes.get(i).getSymbol(), i);
+        }
+        int[][] edges = new int[size][];
+        for (int i = 0; i < size; i++) {
+            edges[i] = nodes.get(i).getDependencies().stream()
+                .filter(positions::containsKey)
+                .mapToInt(positions::get)
+                .toArray();
+        }
+        int[] components = findComponents(edges);
+        int componentCount = size == 0 ? 0 : Arrays.stream(components).max().getAsInt() + 1;
+        List<List<DefinitionNode>> members = new ArrayList<>(componentCount);
+        List<Set<Integer>> dependencies = new ArrayList<>(componentCount);
+        List<List<Integer>> dependents = new ArrayList<>(componentCount);
+        int[] firstMember = new int[componentCount];
+        int[] lastDependent = new int[componentCount];
+        int[] remaining = new int[componentCount];
+        boolean[] cyclic = new boolean[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            members.add(new ArrayList<>());
+            dependencies.add(new LinkedHashSet<>());
+            dependents.add(new ArrayList<>());
+        }
+        Arrays.fill(lastDependent, -1);
+        for (int i = size - 1; i >= 0; i--) {
+            firstMember[components[i]] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            members.get(components[i]).add(nodes.get(i));
+        }
+        for (int i = 0; i < size; i++) {
+            for (int dependency : edges[i]) {
+                if (components[dependency] == components[i]) {
+                    cyclic[components[i]] = true;
+                } else if (lastDependent[components[dependency]] != i) {
+                    lastDependent[components[dependency]] = i;
+                    dependencies.get(components[i]).add(components[dependency]);
+                    dependents.get(components[dependency]).add(components[i]);
+                    remaining[components[i]]++;
                 }
             }
         }
-        if (nodes.isEmpty()) {
-            return output;
-        } else {
-            errors.add(cyclicDependency(fromNodes(nodes)));
-            output.addAll(nodes.stream().map(DefinitionNode::getEntry).collect(toList()));
-            return output;
+        PriorityQueue<Integer> roots = new PriorityQueue<>(Math.max(1, componentCount), comparingInt(component -> firstMember[component]));
+        for (int i = 0; i < componentCount; i++) {
+            if (remaining[i] == 0) {
+                roots.add(i);
+            }
+        }
+        BindingGroup[] groups = new BindingGroup[componentCount];
+        List<BindingGroup> output = new ArrayList<>(componentCount);
+        while (!roots.isEmpty()) {
+            int component = roots.poll();
+            groups[component] = new BindingGroup(members.get(component), dependencies.get(component).stream()
+                .map(dependency -> groups[dependency])
+                .collect(toList()), cyclic[component]);
+            output.add(groups[component]);
+            dependents.get(component).forEach(dependent -> {
+                if (--remaining[dependent] == 0) {
+                    roots.add(dependent);
+                }
+            });
         }
+        return output;
     }
 
     private List<DefinitionEntry> sort_(List<SyntaxError> errors) {
         List<DefinitionEntry> entries = stream()
             .filter(entry -> !(entry.getReference() instanceof ValueReference))
             .collect(toList());
-        List<DefinitionNode> values = stream()
-            .filter(entry -> entry.getReference() instanceof ValueReference)
-            .map(DefinitionNode::new)
-            .collect(toList());
-        entries.addAll(sortValues(errors, values));
+        getBindingGroups().forEach(group -> {
+            if (group.isUnguarded()) {
+                errors.add(cyclicDependency(group.getCycle()));
+            }
+            entries.addAll(group.getEntries());
+        });
         return entries;
     }
 
@@ -186,9 +284,9 @@ public class DefinitionGraph {
 
     public static class DefinitionGraphBuilder {
 
-        private final Collection<DefinitionEntry> definitions;
-        private       Optional<SymbolGenerator>   optionalSequence;
-        private       Optional<List<SyntaxError>> optionalErrors;
+        private final Collection<DefinitionEntry>      definitions;
+        private       Optional<DefaultSymbolGenerator> optionalSequence;
+        private       Optional<List<SyntaxError>>      optionalErrors;
 
         private DefinitionGraphBuilder(Collection<DefinitionEntry> definitions) {
             this.definitions = definitions;
@@ -211,7 +309,7 @@ public class DefinitionGraph {
             return this;
         }
 
-        public DefinitionGraphBuilder withSequence(SymbolGenerator symbolGenerator) {
+        public DefinitionGraphBuilder withSequence(DefaultSymbolGenerator symbolGenerator) {
             optionalSequence = Optional.of(symbolGenerator);
             return this;
         }
@@ -1,7 +1,7 @@
 package scotch.compiler.syntax.definition;
 
-import java.util.HashSet;
 import java.util.Set;
+import com.google.common.collect.ImmutableSet;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 
@@ -12,7 +12,7 @@ public final class DefinitionNode {
 
     public DefinitionNode(DefinitionEntry entry) {
         this.entry = entry;
-        this.dependencies = new HashSet<>(entry.getDependencies());
+        this.dependencies = ImmutableSet.copyOf(entry.getDependencies());
     }
 
     public Set<Symbol> getDependencies() {
@@ -30,16 +30,4 @@ public final class DefinitionNode {
     public Symbol getSymbol() {
         return entry.getSymbol();
     }
-
-    public boolean hasDependencies() {
-        return !dependencies.isEmpty();
-    }
-
-    public boolean isDependentOn(DefinitionNode node) {
-        return dependencies.contains(node.getSymbol());
-    }
-
-    public void removeDependency(DefinitionNode node) {
-        dependencies.remove(node.getSymbol());
-    }
 }
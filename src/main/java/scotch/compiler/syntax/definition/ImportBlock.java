@@ -35,6 +35,7 @@ public class ImportBlock extends Definition {
     @Getter
     private final SourceLocation            sourceLocation;
     private final Symbol                    symbol;
+    @Getter
     private final List<Import>              imports;
     private final List<DefinitionReference> definitions;
 
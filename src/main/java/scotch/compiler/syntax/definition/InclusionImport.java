@@ -43,6 +43,11 @@ public final class InclusionImport extends Import {
         return getContext_(moduleName, type, resolver);
     }
 
+    @Override
+    public String getModuleName() {
+        return moduleName;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(moduleName, includes);
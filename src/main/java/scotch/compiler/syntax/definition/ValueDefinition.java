@@ -79,10 +79,7 @@ public class ValueDefinition extends Definition {
                     state.error(typeError(unification, sourceLocation));
                     return checkedBody.getType();
                 });
-            Type generatedType = state.scope().generate(type);
-            ValueDefinition result = withBody(checkedBody.withType(generatedType));
-            state.redefine(result);
-            return state.bind(result);
+            return state.generate(withBody(checkedBody.withType(type)));
         });
     }
 
@@ -93,7 +90,7 @@ public class ValueDefinition extends Definition {
 
     @Override
     public Optional<DefinitionReference> generateIntermediateCode(IntermediateGenerator generator) {
-        return generator.scoped(this, () -> generator.defineValue(symbol, body.getType(), body.generateIntermediateCode(generator)));
+        return generator.scoped(this, () -> generator.defineValue(sourceLocation, symbol, body.getType(), body.generateIntermediateCode(generator)));
     }
 
     public Value getBody() {
@@ -1,13 +1,13 @@
 package scotch.compiler.syntax.scope;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import scotch.compiler.syntax.pattern.PatternCase;
 import scotch.compiler.syntax.reference.ClassReference;
 import scotch.symbol.MethodSignature;
@@ -40,7 +40,7 @@ public abstract class BlockScope extends Scope {
     public BlockScope(Scope parent, TypeScope types, String moduleName, SymbolResolver resolver, SymbolGenerator symbolGenerator) {
         this.symbolGenerator = symbolGenerator;
         this.dependencies = new HashSet<>();
-        this.entries = new HashMap<>();
+        this.entries = new ConcurrentHashMap<>();
         this.types = types;
         this.moduleName = moduleName;
         this.parent = parent;
@@ -5,13 +5,12 @@ import static scotch.symbol.type.Unification.failedBinding;
 import static scotch.symbol.type.Unification.unified;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import scotch.symbol.Symbol;
@@ -25,20 +24,20 @@ import scotch.symbol.type.VariableType;
 
 public class DefaultTypeScope implements TypeScope {
 
-    private final SymbolGenerator                   symbolGenerator;
-    private final SymbolResolver                    resolver;
-    private final Map<Type, Type>                   bindings;
-    private final Map<Type, Set<Symbol>>            contexts;
-    private final Set<Type>                         specializedTypes;
-    private final Map<Symbol, List<Implementation>> implementations;
+    private final SymbolGenerator                             symbolGenerator;
+    private final SymbolResolver                              resolver;
+    private final VariableBindings                            bindings;
+    private final ConcurrentMap<Type, Set<Symbol>>            contexts;
+    private final Set<Type>                                   specializedTypes;
+    private final ConcurrentMap<Symbol, List<Implementation>> implementations;
 
     public DefaultTypeScope(SymbolGenerator symbolGenerator, SymbolResolver resolver) {
         this.symbolGenerator = symbolGenerator;
         this.resolver = resolver;
-        this.bindings = new HashMap<>();
-        this.contexts = new HashMap<>();
-        this.specializedTypes = new HashSet<>();
-        this.implementations = new HashMap<>();
+        this.bindings = new VariableBindings();
+        this.contexts = new ConcurrentHashMap<>();
+        this.specializedTypes = ConcurrentHashMap.newKeySet();
+        this.implementations = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -48,7 +47,9 @@ public class DefaultTypeScope implements TypeScope {
 
     @Override
     public void extendContext(Type type, Set<Symbol> additionalContext) {
-        contexts.computeIfAbsent(type, k -> new LinkedHashSet<>()).addAll(additionalContext);
+        contexts.merge(type, ImmutableSet.copyOf(additionalContext), (existing, additional) -> existing.containsAll(additional)
+            ? existing
+            : ImmutableSet.<Symbol>builder().addAll(existing).addAll(additional).build());
     }
 
     @Override
@@ -73,10 +74,7 @@ public class DefaultTypeScope implements TypeScope {
 
     @Override
     public Type getTarget(Type type) {
-        Type result = type;
-        while (bindings.containsKey(result.simplify())) {
-            result = bindings.get(result.simplify());
-        }
+        Type result = bindings.getTarget(type).orElse(type);
         if (result instanceof VariableType) {
             return ((VariableType) result).withContext(getContext(result));
         } else {
@@ -86,12 +84,12 @@ public class DefaultTypeScope implements TypeScope {
 
     @Override
     public void implement(Symbol typeClass, SumType type) {
-        implementations.computeIfAbsent(typeClass, k -> new ArrayList<>()).add(implement(type));
+        implementations.computeIfAbsent(typeClass, k -> new CopyOnWriteArrayList<>()).add(implement(type));
     }
 
     @Override
     public boolean isBound(VariableType variableType) {
-        return bindings.containsKey(variableType.simplify());
+        return bindings.isBound(variableType);
     }
 
     @Override
@@ -126,19 +124,19 @@ public class DefaultTypeScope implements TypeScope {
                 if (isBound((VariableType) targetType)) {
                     return targetType.unify(variableType, this)
                         .map(unifiedType -> {
-                            bindings.put(variableType, targetType);
+                            bindings.bind(variableType, targetType);
                             return unified(unifiedType);
                         })
                         .orElseMap(unification -> failedBinding(targetType, variableType, getTarget(variableType)));
                 } else {
-                    bindings.put(targetType, getTarget(variableType));
+                    bindings.bind(targetType, getTarget(variableType));
                     return unified(variableType);
                 }
             } else {
                 return failedBinding(targetType, variableType, getTarget(variableType));
             }
         } else if (!getTarget(targetType).simplify().equals(variableType)) {
-            bindings.put(variableType, targetType);
+            bindings.bind(variableType, targetType);
         }
         return unified(targetType);
     }
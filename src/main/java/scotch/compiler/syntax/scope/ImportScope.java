@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import scotch.compiler.syntax.definition.Import;
 import scotch.compiler.syntax.reference.ValueReference;
@@ -50,6 +51,10 @@ public class ImportScope extends BlockScope {
             .build();
     }
 
+    public Collection<SymbolEntry> getEntries() {
+        return ImmutableList.copyOf(entries.values());
+    }
+
     @Override
     public Optional<TypeClassDescriptor> getMemberOf(ValueReference valueRef) {
         return resolver.getEntry(valueRef.getSymbol())
@@ -0,0 +1,153 @@
+package scotch.compiler.syntax.scope;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import scotch.symbol.type.Type;
+import scotch.symbol.type.VariableType;
+
+final class VariableBindings {
+
+    private static final int UNBOUND = -1;
+    private static final int VALUE   = -2;
+
+    private final Map<Type, Integer> indexes;
+    private final List<Type>         variables;
+    private       int[]              parents;
+    private       int[]              ranks;
+    private       int[]              targets;
+    private       Type[]             values;
+    private       Type[]             ends;
+    private       boolean            rebound;
+
+    VariableBindings() {
+        this.indexes = new HashMap<>();
+        this.variables = new ArrayList<>();
+        this.parents = new int[16];
+        this.ranks = new int[16];
+        this.targets = new int[16];
+        this.values = new Type[16];
+        this.ends = new Type[16];
+    }
+
+    public synchronized void bind(Type variable, Type target) {
+        int index = index(variable.simplify(), variable);
+        boolean rebinding = targets[index] != UNBOUND;
+        if (target instanceof VariableType) {
+            int targetIndex = index(target.simplify(), target);
+            Type end = targets[targetIndex] == UNBOUND ? target : ends[find(targetIndex)];
+            targets[index] = targetIndex;
+            values[index] = null;
+            if (targetIndex == index) {
+                ends[find(index)] = end;
+            } else if (rebinding || rebound) {
+                rebound = true;
+            } else {
+                ends[union(index, targetIndex)] = end;
+            }
+        } else {
+            targets[index] = VALUE;
+            values[index] = target;
+            if (rebinding || rebound) {
+                rebound = true;
+            } else {
+                ends[find(index)] = target;
+            }
+        }
+    }
+
+    public synchronized Optional<Type> getTarget(Type type) {
+        Integer index = indexes.get(type.simplify());
+        if (index == null || targets[index] == UNBOUND) {
+            return Optional.empty();
+        } else {
+            if (rebound) {
+                rebuild();
+            }
+            return Optional.of(ends[find(index)]);
+        }
+    }
+
+    public synchronized boolean isBound(Type type) {
+        Integer index = indexes.get(type.simplify());
+        return index != null && targets[index] != UNBOUND;
+    }
+
+    private int find(int index) {
+        int current = index;
+        while (parents[current] != current) {
+            parents[current] = parents[parents[current]];
+            current = parents[current];
+        }
+        return current;
+    }
+
+    private int index(Type key, Type variable) {
+        Integer existing = indexes.get(key);
+        if (existing == null) {
+            int index = variables.size();
+            if (index == parents.length) {
+                int capacity = index * 2;
+                parents = Arrays.copyOf(parents, capacity);
+                ranks = Arrays.copyOf(ranks, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                values = Arrays.copyOf(values, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            indexes.put(key, index);
+            variables.add(variable);
+            parents[index] = index;
+            ranks[index] = 0;
+            targets[index] = UNBOUND;
+            ends[index] = variable;
+            return index;
+        } else {
+            if (targets[existing] == UNBOUND) {
+                variables.set(existing, variable);
+            }
+            return existing;
+        }
+    }
+
+    private void rebuild() {
+        int size = variables.size();
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+            ranks[i] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (targets[i] >= 0 && targets[i] != i) {
+                union(i, targets[i]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (targets[i] == VALUE) {
+                ends[find(i)] = values[i];
+            } else if (targets[i] == UNBOUND) {
+                ends[find(i)] = variables.get(i);
+            }
+        }
+        rebound = false;
+    }
+
+    private int union(int left, int right) {
+        int leftRoot = find(left);
+        int rightRoot = find(right);
+        if (leftRoot == rightRoot) {
+            return leftRoot;
+        } else if (ranks[leftRoot] < ranks[rightRoot]) {
+            parents[leftRoot] = rightRoot;
+            return rightRoot;
+        } else if (ranks[leftRoot] > ranks[rightRoot]) {
+            parents[rightRoot] = leftRoot;
+            return leftRoot;
+        } else {
+            parents[rightRoot] = leftRoot;
+            ranks[leftRoot]++;
+            return leftRoot;
+        }
+    }
+}
@@ -110,7 +110,7 @@ public class Accessor extends Value {
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         IntermediateValue intermediateTarget = target.generateIntermediateCode(state);
-        return Intermediates.access(state.capture(), intermediateTarget, field, state.getFieldMethod(target.getTag().get(), field));
+        return Intermediates.access(sourceLocation, state.capture(), intermediateTarget, field, state.getFieldMethod(target.getTag().get(), field));
     }
 
     public DataConstructorDescriptor mapConstructor(TypeChecker typeChecker, Value checkedTarget, SumType targetType) {
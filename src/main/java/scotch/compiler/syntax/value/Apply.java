@@ -77,7 +77,7 @@ public class Apply extends Value {
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         IntermediateValue intermediateFunction = function.generateIntermediateCode(state);
         IntermediateValue intermediateArgument = argument.generateIntermediateCode(state);
-        return apply(state.capture(), intermediateFunction, intermediateArgument);
+        return apply(sourceLocation, state.capture(), intermediateFunction, intermediateArgument);
     }
 
     public Value getArgument() {
@@ -75,7 +75,7 @@ public class FunctionValue extends Value implements Scoped {
                 arguments.subList(0, i).stream().map(Argument::getName).forEach(state::reference);
             }
             state.addArgument(arguments.get(i).getName());
-            result = function(state.capture(), arguments.get(i).getName(), result);
+            result = function(sourceLocation, state.capture(), arguments.get(i).getName(), result);
         }
         return result;
     }
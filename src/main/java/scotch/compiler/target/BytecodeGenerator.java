@@ -8,14 +8,19 @@ import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
 import static scotch.compiler.output.GeneratedClass.ClassType.DATA_CONSTRUCTOR;
 import static scotch.compiler.output.GeneratedClass.ClassType.DATA_TYPE;
 import static scotch.compiler.output.GeneratedClass.ClassType.MODULE;
 import static scotch.compiler.syntax.reference.DefinitionReference.rootRef;
+import static scotch.compiler.target.SourceMap.sourceMap;
 import static scotch.compiler.util.Pair.pair;
 import static scotch.symbol.Symbol.moduleClass;
 import static scotch.symbol.Symbol.toJavaName;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -23,37 +28,86 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import com.google.common.collect.ImmutableList;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.JDKVersion;
 import me.qmx.jitescript.JiteClass;
+import org.objectweb.asm.Handle;
 import scotch.compiler.intermediate.IntermediateGraph;
 import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.output.GeneratedClass.ClassType;
+import scotch.compiler.text.SourceLocation;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.util.Pair;
+import scotch.runtime.AccessorSupport;
 import scotch.runtime.Callable;
 import scotch.runtime.Copyable;
+import scotch.runtime.ProfiledThunk;
+import scotch.runtime.SuppliedThunk;
+import scotch.runtime.ThunkProfiler;
 import scotch.symbol.Symbol;
 import scotch.symbol.Symbol.QualifiedSymbol;
 
 public class BytecodeGenerator {
 
+    private static final Handle SITE_BOOTSTRAP = new Handle(
+        H_INVOKESTATIC,
+        p(ThunkProfiler.class),
+        "site",
+        sig(CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class, String.class)
+    );
+
+    private static final Handle ACCESS_BOOTSTRAP = new Handle(
+        H_INVOKESTATIC,
+        p(AccessorSupport.class),
+        "site",
+        sig(CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class, String.class, String.class)
+    );
+
     private final IntermediateGraph                 graph;
     private final Map<String, JiteClass>            moduleClasses;
     private final Deque<Pair<JiteClass, ClassType>> classes;
     private final List<Pair<JiteClass, ClassType>>  finishedClasses;
     private final Deque<List<String>>               argumentOffsets;
+    private final Deque<String>                     definitionNames;
+    private final Map<String, SourceMap>            sourceMaps;
+    private final boolean                           profiling;
     private       int                               lambdas;
     private       int                               applies;
     private       int                               accesses;
 
     public BytecodeGenerator(IntermediateGraph graph) {
+        this(graph, Boolean.getBoolean(ThunkProfiler.PROPERTY));
+    }
+
+    public BytecodeGenerator(IntermediateGraph graph, boolean profiling) {
         this.graph = graph;
         this.moduleClasses = new HashMap<>();
         this.classes = new ArrayDeque<>();
         this.finishedClasses = new ArrayList<>();
         this.argumentOffsets = new ArrayDeque<>();
+        this.definitionNames = new ArrayDeque<>();
+        this.sourceMaps = new HashMap<>();
+        this.profiling = profiling;
+    }
+
+    public void accessField(CodeBlock block, String methodName, SourceLocation sourceLocation) {
+        block.invokedynamic("access", sig(Callable.class, Callable.class), ACCESS_BOOTSTRAP, methodName, sourceLocation.prettyPrint());
+    }
+
+    public void allocateThunk(CodeBlock block) {
+        block.newobj(p(profiling ? ProfiledThunk.class : SuppliedThunk.class));
+        block.dup();
+    }
+
+    public void constructThunk(CodeBlock block, String kind, SourceLocation sourceLocation) {
+        if (profiling) {
+            block.invokedynamic("site", sig(int.class), SITE_BOOTSTRAP, kind + " " + sourceLocation.prettyPrint());
+            block.invokespecial(p(ProfiledThunk.class), "<init>", sig(void.class, Supplier.class, int.class));
+        } else {
+            block.invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+        }
     }
 
     public void beginConstant(Symbol symbol) {
@@ -108,6 +162,12 @@ public class BytecodeGenerator {
         pushClass(dataClass, DATA_TYPE);
     }
 
+    public void beginDefinition(Symbol symbol) {
+        StringBuilder builder = new StringBuilder();
+        symbol.getSimpleName().chars().forEach(c -> builder.append(Character.isJavaIdentifierPart(c) && c != '$' ? (char) c : '_'));
+        definitionNames.push(builder.toString());
+    }
+
     public void beginMethod(List<String> captures) {
         argumentOffsets.push(ImmutableList.copyOf(captures));
     }
@@ -143,6 +203,10 @@ public class BytecodeGenerator {
         finishedClasses.add(classes.pop());
     }
 
+    public void endDefinition() {
+        definitionNames.pop();
+    }
+
     public void endMethod() {
         argumentOffsets.pop();
     }
@@ -150,8 +214,12 @@ public class BytecodeGenerator {
     public List<GeneratedClass> generateBytecode() {
         generateBytecode(rootRef());
         return finishedClasses.stream()
-            .map(pair -> pair.into(
-                (jiteClass, type) -> new GeneratedClass(type, jiteClass.getClassName().replace("/", "."), jiteClass.toBytes(JDKVersion.V1_8))))
+            .map(pair -> pair.into((jiteClass, type) -> {
+                if (sourceMaps.containsKey(jiteClass.getClassName())) {
+                    sourceMaps.get(jiteClass.getClassName()).applyTo(jiteClass);
+                }
+                return new GeneratedClass(type, jiteClass.getClassName().replace("/", "."), jiteClass.toBytes(JDKVersion.V1_8));
+            }))
             .sorted()
             .collect(toList());
     }
@@ -162,23 +230,32 @@ public class BytecodeGenerator {
             .generateBytecode(this);
     }
 
+    public void markLine(CodeBlock block, SourceLocation sourceLocation) {
+        sourceMaps.computeIfAbsent(currentClass().getClassName(), k -> sourceMap()).mark(sourceLocation);
+        sourceLocation.markLine(block);
+    }
+
     public int offsetOf(String argument) {
         return argumentOffsets.peek().indexOf(argument);
     }
 
     public String reserveAccess() {
-        return "access$" + accesses++;
+        return "access$" + definitionName() + "$" + accesses++;
     }
 
     public String reserveApply() {
-        return "apply$" + applies++;
+        return "apply$" + definitionName() + "$" + applies++;
     }
 
     public String reserveLambda() {
-        return "lambda$" + lambdas++;
+        return "lambda$" + definitionName() + "$" + lambdas++;
     }
 
     public void storeOffset(String variable) {
         argumentOffsets.peek().add(variable);
     }
+
+    private String definitionName() {
+        return definitionNames.isEmpty() ? "static" : definitionNames.peek();
+    }
 }
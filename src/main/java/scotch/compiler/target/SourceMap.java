@@ -0,0 +1,52 @@
+package scotch.compiler.target;
+
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
+
+import me.qmx.jitescript.JiteClass;
+import scotch.compiler.text.SourceLocation;
+
+public class SourceMap {
+
+    public static final String STRATUM = "Scotch";
+
+    public static SourceMap sourceMap() {
+        return new SourceMap();
+    }
+
+    private String path;
+    private int    lastLine;
+
+    private SourceMap() {
+        // intentionally empty
+    }
+
+    public void applyTo(JiteClass jiteClass) {
+        if (path != null) {
+            String fileName = path.substring(path.lastIndexOf('/') + 1);
+            String className = jiteClass.getClassName();
+            String packagePath = className.substring(0, className.lastIndexOf('/') + 1);
+            jiteClass.setSourceFile(fileName);
+            jiteClass.setSourceDebug(
+                "SMAP\n"
+                    + fileName + "\n"
+                    + STRATUM + "\n"
+                    + "*S " + STRATUM + "\n"
+                    + "*F\n"
+                    + "+ 1 " + fileName + "\n"
+                    + packagePath + fileName + "\n"
+                    + "*L\n"
+                    + "1#1," + lastLine + ":1\n"
+                    + "*E\n"
+            );
+        }
+    }
+
+    public void mark(SourceLocation sourceLocation) {
+        if (sourceLocation != NULL_SOURCE && sourceLocation.getStart().getLine() != -1) {
+            if (path == null) {
+                path = sourceLocation.getPath();
+            }
+            lastLine = Math.max(lastLine, sourceLocation.getEnd().getLine());
+        }
+    }
+}
@@ -32,6 +32,10 @@ public class NamedSourcePoint {
         return column;
     }
 
+    public int getLine() {
+        return line;
+    }
+
     public String prettyPrint() {
         return "[" + quote(source) + " (" + line + ", " + column + ")]";
     }
@@ -116,7 +116,7 @@ public class SourceLocation {
             int line = start.getLine();
             if (line != -1) {
                 block.label(label);
-                block.line(line - 1, label);
+                block.line(line, label);
             }
         }
     }
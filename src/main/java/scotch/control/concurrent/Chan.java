@@ -0,0 +1,69 @@
+package scotch.control.concurrent;
+
+import static java.util.Arrays.asList;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@DataType(memberName = "Chan", parameters = {
+    @TypeParameter(name = "a"),
+})
+public final class Chan<A> {
+
+    public static final Type TYPE = sum("scotch.control.concurrent.Chan", var("a"));
+
+    public static <A> Chan<A> chan(int capacity) {
+        return new Chan<>(new ArrayBlockingQueue<>(capacity));
+    }
+
+    public static Type chanType(Type type) {
+        return sum("scotch.control.concurrent.Chan", type);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("a"));
+    }
+
+    private final BlockingQueue<A> queue;
+
+    private Chan(BlockingQueue<A> queue) {
+        this.queue = queue;
+    }
+
+    public A read() throws InterruptedException {
+        A value = queue.poll();
+        if (value == null) {
+            return Scheduler.block(queue::take);
+        } else {
+            return value;
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Chan(" + queue.size() + ")";
+    }
+
+    public A write(A value) throws InterruptedException {
+        if (!queue.offer(value)) {
+            Scheduler.block(() -> {
+                queue.put(value);
+                return value;
+            });
+        }
+        return value;
+    }
+}
@@ -0,0 +1,136 @@
+package scotch.control.concurrent;
+
+import static scotch.control.concurrent.Chan.chanType;
+import static scotch.control.concurrent.MVar.mVarType;
+import static scotch.control.concurrent.Task.taskType;
+import static scotch.io.IO.io;
+import static scotch.io.IO.ioType;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.var;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import scotch.data.int_.Int;
+import scotch.io.IO;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class Concurrent {
+
+    @Value(memberName = "await")
+    public static <A> Applicable<Task<A>, IO<A>> await() {
+        return applicable(task -> callable(() -> interruptibly(() -> task.call().await())));
+    }
+
+    @ValueType(forMember = "await")
+    public static Type await$type() {
+        return fn(taskType(var("a")), ioType(var("a")));
+    }
+
+    @Value(memberName = "fork")
+    public static <A> Applicable<IO<A>, IO<Task<A>>> fork() {
+        return applicable(action -> callable(() -> io(() -> Task.start(action.call(), Scheduler.executor()))));
+    }
+
+    @ValueType(forMember = "fork")
+    public static Type fork$type() {
+        return fn(ioType(var("a")), ioType(taskType(var("a"))));
+    }
+
+    @Value(memberName = "newChan")
+    public static <A> Applicable<Integer, IO<Chan<A>>> newChan() {
+        return applicable(capacity -> callable(() -> io(() -> Chan.chan(capacity.call()))));
+    }
+
+    @ValueType(forMember = "newChan")
+    public static Type newChan$type() {
+        return fn(Int.TYPE, ioType(chanType(var("a"))));
+    }
+
+    @Value(memberName = "newEmptyMVar")
+    public static <A> Callable<IO<MVar<A>>> newEmptyMVar() {
+        return callable(() -> io(MVar::emptyMVar));
+    }
+
+    @ValueType(forMember = "newEmptyMVar")
+    public static Type newEmptyMVar$type() {
+        return ioType(mVarType(var("a")));
+    }
+
+    @Value(memberName = "newMVar")
+    public static <A> Applicable<A, IO<MVar<A>>> newMVar() {
+        return applicable(value -> callable(() -> io(() -> MVar.mVar(value.call()))));
+    }
+
+    @ValueType(forMember = "newMVar")
+    public static Type newMVar$type() {
+        return fn(var("a"), ioType(mVarType(var("a"))));
+    }
+
+    @Value(memberName = "putMVar")
+    public static <A> Applicable<MVar<A>, Applicable<A, IO<A>>> putMVar() {
+        return applicable(mVar -> applicable(value -> callable(() -> interruptibly(() -> mVar.call().put(value.call())))));
+    }
+
+    @ValueType(forMember = "putMVar")
+    public static Type putMVar$type() {
+        return fn(mVarType(var("a")), fn(var("a"), ioType(var("a"))));
+    }
+
+    @Value(memberName = "readChan")
+    public static <A> Applicable<Chan<A>, IO<A>> readChan() {
+        return applicable(chan -> callable(() -> interruptibly(() -> chan.call().read())));
+    }
+
+    @ValueType(forMember = "readChan")
+    public static Type readChan$type() {
+        return fn(chanType(var("a")), ioType(var("a")));
+    }
+
+    @Value(memberName = "readMVar")
+    public static <A> Applicable<MVar<A>, IO<A>> readMVar() {
+        return applicable(mVar -> callable(() -> interruptibly(() -> mVar.call().read())));
+    }
+
+    @ValueType(forMember = "readMVar")
+    public static Type readMVar$type() {
+        return fn(mVarType(var("a")), ioType(var("a")));
+    }
+
+    @Value(memberName = "takeMVar")
+    public static <A> Applicable<MVar<A>, IO<A>> takeMVar() {
+        return applicable(mVar -> callable(() -> interruptibly(() -> mVar.call().take())));
+    }
+
+    @ValueType(forMember = "takeMVar")
+    public static Type takeMVar$type() {
+        return fn(mVarType(var("a")), ioType(var("a")));
+    }
+
+    @Value(memberName = "writeChan")
+    public static <A> Applicable<Chan<A>, Applicable<A, IO<A>>> writeChan() {
+        return applicable(chan -> applicable(value -> callable(() -> interruptibly(() -> chan.call().write(value.call())))));
+    }
+
+    @ValueType(forMember = "writeChan")
+    public static Type writeChan$type() {
+        return fn(chanType(var("a")), fn(var("a"), ioType(var("a"))));
+    }
+
+    private static <A> IO<A> interruptibly(Scheduler.BlockingAction<A> action) {
+        return io(() -> {
+            try {
+                return action.perform();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw (IOException) new InterruptedIOException().initCause(exception);
+            }
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package scotch.control.concurrent;
+
+import static java.util.Arrays.asList;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@DataType(memberName = "MVar", parameters = {
+    @TypeParameter(name = "a"),
+})
+public final class MVar<A> {
+
+    public static final Type TYPE = sum("scotch.control.concurrent.MVar", var("a"));
+
+    public static <A> MVar<A> emptyMVar() {
+        return new MVar<>(null);
+    }
+
+    public static <A> MVar<A> mVar(A value) {
+        return new MVar<>(value);
+    }
+
+    public static Type mVarType(Type type) {
+        return sum("scotch.control.concurrent.MVar", type);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("a"));
+    }
+
+    private final ReentrantLock lock;
+    private final Condition     full;
+    private final Condition     empty;
+    private       A             value;
+
+    private MVar(A value) {
+        this.lock = new ReentrantLock();
+        this.full = lock.newCondition();
+        this.empty = lock.newCondition();
+        this.value = value;
+    }
+
+    public A put(A value) throws InterruptedException {
+        return Scheduler.block(() -> {
+            lock.lockInterruptibly();
+            try {
+                while (this.value != null) {
+                    empty.await();
+                }
+                this.value = value;
+                full.signal();
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    public A read() throws InterruptedException {
+        return Scheduler.block(() -> {
+            lock.lockInterruptibly();
+            try {
+                while (value == null) {
+                    full.await();
+                }
+                full.signal();
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    public A take() throws InterruptedException {
+        return Scheduler.block(() -> {
+            lock.lockInterruptibly();
+            try {
+                while (value == null) {
+                    full.await();
+                }
+                A result = value;
+                value = null;
+                empty.signal();
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "MVar";
+    }
+}
@@ -0,0 +1,86 @@
+package scotch.control.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+
+public final class Scheduler {
+
+    public static final String EXECUTOR_PROPERTY    = "scotch.concurrent.executor";
+    public static final String PARALLELISM_PROPERTY = "scotch.concurrent.parallelism";
+
+    private static volatile ExecutorService executor;
+
+    public static <A> A block(BlockingAction<A> action) throws InterruptedException {
+        Blocker<A> blocker = new Blocker<>(action);
+        ForkJoinPool.managedBlock(blocker);
+        return blocker.result;
+    }
+
+    public static ExecutorService executor() {
+        if (executor == null) {
+            synchronized (Scheduler.class) {
+                if (executor == null) {
+                    executor = defaultExecutor();
+                }
+            }
+        }
+        return executor;
+    }
+
+    public static synchronized void useExecutor(ExecutorService executor) {
+        Scheduler.executor = executor;
+    }
+
+    private static ExecutorService defaultExecutor() {
+        if ("virtual".equals(System.getProperty(EXECUTOR_PROPERTY))) {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException exception) {
+                // virtual threads are unavailable on this JVM, fall back to a work-stealing pool
+            }
+        }
+        return new ForkJoinPool(
+            Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()),
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+            null,
+            true
+        );
+    }
+
+    private Scheduler() {
+        // intentionally empty
+    }
+
+    @FunctionalInterface
+    public interface BlockingAction<A> {
+
+        A perform() throws InterruptedException;
+    }
+
+    private static final class Blocker<A> implements ManagedBlocker {
+
+        private final BlockingAction<A> action;
+        private       A                 result;
+        private       boolean           done;
+
+        public Blocker(BlockingAction<A> action) {
+            this.action = action;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            result = action.perform();
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package scotch.control.concurrent;
+
+import static java.util.Arrays.asList;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import scotch.io.IO;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@DataType(memberName = "Task", parameters = {
+    @TypeParameter(name = "a"),
+})
+public final class Task<A> {
+
+    public static final Type TYPE = sum("scotch.control.concurrent.Task", var("a"));
+
+    public static <A> Task<A> start(IO<A> io, Executor executor) {
+        return new Task<>(CompletableFuture.supplyAsync(() -> io.run().call(), executor));
+    }
+
+    public static Type taskType(Type type) {
+        return sum("scotch.control.concurrent.Task", type);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("a"));
+    }
+
+    private final CompletableFuture<A> future;
+
+    private Task(CompletableFuture<A> future) {
+        this.future = future;
+    }
+
+    public A await() throws InterruptedException {
+        return Scheduler.block(() -> {
+            try {
+                return future.get();
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                } else if (exception.getCause() instanceof Error) {
+                    throw (Error) exception.getCause();
+                } else {
+                    throw new RuntimeException(exception.getCause());
+                }
+            }
+        });
+    }
+
+    public boolean cancel() {
+        return future.cancel(true);
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public String toString() {
+        return "Task(" + (future.isDone() ? "done" : "running") + ")";
+    }
+}
@@ -0,0 +1,57 @@
+package scotch.control.deepseq;
+
+import static scotch.runtime.NormalForm.deepSeq;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+import static scotch.symbol.Value.Fixity.RIGHT_INFIX;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.var;
+
+import scotch.runtime.Applicable;
+import scotch.runtime.NormalForm;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class ScotchModule {
+
+    @Value(memberName = "$!!", fixity = RIGHT_INFIX, precedence = 0)
+    public static <A, B> Applicable<Applicable<A, B>, Applicable<A, B>> strictApply() {
+        return applicable(function -> applicable(argument -> flatCallable(() -> {
+            NormalForm.force(argument);
+            return function.call().apply(argument);
+        })));
+    }
+
+    @ValueType(forMember = "$!!")
+    public static Type strictApply$type() {
+        return fn(fn(var("a"), var("b")), fn(var("a"), var("b")));
+    }
+
+    @Value(memberName = "deepseq")
+    public static <A, B> Applicable<A, Applicable<B, B>> deepseq() {
+        return applicable(value -> applicable(result -> flatCallable(() -> {
+            deepSeq(value);
+            return result;
+        })));
+    }
+
+    @ValueType(forMember = "deepseq")
+    public static Type deepseq$type() {
+        return fn(var("a"), fn(var("b"), var("b")));
+    }
+
+    @Value(memberName = "force")
+    public static <A> Applicable<A, A> force() {
+        return applicable(value -> flatCallable(() -> {
+            NormalForm.force(value);
+            return value;
+        }));
+    }
+
+    @ValueType(forMember = "force")
+    public static Type force$type() {
+        return fn(var("a"), var("a"));
+    }
+}
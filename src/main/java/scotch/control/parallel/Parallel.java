@@ -0,0 +1,42 @@
+package scotch.control.parallel;
+
+import static scotch.control.parallel.SparkPool.sparkPool;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.var;
+
+import scotch.runtime.Applicable;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class Parallel {
+
+    @Value(memberName = "par")
+    public static <A, B> Applicable<A, Applicable<B, B>> par() {
+        return applicable(spark -> applicable(result -> flatCallable(() -> {
+            sparkPool().spark(spark);
+            return result;
+        })));
+    }
+
+    @ValueType(forMember = "par")
+    public static Type par$type() {
+        return fn(var("a"), fn(var("b"), var("b")));
+    }
+
+    @Value(memberName = "pseq")
+    public static <A, B> Applicable<A, Applicable<B, B>> pseq() {
+        return applicable(first -> applicable(result -> flatCallable(() -> {
+            first.call();
+            return result;
+        })));
+    }
+
+    @ValueType(forMember = "pseq")
+    public static Type pseq$type() {
+        return fn(var("a"), fn(var("b"), var("b")));
+    }
+}
@@ -0,0 +1,104 @@
+package scotch.control.parallel;
+
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import scotch.runtime.Callable;
+import scotch.runtime.Thunk;
+
+public final class SparkPool implements SparkPoolMXBean {
+
+    public static final String OBJECT_NAME          = "scotch.control.parallel:type=SparkPool";
+    public static final String PARALLELISM_PROPERTY = "scotch.sparks.parallelism";
+
+    private static final SparkPool INSTANCE = register(new SparkPool(
+        Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors())
+    ));
+
+    public static SparkPool sparkPool() {
+        return INSTANCE;
+    }
+
+    private static SparkPool register(SparkPool pool) {
+        try {
+            getPlatformMBeanServer().registerMBean(pool, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException exception) {
+            // another class loader already registered its pool, or management is unavailable
+        }
+        return pool;
+    }
+
+    private final ForkJoinPool pool;
+    private final LongAdder    created;
+    private final LongAdder    converted;
+    private final LongAdder    fizzled;
+
+    SparkPool(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.created = new LongAdder();
+        this.converted = new LongAdder();
+        this.fizzled = new LongAdder();
+    }
+
+    @Override
+    public long getConverted() {
+        return converted.sum();
+    }
+
+    @Override
+    public long getCreated() {
+        return created.sum();
+    }
+
+    @Override
+    public long getFizzled() {
+        return fizzled.sum();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public long getQueued() {
+        return pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount();
+    }
+
+    public boolean awaitQuiescence(long timeoutMillis) {
+        return pool.awaitQuiescence(timeoutMillis, MILLISECONDS);
+    }
+
+    public <A> Callable<A> spark(Callable<A> value) {
+        if (value instanceof Thunk && !((Thunk) value).isEvaluated()) {
+            created.increment();
+            ForkJoinTask<?> task = ForkJoinTask.adapt(() -> convert((Thunk) value));
+            Thread thread = Thread.currentThread();
+            if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool) {
+                task.fork();
+            } else {
+                pool.execute(task);
+            }
+        }
+        return value;
+    }
+
+    private void convert(Thunk<?> thunk) {
+        if (thunk.isEvaluated()) {
+            fizzled.increment();
+        } else {
+            converted.increment();
+            try {
+                thunk.call();
+            } catch (RuntimeException exception) {
+                // the consumer re-raises the failure when it forces the value itself
+            }
+        }
+    }
+}
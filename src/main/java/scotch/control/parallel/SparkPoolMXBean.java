@@ -0,0 +1,14 @@
+package scotch.control.parallel;
+
+public interface SparkPoolMXBean {
+
+    long getConverted();
+
+    long getCreated();
+
+    long getFizzled();
+
+    int getPoolSize();
+
+    long getQueued();
+}
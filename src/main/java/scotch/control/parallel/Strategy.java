@@ -0,0 +1,157 @@
+package scotch.control.parallel;
+
+import static java.util.Arrays.asList;
+import static scotch.control.parallel.SparkPool.sparkPool;
+import static scotch.runtime.NormalForm.force;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings({ "unused", "unchecked" })
+@DataType(memberName = "Strategy", parameters = {
+    @TypeParameter(name = "a"),
+})
+public final class Strategy<A> {
+
+    public static final Type TYPE = sum("scotch.control.parallel.Strategy", var("a"));
+
+    private static final Strategy R0       = new Strategy<>(value -> value);
+    private static final Strategy RSEQ     = new Strategy<>(value -> {
+        value.call();
+        return value;
+    });
+    private static final Strategy RPAR     = new Strategy<>(value -> sparkPool().spark(value));
+    private static final Strategy RDEEPSEQ = new Strategy<>(value -> {
+        force(value);
+        return value;
+    });
+
+    public static <A> Strategy<A> strategy(Function<Callable<A>, Callable<A>> function) {
+        return new Strategy<>(function);
+    }
+
+    public static Type strategyType(Type type) {
+        return sum("scotch.control.parallel.Strategy", type);
+    }
+
+    @Value(memberName = "parList")
+    public static <A> Applicable<Strategy<A>, Strategy<ConsList<A>>> parList() {
+        return applicable(inner -> callable(() -> strategy(list -> box(parallelize(list.call(), element -> inner.call().apply(element))))));
+    }
+
+    @ValueType(forMember = "parList")
+    public static Type parList$type() {
+        return fn(TYPE, strategyType(sum("scotch.data.list.[]", var("a"))));
+    }
+
+    @Value(memberName = "parMap")
+    public static <A, B> Applicable<Strategy<B>, Applicable<Applicable<A, B>, Applicable<ConsList<A>, ConsList<B>>>> parMap() {
+        return applicable(strategy -> applicable(function -> applicable(list -> callable(
+            () -> parallelize(list.call(), element -> strategy.call().apply(function.call().apply(element)))
+        ))));
+    }
+
+    @ValueType(forMember = "parMap")
+    public static Type parMap$type() {
+        return fn(strategyType(var("b")), fn(fn(var("a"), var("b")), fn(sum("scotch.data.list.[]", var("a")), sum("scotch.data.list.[]", var("b")))));
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("a"));
+    }
+
+    @Value(memberName = "r0")
+    public static <A> Callable<Strategy<A>> r0() {
+        return box(R0);
+    }
+
+    @ValueType(forMember = "r0")
+    public static Type r0$type() {
+        return TYPE;
+    }
+
+    @Value(memberName = "rdeepseq")
+    public static <A> Callable<Strategy<A>> rdeepseq() {
+        return box(RDEEPSEQ);
+    }
+
+    @ValueType(forMember = "rdeepseq")
+    public static Type rdeepseq$type() {
+        return TYPE;
+    }
+
+    @Value(memberName = "rpar")
+    public static <A> Callable<Strategy<A>> rpar() {
+        return box(RPAR);
+    }
+
+    @ValueType(forMember = "rpar")
+    public static Type rpar$type() {
+        return TYPE;
+    }
+
+    @Value(memberName = "rseq")
+    public static <A> Callable<Strategy<A>> rseq() {
+        return box(RSEQ);
+    }
+
+    @ValueType(forMember = "rseq")
+    public static Type rseq$type() {
+        return TYPE;
+    }
+
+    @Value(memberName = "using")
+    public static <A> Applicable<A, Applicable<Strategy<A>, A>> using() {
+        return applicable(value -> applicable(strategy -> flatCallable(() -> strategy.call().apply(value))));
+    }
+
+    @ValueType(forMember = "using")
+    public static Type using$type() {
+        return fn(var("a"), fn(TYPE, var("a")));
+    }
+
+    private static <A, B> ConsList<B> parallelize(ConsList<A> list, Function<Callable<A>, Callable<B>> evaluation) {
+        List<Callable<B>> sparks = new ArrayList<>();
+        ConsList<A> current = list;
+        while (current instanceof ConsCell) {
+            Callable<A> head = ((ConsCell<A>) current).getHead();
+            sparks.add(sparkPool().spark(flatCallable(() -> evaluation.apply(head))));
+            current = ((ConsCell<A>) current).getTail().call();
+        }
+        Callable<ConsList<B>> result = ConsList.empty();
+        for (int i = sparks.size() - 1; i >= 0; i--) {
+            ConsList<B> cell = new ConsCell<>(sparks.get(i), result);
+            result = box(cell);
+        }
+        return result.call();
+    }
+
+    private final Function<Callable<A>, Callable<A>> function;
+
+    private Strategy(Function<Callable<A>, Callable<A>> function) {
+        this.function = function;
+    }
+
+    public Callable<A> apply(Callable<A> value) {
+        return function.apply(value);
+    }
+}
@@ -0,0 +1,273 @@
+package scotch.data.bytestring;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import scotch.data.int_.Int;
+import scotch.data.list.ConsList;
+import scotch.data.string.String_;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@DataType(memberName = "ByteString")
+public final class ByteString implements Comparable<ByteString> {
+
+    public static final Type TYPE = sum("scotch.data.bytestring.ByteString");
+
+    private static final ByteString EMPTY = new ByteString(new byte[0], 0, 0);
+
+    public static ByteString copyOf(byte[] bytes) {
+        return wrap(Arrays.copyOf(bytes, bytes.length), 0, bytes.length);
+    }
+
+    public static ByteString fromString(String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        return wrap(bytes, 0, bytes.length);
+    }
+
+    public static ByteString wrap(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("Slice [" + offset + ", " + (offset + length) + ") is outside of " + bytes.length + " bytes");
+        } else if (length == 0) {
+            return EMPTY;
+        } else {
+            return new ByteString(bytes, offset, length);
+        }
+    }
+
+    @Value(memberName = "drop")
+    public static Applicable<Integer, Applicable<ByteString, ByteString>> drop() {
+        return applicable(count -> applicable(value -> callable(() -> value.call().drop(count.call()))));
+    }
+
+    @ValueType(forMember = "drop")
+    public static Type drop$type() {
+        return fn(Int.TYPE, fn(TYPE, TYPE));
+    }
+
+    @Value(memberName = "foldl'")
+    public static <B> Applicable<Applicable<B, Applicable<Integer, B>>, Applicable<B, Applicable<ByteString, B>>> foldl() {
+        return applicable(function -> applicable(initial -> applicable(value -> flatCallable(() -> value.call().foldl(function.call(), initial)))));
+    }
+
+    @ValueType(forMember = "foldl'")
+    public static Type foldl$type() {
+        return fn(fn(var("b"), fn(Int.TYPE, var("b"))), fn(var("b"), fn(TYPE, var("b"))));
+    }
+
+    @Value(memberName = "length")
+    public static Applicable<ByteString, Integer> length_() {
+        return applicable(value -> callable(() -> value.call().length()));
+    }
+
+    @ValueType(forMember = "length")
+    public static Type length$type() {
+        return fn(TYPE, Int.TYPE);
+    }
+
+    @Value(memberName = "lines")
+    public static Applicable<ByteString, ConsList<ByteString>> lines_() {
+        return applicable(value -> callable(() -> ConsList.fromList(value.call().lines())));
+    }
+
+    @ValueType(forMember = "lines")
+    public static Type lines$type() {
+        return fn(TYPE, sum("scotch.data.list.[]", TYPE));
+    }
+
+    @Value(memberName = "pack")
+    public static Applicable<String, ByteString> pack() {
+        return applicable(value -> callable(() -> fromString(value.call())));
+    }
+
+    @ValueType(forMember = "pack")
+    public static Type pack$type() {
+        return fn(String_.TYPE, TYPE);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return ImmutableList.of();
+    }
+
+    @Value(memberName = "split")
+    public static Applicable<Integer, Applicable<ByteString, ConsList<ByteString>>> split() {
+        return applicable(separator -> applicable(value -> callable(() -> ConsList.fromList(value.call().split((byte) (int) separator.call())))));
+    }
+
+    @ValueType(forMember = "split")
+    public static Type split$type() {
+        return fn(Int.TYPE, fn(TYPE, sum("scotch.data.list.[]", TYPE)));
+    }
+
+    @Value(memberName = "take")
+    public static Applicable<Integer, Applicable<ByteString, ByteString>> take() {
+        return applicable(count -> applicable(value -> callable(() -> value.call().take(count.call()))));
+    }
+
+    @ValueType(forMember = "take")
+    public static Type take$type() {
+        return fn(Int.TYPE, fn(TYPE, TYPE));
+    }
+
+    @Value(memberName = "unpack")
+    public static Applicable<ByteString, String> unpack() {
+        return applicable(value -> callable(() -> value.call().toString()));
+    }
+
+    @ValueType(forMember = "unpack")
+    public static Type unpack$type() {
+        return fn(TYPE, String_.TYPE);
+    }
+
+    private final byte[] bytes;
+    private final int    offset;
+    private final int    length;
+    private       int    hash;
+
+    private ByteString(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes, offset, length).asReadOnlyBuffer();
+    }
+
+    public int byteAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside of " + length + " bytes");
+        }
+        return bytes[offset + index] & 0xFF;
+    }
+
+    @Override
+    public int compareTo(ByteString other) {
+        int index = mismatch(other);
+        if (index == -1) {
+            return 0;
+        } else if (index == length || index == other.length) {
+            return Integer.compare(length, other.length);
+        } else {
+            return Integer.compare(bytes[offset + index] & 0xFF, other.bytes[other.offset + index] & 0xFF);
+        }
+    }
+
+    public ByteString drop(int count) {
+        int dropped = Math.max(0, Math.min(count, length));
+        return wrap(bytes, offset + dropped, length - dropped);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof ByteString) {
+            ByteString other = (ByteString) o;
+            return length == other.length && mismatch(other) == -1;
+        } else {
+            return false;
+        }
+    }
+
+    public <B> Callable<B> foldl(Applicable<B, Applicable<Integer, B>> function, Callable<B> initial) {
+        B accumulator = initial.call();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accumulator = function.apply(box(accumulator)).call().apply(box(bytes[i] & 0xFF)).call();
+        }
+        return box(accumulator);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0 && length > 0) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                result = 31 * result + bytes[i];
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    public int indexOf(byte value, int from) {
+        for (int i = offset + Math.max(0, from), end = offset + length; i < end; i++) {
+            if (bytes[i] == value) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public List<ByteString> lines() {
+        List<ByteString> lines = split((byte) '\n');
+        if (!lines.isEmpty() && lines.get(lines.size() - 1).length == 0) {
+            lines.remove(lines.size() - 1);
+        }
+        return lines;
+    }
+
+    public int mismatch(ByteString other) {
+        int common = Math.min(length, other.length);
+        byte[] left = bytes;
+        byte[] right = other.bytes;
+        int leftOffset = offset;
+        int rightOffset = other.offset;
+        for (int i = 0; i < common; i++) {
+            if (left[leftOffset + i] != right[rightOffset + i]) {
+                return i;
+            }
+        }
+        return length == other.length ? -1 : common;
+    }
+
+    public List<ByteString> split(byte separator) {
+        List<ByteString> parts = new ArrayList<>();
+        if (length == 0) {
+            return parts;
+        }
+        int start = 0;
+        int index;
+        while ((index = indexOf(separator, start)) != -1) {
+            parts.add(wrap(bytes, offset + start, index - start));
+            start = index + 1;
+        }
+        parts.add(wrap(bytes, offset + start, length - start));
+        return parts;
+    }
+
+    public ByteString take(int count) {
+        return wrap(bytes, offset, Math.max(0, Math.min(count, length)));
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, UTF_8);
+    }
+}
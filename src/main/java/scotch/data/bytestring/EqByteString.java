@@ -0,0 +1,38 @@
+package scotch.data.bytestring;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.List;
+import scotch.data.eq.Eq;
+import scotch.runtime.Callable;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.eq.Eq")
+public class EqByteString implements Eq<ByteString> {
+
+    private static final Callable<EqByteString> INSTANCE = callable(EqByteString::new);
+
+    @InstanceGetter
+    public static Callable<EqByteString> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(ByteString.TYPE);
+    }
+
+    private EqByteString() {
+        // intentionally empty
+    }
+
+    @Override
+    public Callable<Boolean> eq(Callable<ByteString> left, Callable<ByteString> right) {
+        return callable(() -> left.call().equals(right.call()));
+    }
+}
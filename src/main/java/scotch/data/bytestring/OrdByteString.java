@@ -0,0 +1,55 @@
+package scotch.data.bytestring;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.util.List;
+import scotch.data.eq.Eq;
+import scotch.data.ord.Ord;
+import scotch.data.ord.Ordering;
+import scotch.runtime.Callable;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.ord.Ord")
+public class OrdByteString implements Ord<ByteString> {
+
+    private static final Callable<OrdByteString> INSTANCE = callable(OrdByteString::new);
+
+    @InstanceGetter
+    public static Callable<OrdByteString> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(ByteString.TYPE);
+    }
+
+    private OrdByteString() {
+        // intentionally empty
+    }
+
+    @Override
+    public Callable<Ordering> compare(Callable<Eq<ByteString>> eq, Callable<ByteString> left, Callable<ByteString> right) {
+        return flatCallable(() -> {
+            int comparison = left.call().compareTo(right.call());
+            if (comparison == 0) {
+                return Ordering.equalTo();
+            } else if (comparison < 0) {
+                return Ordering.lessThan();
+            } else {
+                return Ordering.greaterThan();
+            }
+        });
+    }
+
+    @Override
+    public Callable<Boolean> lessThanEquals(Callable<Eq<ByteString>> eq, Callable<ByteString> left, Callable<ByteString> right) {
+        return callable(() -> left.call().compareTo(right.call()) <= 0);
+    }
+}
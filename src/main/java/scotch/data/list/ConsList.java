@@ -60,6 +60,15 @@ public abstract class ConsList<A> {
         return (Callable) EMPTY;
     }
 
+    public static <T> ConsList<T> fromList(List<T> values) {
+        Callable<ConsList<T>> tail = empty();
+        for (int i = values.size() - 1; i >= 0; i--) {
+            ConsList<T> cell = new ConsCell<>(box(values.get(i)), tail);
+            tail = box(cell);
+        }
+        return tail.call();
+    }
+
     @ValueType(forMember = "[]")
     public static Type empty$type() {
         return sum("scotch.data.list.[]", var("a"));
@@ -0,0 +1,38 @@
+package scotch.data.text;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.List;
+import scotch.data.eq.Eq;
+import scotch.runtime.Callable;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.eq.Eq")
+public class EqText implements Eq<Text> {
+
+    private static final Callable<EqText> INSTANCE = callable(EqText::new);
+
+    @InstanceGetter
+    public static Callable<EqText> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(Text.TYPE);
+    }
+
+    private EqText() {
+        // intentionally empty
+    }
+
+    @Override
+    public Callable<Boolean> eq(Callable<Text> left, Callable<Text> right) {
+        return callable(() -> left.call().equals(right.call()));
+    }
+}
@@ -0,0 +1,55 @@
+package scotch.data.text;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.util.List;
+import scotch.data.eq.Eq;
+import scotch.data.ord.Ord;
+import scotch.data.ord.Ordering;
+import scotch.runtime.Callable;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.ord.Ord")
+public class OrdText implements Ord<Text> {
+
+    private static final Callable<OrdText> INSTANCE = callable(OrdText::new);
+
+    @InstanceGetter
+    public static Callable<OrdText> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(Text.TYPE);
+    }
+
+    private OrdText() {
+        // intentionally empty
+    }
+
+    @Override
+    public Callable<Ordering> compare(Callable<Eq<Text>> eq, Callable<Text> left, Callable<Text> right) {
+        return flatCallable(() -> {
+            int comparison = left.call().compareTo(right.call());
+            if (comparison == 0) {
+                return Ordering.equalTo();
+            } else if (comparison < 0) {
+                return Ordering.lessThan();
+            } else {
+                return Ordering.greaterThan();
+            }
+        });
+    }
+
+    @Override
+    public Callable<Boolean> lessThanEquals(Callable<Eq<Text>> eq, Callable<Text> left, Callable<Text> right) {
+        return callable(() -> left.call().compareTo(right.call()) <= 0);
+    }
+}
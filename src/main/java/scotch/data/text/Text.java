@@ -0,0 +1,336 @@
+package scotch.data.text;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import scotch.data.bytestring.ByteString;
+import scotch.data.int_.Int;
+import scotch.data.list.ConsList;
+import scotch.data.string.String_;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@DataType(memberName = "Text")
+public final class Text implements Comparable<Text>, CharSequence {
+
+    public static final Type TYPE = sum("scotch.data.text.Text");
+
+    private static final Type CHAR  = sum("scotch.data.char.Char");
+    private static final Text EMPTY = new Text(new char[0], 0, 0);
+
+    public static Text copyOf(char[] chars) {
+        return wrap(Arrays.copyOf(chars, chars.length), 0, chars.length);
+    }
+
+    public static Text decode(ByteString bytes) {
+        CharBuffer chars = UTF_8.decode(bytes.asByteBuffer());
+        return wrap(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+    }
+
+    public static Text fromString(String value) {
+        return wrap(value.toCharArray(), 0, value.length());
+    }
+
+    public static Text wrap(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > chars.length) {
+            throw new IndexOutOfBoundsException("Slice [" + offset + ", " + (offset + length) + ") is outside of " + chars.length + " chars");
+        } else if (length == 0) {
+            return EMPTY;
+        } else {
+            return new Text(chars, offset, length);
+        }
+    }
+
+    @Value(memberName = "decodeUtf8")
+    public static Applicable<ByteString, Text> decodeUtf8() {
+        return applicable(value -> callable(() -> decode(value.call())));
+    }
+
+    @ValueType(forMember = "decodeUtf8")
+    public static Type decodeUtf8$type() {
+        return fn(ByteString.TYPE, TYPE);
+    }
+
+    @Value(memberName = "drop")
+    public static Applicable<Integer, Applicable<Text, Text>> drop() {
+        return applicable(count -> applicable(value -> callable(() -> value.call().drop(count.call()))));
+    }
+
+    @ValueType(forMember = "drop")
+    public static Type drop$type() {
+        return fn(Int.TYPE, fn(TYPE, TYPE));
+    }
+
+    @Value(memberName = "encodeUtf8")
+    public static Applicable<Text, ByteString> encodeUtf8() {
+        return applicable(value -> callable(() -> value.call().encode()));
+    }
+
+    @ValueType(forMember = "encodeUtf8")
+    public static Type encodeUtf8$type() {
+        return fn(TYPE, ByteString.TYPE);
+    }
+
+    @Value(memberName = "foldl'")
+    public static <B> Applicable<Applicable<B, Applicable<Character, B>>, Applicable<B, Applicable<Text, B>>> foldl() {
+        return applicable(function -> applicable(initial -> applicable(value -> flatCallable(() -> value.call().foldl(function.call(), initial)))));
+    }
+
+    @ValueType(forMember = "foldl'")
+    public static Type foldl$type() {
+        return fn(fn(var("b"), fn(CHAR, var("b"))), fn(var("b"), fn(TYPE, var("b"))));
+    }
+
+    @Value(memberName = "length")
+    public static Applicable<Text, Integer> length_() {
+        return applicable(value -> callable(() -> value.call().length()));
+    }
+
+    @ValueType(forMember = "length")
+    public static Type length$type() {
+        return fn(TYPE, Int.TYPE);
+    }
+
+    @Value(memberName = "lines")
+    public static Applicable<Text, ConsList<Text>> lines_() {
+        return applicable(value -> callable(() -> ConsList.fromList(value.call().lines())));
+    }
+
+    @ValueType(forMember = "lines")
+    public static Type lines$type() {
+        return fn(TYPE, sum("scotch.data.list.[]", TYPE));
+    }
+
+    @Value(memberName = "pack")
+    public static Applicable<String, Text> pack() {
+        return applicable(value -> callable(() -> fromString(value.call())));
+    }
+
+    @ValueType(forMember = "pack")
+    public static Type pack$type() {
+        return fn(String_.TYPE, TYPE);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return ImmutableList.of();
+    }
+
+    @Value(memberName = "split")
+    public static Applicable<Character, Applicable<Text, ConsList<Text>>> split() {
+        return applicable(separator -> applicable(value -> callable(() -> ConsList.fromList(value.call().split(separator.call())))));
+    }
+
+    @ValueType(forMember = "split")
+    public static Type split$type() {
+        return fn(CHAR, fn(TYPE, sum("scotch.data.list.[]", TYPE)));
+    }
+
+    @Value(memberName = "take")
+    public static Applicable<Integer, Applicable<Text, Text>> take() {
+        return applicable(count -> applicable(value -> callable(() -> value.call().take(count.call()))));
+    }
+
+    @ValueType(forMember = "take")
+    public static Type take$type() {
+        return fn(Int.TYPE, fn(TYPE, TYPE));
+    }
+
+    @Value(memberName = "unpack")
+    public static Applicable<Text, String> unpack() {
+        return applicable(value -> callable(() -> value.call().toString()));
+    }
+
+    @ValueType(forMember = "unpack")
+    public static Type unpack$type() {
+        return fn(TYPE, String_.TYPE);
+    }
+
+    @Value(memberName = "words")
+    public static Applicable<Text, ConsList<Text>> words_() {
+        return applicable(value -> callable(() -> ConsList.fromList(value.call().words())));
+    }
+
+    @ValueType(forMember = "words")
+    public static Type words$type() {
+        return fn(TYPE, sum("scotch.data.list.[]", TYPE));
+    }
+
+    private final char[] chars;
+    private final int    offset;
+    private final int    length;
+    private       int    hash;
+
+    private Text(char[] chars, int offset, int length) {
+        this.chars = chars;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside of " + length + " chars");
+        }
+        return chars[offset + index];
+    }
+
+    @Override
+    public int compareTo(Text other) {
+        int index = mismatch(other);
+        if (index == -1) {
+            return 0;
+        } else if (index == length || index == other.length) {
+            return Integer.compare(length, other.length);
+        } else {
+            return Character.compare(chars[offset + index], other.chars[other.offset + index]);
+        }
+    }
+
+    public Text drop(int count) {
+        int dropped = Math.max(0, Math.min(count, length));
+        return wrap(chars, offset + dropped, length - dropped);
+    }
+
+    public ByteString encode() {
+        ByteBuffer bytes = UTF_8.encode(CharBuffer.wrap(chars, offset, length));
+        return ByteString.wrap(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof Text) {
+            Text other = (Text) o;
+            return length == other.length && mismatch(other) == -1;
+        } else {
+            return false;
+        }
+    }
+
+    public <B> Callable<B> foldl(Applicable<B, Applicable<Character, B>> function, Callable<B> initial) {
+        B accumulator = initial.call();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            accumulator = function.apply(box(accumulator)).call().apply(box(chars[i])).call();
+        }
+        return box(accumulator);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0 && length > 0) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                result = 31 * result + chars[i];
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    public int indexOf(char value, int from) {
+        for (int i = offset + Math.max(0, from), end = offset + length; i < end; i++) {
+            if (chars[i] == value) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    public List<Text> lines() {
+        List<Text> lines = split('\n');
+        if (!lines.isEmpty() && lines.get(lines.size() - 1).length == 0) {
+            lines.remove(lines.size() - 1);
+        }
+        return lines;
+    }
+
+    public int mismatch(Text other) {
+        int common = Math.min(length, other.length);
+        char[] left = chars;
+        char[] right = other.chars;
+        int leftOffset = offset;
+        int rightOffset = other.offset;
+        for (int i = 0; i < common; i++) {
+            if (left[leftOffset + i] != right[rightOffset + i]) {
+                return i;
+            }
+        }
+        return length == other.length ? -1 : common;
+    }
+
+    public List<Text> split(char separator) {
+        List<Text> parts = new ArrayList<>();
+        if (length == 0) {
+            return parts;
+        }
+        int start = 0;
+        int index;
+        while ((index = indexOf(separator, start)) != -1) {
+            parts.add(wrap(chars, offset + start, index - start));
+            start = index + 1;
+        }
+        parts.add(wrap(chars, offset + start, length - start));
+        return parts;
+    }
+
+    @Override
+    public Text subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Slice [" + start + ", " + end + ") is outside of " + length + " chars");
+        }
+        return wrap(chars, offset + start, end - start);
+    }
+
+    public Text take(int count) {
+        return wrap(chars, offset, Math.max(0, Math.min(count, length)));
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, offset, length);
+    }
+
+    public List<Text> words() {
+        List<Text> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(chars[offset + i])) {
+                if (start != -1) {
+                    words.add(wrap(chars, offset + start, i - start));
+                    start = -1;
+                }
+            } else if (start == -1) {
+                start = i;
+            }
+        }
+        if (start != -1) {
+            words.add(wrap(chars, offset + start, length - start));
+        }
+        return words;
+    }
+}
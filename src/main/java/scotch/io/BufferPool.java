@@ -0,0 +1,38 @@
+package scotch.io;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class BufferPool {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int               MAX_POOLED = 64;
+    private static final Queue<ByteBuffer> buffers    = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger     pooled     = new AtomicInteger();
+
+    static ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        } else {
+            pooled.decrementAndGet();
+            buffer.clear();
+            return buffer;
+        }
+    }
+
+    static void release(ByteBuffer buffer) {
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            buffers.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    private BufferPool() {
+        // intentionally empty
+    }
+}
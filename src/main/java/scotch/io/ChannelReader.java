@@ -0,0 +1,124 @@
+package scotch.io;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.file.Path;
+
+final class ChannelReader implements Closeable {
+
+    static ChannelReader open(Path path) throws IOException {
+        return new ChannelReader(FileChannel.open(path, READ));
+    }
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder      decoder;
+    private final StringBuilder       builder;
+    private final CharBuffer          chars;
+    private       ByteBuffer          bytes;
+    private       boolean             endOfInput;
+    private       boolean             decoded;
+
+    ChannelReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.decoder = UTF_8.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+        this.builder = new StringBuilder();
+        this.bytes = BufferPool.acquire();
+        this.chars = CharBuffer.allocate(bytes.capacity());
+        this.chars.flip();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (bytes != null) {
+            BufferPool.release(bytes);
+            bytes = null;
+            channel.close();
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return bytes != null;
+    }
+
+    public synchronized String readChunk(int size) throws IOException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got " + size);
+        }
+        ensureOpen();
+        builder.setLength(0);
+        while (builder.length() < size) {
+            if (!chars.hasRemaining() && !fill()) {
+                break;
+            }
+            int length = Math.min(size - builder.length(), chars.remaining());
+            builder.append(chars.array(), chars.position(), length);
+            chars.position(chars.position() + length);
+        }
+        return finish();
+    }
+
+    public synchronized String readLine() throws IOException {
+        ensureOpen();
+        builder.setLength(0);
+        while (chars.hasRemaining() || fill()) {
+            int start = chars.position();
+            int limit = chars.limit();
+            for (int i = start; i < limit; i++) {
+                if (chars.get(i) == '\n') {
+                    builder.append(chars.array(), start, i - start);
+                    chars.position(i + 1);
+                    int length = builder.length();
+                    if (length > 0 && builder.charAt(length - 1) == '\r') {
+                        builder.setLength(length - 1);
+                    }
+                    return builder.toString();
+                }
+            }
+            builder.append(chars.array(), start, limit - start);
+            chars.position(limit);
+        }
+        return finish();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (bytes == null) {
+            throw new IOException("Channel reader is closed");
+        }
+    }
+
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (chars.position() == 0 && !decoded) {
+            if (!endOfInput) {
+                endOfInput = channel.read(bytes) == -1;
+            }
+            bytes.flip();
+            decoder.decode(bytes, chars, endOfInput);
+            bytes.compact();
+            if (endOfInput) {
+                decoder.flush(chars);
+                decoded = true;
+            }
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+    private String finish() throws IOException {
+        if (builder.length() > 0) {
+            return builder.toString();
+        } else {
+            close();
+            return null;
+        }
+    }
+}
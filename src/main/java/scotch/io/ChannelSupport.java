@@ -0,0 +1,79 @@
+package scotch.io;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+
+final class ChannelSupport {
+
+    static String readString(ReadableByteChannel channel) throws IOException {
+        CharsetDecoder decoder = UTF_8.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+        StringBuilder builder = new StringBuilder();
+        ByteBuffer bytes = BufferPool.acquire();
+        CharBuffer chars = CharBuffer.allocate(bytes.capacity());
+        try {
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = channel.read(bytes) == -1;
+                bytes.flip();
+                decoder.decode(bytes, chars, endOfInput);
+                chars.flip();
+                builder.append(chars);
+                chars.clear();
+                bytes.compact();
+            }
+            decoder.flush(chars);
+            chars.flip();
+            builder.append(chars);
+            return builder.toString();
+        } finally {
+            BufferPool.release(bytes);
+        }
+    }
+
+    static long transfer(FileChannel source, WritableByteChannel target) throws IOException {
+        long size = source.size();
+        long position = 0;
+        while (position < size) {
+            position += source.transferTo(position, size - position, target);
+        }
+        return position;
+    }
+
+    static int writeString(WritableByteChannel channel, String value) throws IOException {
+        CharsetEncoder encoder = UTF_8.newEncoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+        CharBuffer chars = CharBuffer.wrap(value);
+        ByteBuffer bytes = BufferPool.acquire();
+        int written = 0;
+        try {
+            boolean flushed = false;
+            while (!flushed) {
+                if (chars.hasRemaining()) {
+                    encoder.encode(chars, bytes, true);
+                } else {
+                    flushed = encoder.flush(bytes).isUnderflow();
+                }
+                bytes.flip();
+                while (bytes.hasRemaining()) {
+                    written += channel.write(bytes);
+                }
+                bytes.clear();
+            }
+            return written;
+        } finally {
+            BufferPool.release(bytes);
+        }
+    }
+
+    private ChannelSupport() {
+        // intentionally empty
+    }
+}
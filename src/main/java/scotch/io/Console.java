@@ -0,0 +1,25 @@
+package scotch.io;
+
+import java.io.PrintStream;
+
+public final class Console {
+
+    private static final ThreadLocal<PrintStream> out = new ThreadLocal<>();
+
+    public static PrintStream out() {
+        PrintStream stream = out.get();
+        return stream == null ? System.out : stream;
+    }
+
+    public static void resetOut() {
+        out.remove();
+    }
+
+    public static void setOut(PrintStream stream) {
+        out.set(stream);
+    }
+
+    private Console() {
+        // intentionally empty
+    }
+}
@@ -0,0 +1,17 @@
+package scotch.io;
+
+public class ExitException extends RuntimeException {
+
+    private static final long serialVersionUID = 7325381920551873564L;
+
+    private final int status;
+
+    public ExitException(int status) {
+        super("Exited with status " + status);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
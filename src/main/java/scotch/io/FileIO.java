@@ -0,0 +1,115 @@
+package scotch.io;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static scotch.io.ChannelSupport.readString;
+import static scotch.io.ChannelSupport.transfer;
+import static scotch.io.ChannelSupport.writeString;
+import static scotch.io.IO.io;
+import static scotch.io.IO.ioType;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.var;
+
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import scotch.data.int_.Int;
+import scotch.data.string.String_;
+import scotch.runtime.Applicable;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class FileIO {
+
+    @Value(memberName = "appendFile")
+    public static Applicable<String, Applicable<String, IO<Integer>>> appendFile() {
+        return applicable(path -> applicable(contents -> callable(() -> io(() -> {
+            try (FileChannel channel = FileChannel.open(Paths.get(path.call()), WRITE, CREATE, APPEND)) {
+                return writeString(channel, contents.call());
+            }
+        }))));
+    }
+
+    @ValueType(forMember = "appendFile")
+    public static Type appendFile$type() {
+        return fn(String_.TYPE, fn(String_.TYPE, ioType(Int.TYPE)));
+    }
+
+    @Value(memberName = "copyFile")
+    public static Applicable<String, Applicable<String, IO<Integer>>> copyFile() {
+        return applicable(source -> applicable(target -> callable(() -> io(() -> {
+            try (FileChannel in = FileChannel.open(Paths.get(source.call()), READ);
+                 FileChannel out = FileChannel.open(Paths.get(target.call()), WRITE, CREATE, TRUNCATE_EXISTING)) {
+                return Math.toIntExact(transfer(in, out));
+            }
+        }))));
+    }
+
+    @ValueType(forMember = "copyFile")
+    public static Type copyFile$type() {
+        return fn(String_.TYPE, fn(String_.TYPE, ioType(Int.TYPE)));
+    }
+
+    @Value(memberName = "exitWith")
+    public static <A> Applicable<Integer, IO<A>> exitWith() {
+        return applicable(status -> callable(() -> io(() -> {
+            throw new ExitException(status.call());
+        })));
+    }
+
+    @ValueType(forMember = "exitWith")
+    public static Type exitWith$type() {
+        return fn(Int.TYPE, ioType(var("a")));
+    }
+
+    @Value(memberName = "putStr")
+    public static Applicable<String, IO<Integer>> putStr() {
+        return applicable(contents -> callable(() -> io(() -> {
+            PrintStream out = Console.out();
+            int written = writeString(Channels.newChannel(out), contents.call());
+            out.flush();
+            return written;
+        })));
+    }
+
+    @ValueType(forMember = "putStr")
+    public static Type putStr$type() {
+        return fn(String_.TYPE, ioType(Int.TYPE));
+    }
+
+    @Value(memberName = "readFile")
+    public static Applicable<String, IO<String>> readFile() {
+        return applicable(path -> callable(() -> io(() -> {
+            try (FileChannel channel = FileChannel.open(Paths.get(path.call()), READ)) {
+                return readString(channel);
+            }
+        })));
+    }
+
+    @ValueType(forMember = "readFile")
+    public static Type readFile$type() {
+        return fn(String_.TYPE, ioType(String_.TYPE));
+    }
+
+    @Value(memberName = "writeFile")
+    public static Applicable<String, Applicable<String, IO<Integer>>> writeFile() {
+        return applicable(path -> applicable(contents -> callable(() -> io(() -> {
+            try (FileChannel channel = FileChannel.open(Paths.get(path.call()), WRITE, CREATE, TRUNCATE_EXISTING)) {
+                return writeString(channel, contents.call());
+            }
+        }))));
+    }
+
+    @ValueType(forMember = "writeFile")
+    public static Type writeFile$type() {
+        return fn(String_.TYPE, fn(String_.TYPE, ioType(Int.TYPE)));
+    }
+}
@@ -0,0 +1,140 @@
+package scotch.io;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings({ "unused", "unchecked" })
+@DataType(memberName = "IO", parameters = {
+    @TypeParameter(name = "a"),
+})
+public abstract class IO<A> {
+
+    public static final Type TYPE = sum("scotch.io.IO", var("a"));
+
+    public static Type ioType(Type type) {
+        return sum("scotch.io.IO", type);
+    }
+
+    public static <A> IO<A> io(Action<A> action) {
+        return new Effect<>(action);
+    }
+
+    public static <A> IO<A> pure(Callable<A> value) {
+        return new Pure<>(value);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("a"));
+    }
+
+    @Value(memberName = "unsafePerformIO")
+    public static <A> Applicable<IO<A>, A> unsafePerformIO() {
+        return applicable(io -> callable(() -> io.call().run().call()));
+    }
+
+    @ValueType(forMember = "unsafePerformIO")
+    public static Type unsafePerformIO$type() {
+        return fn(TYPE, var("a"));
+    }
+
+    private IO() {
+        // intentionally empty
+    }
+
+    public <B> IO<B> flatMap(Applicable<A, IO<B>> transformer) {
+        return new Bind<>(this, transformer);
+    }
+
+    public Callable<A> run() {
+        Deque<Applicable> continuations = new ArrayDeque<>();
+        IO current = this;
+        while (true) {
+            if (current instanceof Bind) {
+                continuations.push(((Bind) current).transformer);
+                current = ((Bind) current).source;
+            } else {
+                Callable value = current.step();
+                if (continuations.isEmpty()) {
+                    return value;
+                }
+                current = (IO) continuations.pop().apply(value).call();
+            }
+        }
+    }
+
+    protected abstract Callable<A> step();
+
+    @FunctionalInterface
+    public interface Action<A> {
+
+        A perform() throws IOException;
+    }
+
+    private static final class Bind<A, B> extends IO<B> {
+
+        private final IO<A>                source;
+        private final Applicable<A, IO<B>> transformer;
+
+        public Bind(IO<A> source, Applicable<A, IO<B>> transformer) {
+            this.source = source;
+            this.transformer = transformer;
+        }
+
+        @Override
+        protected Callable<B> step() {
+            throw new IllegalStateException("Bind is unwound by run()");
+        }
+    }
+
+    private static final class Effect<A> extends IO<A> {
+
+        private final Action<A> action;
+
+        public Effect(Action<A> action) {
+            this.action = action;
+        }
+
+        @Override
+        protected Callable<A> step() {
+            try {
+                return box(action.perform());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    private static final class Pure<A> extends IO<A> {
+
+        private final Callable<A> value;
+
+        public Pure(Callable<A> value) {
+            this.value = value;
+        }
+
+        @Override
+        protected Callable<A> step() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package scotch.io;
+
+import static java.util.Arrays.asList;
+import static scotch.io.IO.pure;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.sum;
+
+import java.util.List;
+import scotch.control.monad.Monad;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.runtime.RaisedException;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings({ "unused", "unchecked" })
+@TypeInstance(typeClass = "scotch.control.monad.Monad")
+public class MonadIO implements Monad {
+
+    private static final Callable<MonadIO> INSTANCE = callable(MonadIO::new);
+
+    private MonadIO() {
+        // intentionally empty
+    }
+
+    @InstanceGetter
+    public static Callable<MonadIO> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(sum("scotch.io.IO"));
+    }
+
+    @Override
+    public Callable bind(Callable value, Applicable transformer) {
+        return callable(() -> ((IO) value.call()).flatMap(transformer));
+    }
+
+    @Override
+    public Callable fail(Callable message) {
+        return callable(() -> IO.io(() -> {
+            throw new RaisedException((String) message.call());
+        }));
+    }
+
+    @Override
+    public Callable then(Callable firstValue, Callable nextValue) {
+        return callable(() -> ((IO) firstValue.call()).flatMap(ignored -> nextValue));
+    }
+
+    @Override
+    public Callable wrap(Callable value) {
+        return callable(() -> pure(value));
+    }
+}
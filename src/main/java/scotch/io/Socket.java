@@ -0,0 +1,50 @@
+package scotch.io;
+
+import static scotch.symbol.type.Types.sum;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import scotch.symbol.DataType;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@DataType(memberName = "Socket")
+public final class Socket {
+
+    public static final Type TYPE = sum("scotch.io.Socket");
+
+    public static Socket socket(SocketChannel channel) {
+        return new Socket(channel);
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return ImmutableList.of();
+    }
+
+    private final SocketChannel channel;
+
+    private Socket(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public String toString() {
+        return "Socket(" + channel + ")";
+    }
+}
@@ -0,0 +1,72 @@
+package scotch.io;
+
+import static scotch.io.ChannelSupport.readString;
+import static scotch.io.ChannelSupport.writeString;
+import static scotch.io.IO.io;
+import static scotch.io.IO.ioType;
+import static scotch.io.Socket.socket;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.fn;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import scotch.data.bool.Bool;
+import scotch.data.int_.Int;
+import scotch.data.string.String_;
+import scotch.runtime.Applicable;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class SocketIO {
+
+    @Value(memberName = "close")
+    public static Applicable<Socket, IO<Boolean>> close() {
+        return applicable(socket -> callable(() -> io(() -> {
+            boolean wasOpen = socket.call().isOpen();
+            socket.call().close();
+            return wasOpen;
+        })));
+    }
+
+    @ValueType(forMember = "close")
+    public static Type close$type() {
+        return fn(Socket.TYPE, ioType(Bool.TYPE));
+    }
+
+    @Value(memberName = "connect")
+    public static Applicable<String, Applicable<Integer, IO<Socket>>> connect() {
+        return applicable(host -> applicable(port -> callable(() -> io(
+            () -> socket(SocketChannel.open(new InetSocketAddress(host.call(), port.call())))
+        ))));
+    }
+
+    @ValueType(forMember = "connect")
+    public static Type connect$type() {
+        return fn(String_.TYPE, fn(Int.TYPE, ioType(Socket.TYPE)));
+    }
+
+    @Value(memberName = "receive")
+    public static Applicable<Socket, IO<String>> receive() {
+        return applicable(socket -> callable(() -> io(() -> readString(socket.call().getChannel()))));
+    }
+
+    @ValueType(forMember = "receive")
+    public static Type receive$type() {
+        return fn(Socket.TYPE, ioType(String_.TYPE));
+    }
+
+    @Value(memberName = "send")
+    public static Applicable<Socket, Applicable<String, IO<Integer>>> send() {
+        return applicable(socket -> applicable(message -> callable(() -> io(
+            () -> writeString(socket.call().getChannel(), message.call())
+        ))));
+    }
+
+    @ValueType(forMember = "send")
+    public static Type send$type() {
+        return fn(Socket.TYPE, fn(String_.TYPE, ioType(Int.TYPE)));
+    }
+}
@@ -0,0 +1,96 @@
+package scotch.io;
+
+import static scotch.io.IO.io;
+import static scotch.io.IO.ioType;
+import static scotch.io.IO.pure;
+import static scotch.runtime.NormalForm.force;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import scotch.data.int_.Int;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.data.string.String_;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class StreamIO {
+
+    private static final Type LINES = sum("scotch.data.list.[]", String_.TYPE);
+
+    static Callable<ConsList<String>> chunks(ChannelReader reader, int size) {
+        return stream(() -> reader.readChunk(size));
+    }
+
+    static Callable<ConsList<String>> lines(ChannelReader reader) {
+        return stream(reader::readLine);
+    }
+
+    @Value(memberName = "readChunks")
+    public static Applicable<Integer, Applicable<String, IO<ConsList<String>>>> readChunks() {
+        return applicable(size -> applicable(path -> callable(() -> io(() -> ChannelReader.open(Paths.get(path.call())))
+            .flatMap(applicable(reader -> callable(() -> pure(chunks(reader.call(), size.call()))))))));
+    }
+
+    @ValueType(forMember = "readChunks")
+    public static Type readChunks$type() {
+        return fn(Int.TYPE, fn(String_.TYPE, ioType(LINES)));
+    }
+
+    @Value(memberName = "readLines")
+    public static Applicable<String, IO<ConsList<String>>> readLines() {
+        return applicable(path -> callable(() -> io(() -> ChannelReader.open(Paths.get(path.call())))
+            .flatMap(applicable(reader -> callable(() -> pure(lines(reader.call())))))));
+    }
+
+    @ValueType(forMember = "readLines")
+    public static Type readLines$type() {
+        return fn(String_.TYPE, ioType(LINES));
+    }
+
+    @Value(memberName = "withLines")
+    public static <B> Applicable<String, Applicable<Applicable<ConsList<String>, IO<B>>, IO<B>>> withLines() {
+        return applicable(path -> applicable(action -> callable(() -> io(() -> {
+            try (ChannelReader reader = ChannelReader.open(Paths.get(path.call()))) {
+                return force(action.call().apply(lines(reader)).call().run());
+            }
+        }))));
+    }
+
+    @ValueType(forMember = "withLines")
+    public static Type withLines$type() {
+        return fn(String_.TYPE, fn(fn(LINES, ioType(var("b"))), ioType(var("b"))));
+    }
+
+    private static Callable<ConsList<String>> stream(Producer producer) {
+        return callable(() -> {
+            try {
+                String value = producer.produce();
+                if (value == null) {
+                    return ConsList.<String>empty().call();
+                } else {
+                    return new ConsCell<>(box(value), stream(producer));
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Producer {
+
+        String produce() throws IOException;
+    }
+}
@@ -0,0 +1,92 @@
+package scotch.runner;
+
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+
+import java.io.PrintStream;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+public class Benchmark {
+
+    public static Benchmark benchmark(int warmup, int iterations) {
+        return new Benchmark(warmup, iterations);
+    }
+
+    private static long[] sorted(long[] values) {
+        long[] copy = Arrays.copyOf(values, values.length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(0, Math.min(sortedValues.length - 1, rank - 1))];
+    }
+
+    private final int    warmup;
+    private final int    iterations;
+    private final long[] nanos;
+    private final long[] bytes;
+
+    private Benchmark(int warmup, int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Benchmark needs at least one measured iteration");
+        }
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.nanos = new long[iterations];
+        this.bytes = new long[iterations];
+    }
+
+    public void measure(BenchmarkRun run) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            run.run();
+        }
+        for (int i = 0; i < iterations; i++) {
+            long startBytes = allocatedBytes();
+            long startNanos = System.nanoTime();
+            run.run();
+            nanos[i] = System.nanoTime() - startNanos;
+            bytes[i] = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+        }
+    }
+
+    public void report(PrintStream out) {
+        out.printf("warmup: %d, iterations: %d%n", warmup, iterations);
+        report(out, "time (ms)", sorted(nanos), 1_000_000.0);
+        if (bytes[0] < 0) {
+            out.println("allocated (KiB): unavailable on this JVM");
+        } else {
+            report(out, "allocated (KiB)", sorted(bytes), 1024.0);
+        }
+    }
+
+    private long allocatedBytes() {
+        ThreadMXBean bean = getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private void report(PrintStream out, String label, long[] values, double scale) {
+        out.printf(
+            "%s: min %.3f, p50 %.3f, p90 %.3f, p99 %.3f, max %.3f%n",
+            label,
+            values[0] / scale,
+            percentile(values, 50) / scale,
+            percentile(values, 90) / scale,
+            percentile(values, 99) / scale,
+            values[values.length - 1] / scale
+        );
+    }
+
+    @FunctionalInterface
+    public interface BenchmarkRun {
+
+        void run() throws Exception;
+    }
+}
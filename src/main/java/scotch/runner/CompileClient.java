@@ -0,0 +1,69 @@
+package scotch.runner;
+
+import static java.net.InetAddress.getLoopbackAddress;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static scotch.runner.CompileServer.ERR;
+import static scotch.runner.CompileServer.EXIT;
+import static scotch.runner.CompileServer.OUT;
+import static scotch.runner.CompileServer.tokenPath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public class CompileClient {
+
+    public static CompileClient compileClient(int port) {
+        return new CompileClient(port);
+    }
+
+    private final int port;
+
+    private CompileClient(int port) {
+        this.port = port;
+    }
+
+    public int submit(List<String> args, PrintStream stdout, PrintStream stderr) throws IOException {
+        Path tokenPath = tokenPath(port);
+        if (!Files.isRegularFile(tokenPath)) {
+            throw new IOException("No compile daemon token at " + tokenPath + ", is the daemon running?");
+        }
+        String token = new String(Files.readAllBytes(tokenPath), UTF_8);
+        try (Socket socket = new Socket(getLoopbackAddress(), port)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(token);
+            out.writeUTF(Paths.get("").toAbsolutePath().toString());
+            out.writeInt(args.size());
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.flush();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            while (true) {
+                int kind = in.readByte();
+                if (kind == EXIT) {
+                    return in.readInt();
+                }
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                if (kind == OUT) {
+                    stdout.write(bytes);
+                    stdout.flush();
+                } else if (kind == ERR) {
+                    stderr.write(bytes);
+                    stderr.flush();
+                } else {
+                    throw new IOException("Unknown frame " + kind + " from compile daemon");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package scotch.runner;
+
+import static java.lang.System.err;
+import static java.net.InetAddress.getLoopbackAddress;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static scotch.runner.ModuleCache.moduleCache;
+import static scotch.runtime.ThunkProfiler.profiler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.google.common.io.BaseEncoding;
+
+public class CompileServer {
+
+    public static final int OUT  = 0;
+    public static final int ERR  = 1;
+    public static final int EXIT = 2;
+
+    public static CompileServer compileServer(int port, long cacheBytes) {
+        return new CompileServer(port, cacheBytes, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static Path tokenPath(int port) {
+        return Paths.get(System.getProperty("user.home"), ".scotch", "daemon-" + port + ".token");
+    }
+
+    private static String writeToken(Path path) throws IOException {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        String token = BaseEncoding.base16().lowerCase().encode(bytes);
+        Path temp = Files.createTempFile(Files.createDirectories(path.getParent()), "daemon-", ".tmp");
+        restrictToOwner(temp);
+        Files.write(temp, token.getBytes(UTF_8));
+        Files.move(temp, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        return token;
+    }
+
+    private static void restrictToOwner(Path path) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+        if (view == null) {
+            File file = path.toFile();
+            if (!file.setReadable(false, false) || !file.setReadable(true, true) || !file.setWritable(false, false) || !file.setWritable(true, true)) {
+                throw new IOException("Could not restrict compile daemon token " + path + " to its owner");
+            }
+        } else {
+            view.setPermissions(EnumSet.of(OWNER_READ, OWNER_WRITE));
+        }
+    }
+
+    private final int             port;
+    private final Path            tokenPath;
+    private final ModuleCache     moduleCache;
+    private final ExecutorService executor;
+
+    private CompileServer(int port, long cacheBytes, int threads) {
+        this.port = port;
+        this.tokenPath = tokenPath(port);
+        this.moduleCache = moduleCache(cacheBytes);
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    public void serve() throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, getLoopbackAddress())) {
+            byte[] token = writeToken(tokenPath).getBytes(UTF_8);
+            err.println("Scotch compile daemon listening on " + server.getLocalSocketAddress());
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = server.accept();
+                executor.submit(() -> handle(socket, token));
+            }
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(tokenPath);
+        }
+    }
+
+    private void handle(Socket socket, byte[] token) {
+        try (Socket connection = socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+            PrintStream stdout = new PrintStream(new FrameOutputStream(out, OUT), true, "UTF-8");
+            PrintStream stderr = new PrintStream(new FrameOutputStream(out, ERR), true, "UTF-8");
+            AtomicInteger status = new AtomicInteger();
+            if (!MessageDigest.isEqual(token, in.readUTF().getBytes(UTF_8))) {
+                stderr.println("Invalid compile daemon token, restart the daemon or check " + tokenPath);
+                status.set(2);
+            } else {
+                String workingDirectory = in.readUTF();
+                String[] args = new String[in.readInt()];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = in.readUTF();
+                }
+                try {
+                    new Runner(Paths.get(workingDirectory), args).printHelpOr(stdout, runner -> {
+                        if (runner.isDaemon() || runner.isConnect()) {
+                            stderr.println("Daemon requests may not start or connect to another daemon");
+                            status.set(2);
+                        } else {
+                            if (runner.isProfile()) {
+                                profiler().reset();
+                            }
+                            status.set(runner.run(Optional.of(moduleCache), stdout, stderr));
+                            if (runner.isProfile()) {
+                                stderr.print(profiler().getReport());
+                            }
+                        }
+                    });
+                } catch (Exception exception) {
+                    exception.printStackTrace(stderr);
+                    status.set(1);
+                }
+            }
+            synchronized (out) {
+                out.writeByte(EXIT);
+                out.writeInt(status.get());
+                out.flush();
+            }
+        } catch (IOException exception) {
+            err.println("Compile daemon request failed: " + exception.getMessage());
+        }
+    }
+
+    private static final class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final int              kind;
+
+        public FrameOutputStream(DataOutputStream out, int kind) {
+            this.out = out;
+            this.kind = kind;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            synchronized (out) {
+                out.writeByte(kind);
+                out.writeInt(length);
+                out.write(bytes, offset, length);
+            }
+        }
+    }
+}
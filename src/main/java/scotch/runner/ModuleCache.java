@@ -0,0 +1,67 @@
+package scotch.runner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import scotch.compiler.output.GeneratedClass;
+
+public class ModuleCache {
+
+    public static ModuleCache moduleCache(long maximumBytes) {
+        return new ModuleCache(maximumBytes);
+    }
+
+    private static String key(Path path, List<String> lines, List<String> flags) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putString(path.toString(), UTF_8);
+        flags.forEach(flag -> hasher.putString(flag, UTF_8).putChar('\0'));
+        lines.forEach(line -> hasher.putString(line, UTF_8).putChar('\n'));
+        return hasher.hash().toString();
+    }
+
+    private final Cache<String, List<GeneratedClass>> modules;
+
+    private ModuleCache(long maximumBytes) {
+        this.modules = CacheBuilder.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((String key, List<GeneratedClass> classes) -> classes.stream()
+                .mapToInt(generatedClass -> generatedClass.getBytes().length)
+                .sum())
+            .build();
+    }
+
+    public List<GeneratedClass> getClasses(Path path, List<String> lines, ModuleCompiler compiler) {
+        return getClasses(path, lines, emptyList(), compiler);
+    }
+
+    public List<GeneratedClass> getClasses(Path path, List<String> lines, List<String> flags, ModuleCompiler compiler) {
+        try {
+            return modules.get(key(path, lines, flags), () -> ImmutableList.copyOf(compiler.compile()));
+        } catch (ExecutionException | UncheckedExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            } else {
+                throw new RuntimeException(exception.getCause());
+            }
+        }
+    }
+
+    public long size() {
+        return modules.size();
+    }
+
+    @FunctionalInterface
+    public interface ModuleCompiler {
+
+        List<GeneratedClass> compile();
+    }
+}
@@ -1,16 +1,30 @@
 package scotch.runner;
 
+import static java.lang.System.err;
 import static java.lang.System.out;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static scotch.compiler.ClassLoaderResolver.resolver;
 import static scotch.compiler.Compiler.compiler;
+import static scotch.compiler.MultiModuleCompiler.multiModuleCompiler;
+import static scotch.compiler.SymbolCache.symbolCache;
+import static scotch.compiler.SymbolLibrary.library;
+import static scotch.runner.Benchmark.benchmark;
+import static scotch.runner.CompileClient.compileClient;
+import static scotch.runner.CompileServer.compileServer;
+import static scotch.runtime.NormalForm.force;
+import static scotch.symbol.Symbol.getPackageName;
 import static scotch.symbol.Symbol.getPackagePath;
-import static scotch.symbol.Symbol.toJavaName;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -21,63 +35,201 @@ import scotch.compiler.Compiler;
 import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.error.CompileException;
 import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.SymbolLibrary;
+import scotch.io.Console;
+import scotch.io.ExitException;
+import scotch.io.IO;
 import scotch.runtime.Callable;
 
 @SuppressWarnings("unused")
 public class Runner {
 
+    public static final String CONNECT_OPTION = "--connect";
+
     public static void main(String[] args) throws Exception {
         new Runner(args).printHelpOr(runner -> {
-            ClassLoaderResolver resolver = resolver(runner.getOutputPath());
-            Path path = Paths.get(getPackagePath(runner.getModule()) + ".scotch");
-            try (Stream<String> stream = Files.lines(path.toAbsolutePath())) {
-                List<String> lines = stream.collect(toList());
-                Compiler compiler = compiler(resolver, path.toUri(), lines.toArray(new String[lines.size()]));
-                List<GeneratedClass> generatedClasses = compiler.generateBytecode();
-                resolver.defineAll(generatedClasses);
-                out.println("main = " + ((Callable) resolver
-                    .loadClass(toJavaName(runner.getModule()) + ".$$Module")
-                    .getMethod("main")
-                    .invoke(null)).call());
-            } catch (CompileException exception) {
-                exception.printErrors();
+            if (runner.isDaemon()) {
+                compileServer(runner.getPort(), runner.getDaemonCacheBytes()).serve();
+            } else if (runner.isConnect()) {
+                System.exit(compileClient(runner.getPort()).submit(runner.getForwardedArgs(), out, err));
+            } else {
+                int status = runner.run(Optional.empty(), out, err);
+                if (status != 0) {
+                    System.exit(status);
+                }
             }
         });
     }
 
-    private final JCommander commander;
-    private final String[]   args;
+    private final JCommander   commander;
+    private final String[]     args;
+    private final Path         workingDirectory;
     @Parameter(names = { "-m", "--module" }, description = "[required] The name of the module to run")
-    private       String     module;
-    @Parameter(names = { "-o", "--output" }, description = "[optional] The compiled class output path, for debugging purposes")
-    private       String     outputPath;
+    private       String       module;
+    @Parameter(names = { "-o", "--output" }, description = "[optional] The compiled class output path, also used to skip unchanged modules when compiling source roots")
+    private       String       outputPath;
+    @Parameter(names = { "-s", "--source-root" }, description = "[optional] A source root to compile all modules from, may be repeated")
+    private       List<String> sourceRoots = new ArrayList<>();
+    @Parameter(names = { "-p", "--parallelism" }, description = "[optional] The number of modules to compile in parallel")
+    private       int          parallelism = Runtime.getRuntime().availableProcessors();
+    @Parameter(names = { "-c", "--symbol-cache" }, description = "[optional] The directory caching library symbol tables between runs, \"none\" to disable")
+    private       String       symbolCache = Paths.get(System.getProperty("user.home"), ".scotch", "symbols").toString();
+    @Parameter(names = { "-d", "--daemon" }, description = "[optional] Runs a compile daemon on the loopback port instead of a module, accepting clients holding ~/.scotch/daemon-<port>.token")
+    private       boolean      daemon;
+    @Parameter(names = { CONNECT_OPTION }, description = "[optional] Submits this run to the compile daemon on the loopback port")
+    private       boolean      connect;
+    @Parameter(names = { "--port" }, description = "[optional] The loopback port of the compile daemon")
+    private       int          port = 7413;
+    @Parameter(names = { "--daemon-cache" }, description = "[optional] The megabytes of compiled modules the daemon keeps warm")
+    private       int          daemonCache = 64;
+    @Parameter(names = { "-b", "--bench" }, description = "[optional] Benchmarks main, forcing its result to normal form on every run")
+    private       boolean      bench;
+    @Parameter(names = { "--warmup" }, description = "[optional] The number of unmeasured benchmark runs")
+    private       int          warmup = 5;
+    @Parameter(names = { "--iterations" }, description = "[optional] The number of measured benchmark runs")
+    private       int          iterations = 10;
+    @Parameter(names = { "--profile" }, description = "[optional] Compiles with thunk profiling and reports thunks per allocation site at exit, or after each daemon request")
+    private       boolean      profile;
     @Parameter(names = { "-h", "--help" }, description = "[optional] Displays this help")
-    private       boolean    help;
+    private       boolean      help;
 
     public Runner(String[] args) {
+        this(Paths.get("").toAbsolutePath(), args);
+    }
+
+    public Runner(Path workingDirectory, String[] args) {
         this.args = Arrays.copyOf(args, args.length);
+        this.workingDirectory = workingDirectory;
         this.commander = new JCommander();
     }
 
+    public List<GeneratedClass> compile(ClassLoaderResolver resolver) throws IOException {
+        return compile(resolver, Optional.empty());
+    }
+
+    public List<GeneratedClass> compile(ClassLoaderResolver resolver, Optional<ModuleCache> moduleCache) throws IOException {
+        if (sourceRoots.isEmpty()) {
+            Path path = workingDirectory.resolve(getPackagePath(module) + ".scotch");
+            try (Stream<String> stream = Files.lines(path)) {
+                List<String> lines = stream.collect(toList());
+                if (moduleCache.isPresent()) {
+                    return moduleCache.get().getClasses(path, lines, getCompileFlags(), () -> compile(resolver, path, lines));
+                } else {
+                    return compile(resolver, path, lines);
+                }
+            }
+        } else {
+            return multiModuleCompiler(resolver, getSourceRoots(), parallelism, getOutputPath().map(File::toPath), profile).generateBytecode();
+        }
+    }
+
+    public List<String> getCompileFlags() {
+        return profile ? asList("--profile") : emptyList();
+    }
+
+    public long getDaemonCacheBytes() {
+        return daemonCache * 1024L * 1024L;
+    }
+
+    public List<String> getForwardedArgs() {
+        return Arrays.stream(args)
+            .filter(arg -> !CONNECT_OPTION.equals(arg))
+            .collect(toList());
+    }
+
     public String getModule() {
         return module;
     }
 
     public Optional<File> getOutputPath() {
-        return Optional.ofNullable(outputPath).map(outputPath -> new File(outputPath).getAbsoluteFile());
+        return Optional.ofNullable(outputPath).map(outputPath -> workingDirectory.resolve(outputPath).toFile().getAbsoluteFile());
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public Optional<Path> getSymbolCache() {
+        return Optional.ofNullable(symbolCache)
+            .filter(symbolCache -> !"none".equals(symbolCache))
+            .map(symbolCache -> workingDirectory.resolve(symbolCache).toAbsolutePath());
+    }
+
+    public List<Path> getSourceRoots() {
+        return sourceRoots.stream()
+            .map(sourceRoot -> workingDirectory.resolve(sourceRoot).toAbsolutePath())
+            .collect(toList());
+    }
+
+    public boolean isConnect() {
+        return connect;
+    }
+
+    public boolean isDaemon() {
+        return daemon;
+    }
+
+    public boolean isProfile() {
+        return profile;
     }
 
     public void printHelpOr(ThrowingRunnable runnable) throws Exception {
+        printHelpOr(out, runnable);
+    }
+
+    public void printHelpOr(PrintStream out, ThrowingRunnable runnable) throws Exception {
         parseArgs();
         if (isHelp()) {
-            printHelp();
+            printHelp(out);
         } else {
             runnable.run(this);
         }
     }
 
+    public int run(Optional<ModuleCache> moduleCache, PrintStream out, PrintStream err) throws Exception {
+        ClassLoaderResolver resolver = resolver(getOutputPath());
+        SymbolLibrary library = library(ClassLoaderResolver.class.getClassLoader());
+        getSymbolCache().ifPresent(cache -> library.useCache(symbolCache(cache, ClassLoaderResolver.class.getClassLoader())));
+        try {
+            resolver.defineAll(compile(resolver, moduleCache));
+            library.persist();
+            Method main = resolver.loadClass(getPackageName(getModule()) + ".$$Module").getMethod("main");
+            Console.setOut(out);
+            if (bench) {
+                Benchmark benchmark = benchmark(warmup, iterations);
+                benchmark.measure(() -> force(perform((Callable<?>) main.invoke(null))));
+                benchmark.report(out);
+            } else {
+                out.println("main = " + perform((Callable<?>) main.invoke(null)).call());
+            }
+            return 0;
+        } catch (CompileException exception) {
+            exception.printErrors(err);
+            return 1;
+        } catch (ExitException exception) {
+            out.flush();
+            return exception.getStatus();
+        } finally {
+            Console.resetOut();
+        }
+    }
+
+    private List<GeneratedClass> compile(ClassLoaderResolver resolver, Path path, List<String> lines) {
+        Compiler compiler = compiler(resolver, path.toUri(), lines.toArray(new String[lines.size()]));
+        return compiler.generateBytecode(profile);
+    }
+
+    private Callable<?> perform(Callable<?> result) {
+        Object value = result.call();
+        if (value instanceof IO) {
+            return ((IO<?>) value).run();
+        } else {
+            return result;
+        }
+    }
+
     private boolean isHelp() {
-        return help || module == null;
+        return help || (module == null && !daemon);
     }
 
     private void parseArgs() {
@@ -85,7 +237,7 @@ public class Runner {
         commander.parse(args);
     }
 
-    private void printHelp() {
+    private void printHelp(PrintStream out) {
         out.println("Scotch Runner");
         commander.getParameters().forEach(
             action -> out.printf("\t%-15.30s %-10s%n", action.getNames(), action.getDescription())
@@ -93,7 +245,7 @@ public class Runner {
     }
 
     @FunctionalInterface
-    private interface ThrowingRunnable {
+    public interface ThrowingRunnable {
 
         void run(Runner runner) throws Exception;
     }
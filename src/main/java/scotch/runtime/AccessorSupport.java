@@ -1,13 +1,48 @@
 package scotch.runtime;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static scotch.runtime.RuntimeSupport.callable;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import scotch.runtime.FlightEvents.AccessSite;
+
 public class AccessorSupport {
 
-    public static Callable access(Callable target, String fieldName) {
+    private static final MethodHandle ACCESS;
+
+    static {
+        try {
+            ACCESS = lookup().findStatic(AccessorSupport.class, "access", methodType(Callable.class, AccessSite.class, Callable.class));
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /**
+     * Bootstraps a field access site, binding it to the state tracking the receiver classes seen at that site.
+     *
+     * @param lookup The caller's lookup.
+     * @param name The call site name.
+     * @param type The call site type, taking and returning a {@link Callable}.
+     * @param fieldName The name of the getter to invoke on the receiver.
+     * @param location A description of the access site's source location.
+     * @return A call site accessing the field.
+     */
+    public static CallSite site(MethodHandles.Lookup lookup, String name, MethodType type, String fieldName, String location) {
+        return new ConstantCallSite(ACCESS.bindTo(new AccessSite(fieldName, location)).asType(type));
+    }
+
+    private static Callable access(AccessSite site, Callable target) {
         return callable(() -> {
             try {
-                return (Callable) target.call().getClass().getMethod(fieldName).invoke(target.call());
+                Object receiver = target.call();
+                site.accessed(receiver.getClass());
+                return (Callable) receiver.getClass().getMethod(site.getFieldName()).invoke(receiver);
             } catch (ReflectiveOperationException exception) {
                 throw new RuntimeException(exception);
             }
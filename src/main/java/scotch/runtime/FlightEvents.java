@@ -0,0 +1,307 @@
+package scotch.runtime;
+
+import static java.util.Arrays.asList;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Emits Scotch events to Java Flight Recorder, so Scotch-level behaviour can be correlated with GC and CPU activity
+ * in a single recording.
+ *
+ * <p>Five event types are defined under the "Scotch" category:</p>
+ * <ul>
+ *     <li>{@code scotch.ThunkEvaluation}: a thunk evaluation slower than {@code -Dscotch.jfr.thunkThreshold}
+ *     milliseconds, 10 by default, with its allocation site.</li>
+ *     <li>{@code scotch.ThunkChain}: a chain of nested thunk evaluations reaching {@code -Dscotch.jfr.chainDepth}
+ *     thunks, 1024 by default.</li>
+ *     <li>{@code scotch.RaisedException}: a {@link RaisedException}, with its stack trace.</li>
+ *     <li>{@code scotch.MegamorphicAccess}: a field access site seeing its third receiver class.</li>
+ *     <li>{@code scotch.CompilePhase}: one compiler phase, with its duration.</li>
+ * </ul>
+ *
+ * <p>The events are defined through {@code jdk.jfr.EventFactory}, looked up reflectively. On JVMs without flight
+ * recorder, or with {@code -Dscotch.jfr=false}, every method falls through to the plain computation. Event types are
+ * only defined once the flight recorder is initialized, and the hot paths only check a volatile flag until a running
+ * recording enables the corresponding event.</p>
+ */
+public final class FlightEvents {
+
+    /**
+     * The system property disabling flight recorder events when set to {@code false}.
+     */
+    public static final String PROPERTY = "scotch.jfr";
+
+    /**
+     * The system property setting the slowest thunk evaluation not reported, in milliseconds.
+     */
+    public static final String THUNK_THRESHOLD_PROPERTY = "scotch.jfr.thunkThreshold";
+
+    /**
+     * The system property setting the depth of nested thunk evaluations reported as a chain.
+     */
+    public static final String CHAIN_DEPTH_PROPERTY = "scotch.jfr.chainDepth";
+
+    /**
+     * The number of receiver classes after which an access site is reported as megamorphic.
+     */
+    public static final int MEGAMORPHIC_RECEIVERS = 3;
+
+    private static final long               thunkThreshold = TimeUnit.MILLISECONDS.toNanos(Long.getLong(THUNK_THRESHOLD_PROPERTY, 10));
+    private static final int                chainDepth     = Integer.getInteger(CHAIN_DEPTH_PROPERTY, 1024);
+    private static final ThreadLocal<int[]> depth          = ThreadLocal.withInitial(() -> new int[1]);
+
+    static volatile boolean thunks;
+
+    private static volatile boolean  raises;
+    private static volatile boolean  accesses;
+    private static volatile boolean  phases;
+    private static volatile Recorder recorder;
+
+    static {
+        if (Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))) {
+            try {
+                listen();
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError exception) {
+                // flight recorder is unavailable, events stay disabled
+            }
+        }
+    }
+
+    /**
+     * Runs a compiler phase, reporting its duration when compile phase events are enabled.
+     *
+     * @param name The name of the phase.
+     * @param body The phase.
+     * @param <T> The type of the phase result.
+     * @return The phase result.
+     */
+    public static <T> T phase(String name, Supplier<T> body) {
+        if (phases) {
+            Object event = recorder.begin(recorder.phase);
+            try {
+                return body.get();
+            } finally {
+                recorder.commit(event, name);
+            }
+        } else {
+            return body.get();
+        }
+    }
+
+    static <A> A evaluate(Thunk<A> thunk) {
+        int[] current = depth.get();
+        long start = System.nanoTime();
+        if (++current[0] == chainDepth && recorder.isEnabled(recorder.chain)) {
+            recorder.commit(recorder.newEvent(recorder.chain), thunk.site(), current[0]);
+        }
+        try {
+            return thunk.force();
+        } finally {
+            current[0]--;
+            long duration = System.nanoTime() - start;
+            if (duration > thunkThreshold && recorder.isEnabled(recorder.thunk)) {
+                recorder.commit(recorder.newEvent(recorder.thunk), thunk.site(), duration);
+            }
+        }
+    }
+
+    static void raised(String message) {
+        if (raises) {
+            recorder.commit(recorder.newEvent(recorder.raise), message);
+        }
+    }
+
+    private static Object handle(Object proxy, Method method, Object[] arguments) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == arguments[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return FlightEvents.class.getName();
+            default:
+                refresh();
+                return null;
+        }
+    }
+
+    private static void listen() throws ReflectiveOperationException {
+        Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+        Class<?> listener = Class.forName("jdk.jfr.FlightRecorderListener");
+        Object proxy = Proxy.newProxyInstance(FlightEvents.class.getClassLoader(), new Class<?>[] { listener }, FlightEvents::handle);
+        flightRecorder.getMethod("addListener", listener).invoke(null, proxy);
+        if ((Boolean) flightRecorder.getMethod("isInitialized").invoke(null)) {
+            refresh();
+        }
+    }
+
+    private static synchronized void refresh() {
+        try {
+            if (recorder == null) {
+                recorder = new Recorder();
+            }
+            raises = recorder.isEnabled(recorder.raise);
+            accesses = recorder.isEnabled(recorder.access);
+            phases = recorder.isEnabled(recorder.phase);
+            thunks = recorder.isEnabled(recorder.thunk) || recorder.isEnabled(recorder.chain);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError exception) {
+            thunks = false;
+            raises = false;
+            accesses = false;
+            phases = false;
+        }
+    }
+
+    private FlightEvents() {
+        // intentionally empty
+    }
+
+    static final class AccessSite {
+
+        private final    String     fieldName;
+        private final    String     member;
+        private volatile Class<?>[] receivers;
+        private volatile boolean    megamorphic;
+
+        AccessSite(String fieldName, String location) {
+            this.fieldName = fieldName;
+            this.member = fieldName + " " + location;
+            this.receivers = new Class<?>[0];
+        }
+
+        void accessed(Class<?> receiver) {
+            if (accesses && !megamorphic && !isKnown(receivers, receiver)) {
+                record(receiver);
+            }
+        }
+
+        String getFieldName() {
+            return fieldName;
+        }
+
+        private boolean isKnown(Class<?>[] known, Class<?> receiver) {
+            for (Class<?> clazz : known) {
+                if (clazz == receiver) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized void record(Class<?> receiver) {
+            Class<?>[] known = receivers;
+            if (!megamorphic && !isKnown(known, receiver)) {
+                if (known.length + 1 == MEGAMORPHIC_RECEIVERS) {
+                    megamorphic = true;
+                    receivers = new Class<?>[0];
+                    recorder.commit(recorder.newEvent(recorder.access), member, MEGAMORPHIC_RECEIVERS, receiver.getName());
+                } else {
+                    Class<?>[] grown = Arrays.copyOf(known, known.length + 1);
+                    grown[known.length] = receiver;
+                    receivers = grown;
+                }
+            }
+        }
+    }
+
+    private static final class Recorder {
+
+        private final Constructor<?> annotationElement;
+        private final Constructor<?> valueDescriptor;
+        private final Method         create;
+        private final Method         newEvent;
+        private final Method         getEventType;
+        private final Method         isEnabled;
+        private final Method         begin;
+        private final Method         set;
+        private final Method         commit;
+        private final Object         thunk;
+        private final Object         chain;
+        private final Object         raise;
+        private final Object         access;
+        private final Object         phase;
+
+        public Recorder() throws ReflectiveOperationException {
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            Class<?> event = Class.forName("jdk.jfr.Event");
+            annotationElement = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+            valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+            create = eventFactory.getMethod("create", List.class, List.class);
+            newEvent = eventFactory.getMethod("newEvent");
+            getEventType = eventFactory.getMethod("getEventType");
+            isEnabled = Class.forName("jdk.jfr.EventType").getMethod("isEnabled");
+            begin = event.getMethod("begin");
+            set = event.getMethod("set", int.class, Object.class);
+            commit = event.getMethod("commit");
+            thunk = define("scotch.ThunkEvaluation", "Thunk Evaluation", "Runtime", false,
+                field(String.class, "site", "Site"),
+                field(long.class, "duration", "Evaluation Time", annotation("jdk.jfr.Timespan", "NANOSECONDS")));
+            chain = define("scotch.ThunkChain", "Thunk Chain", "Runtime", true,
+                field(String.class, "site", "Site"),
+                field(int.class, "depth", "Depth"));
+            raise = define("scotch.RaisedException", "Raised Exception", "Runtime", true,
+                field(String.class, "message", "Message"));
+            access = define("scotch.MegamorphicAccess", "Megamorphic Access", "Runtime", true,
+                field(String.class, "member", "Member"),
+                field(int.class, "receivers", "Receiver Classes"),
+                field(String.class, "receiver", "Receiver"));
+            phase = define("scotch.CompilePhase", "Compile Phase", "Compiler", false,
+                field(String.class, "phase", "Phase"));
+        }
+
+        public Object begin(Object factory) {
+            Object event = newEvent(factory);
+            invoke(begin, event);
+            return event;
+        }
+
+        public void commit(Object event, Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                invoke(set, event, i, values[i]);
+            }
+            invoke(commit, event);
+        }
+
+        public boolean isEnabled(Object factory) {
+            return (Boolean) invoke(isEnabled, invoke(getEventType, factory));
+        }
+
+        public Object newEvent(Object factory) {
+            return invoke(newEvent, factory);
+        }
+
+        private Object annotation(String type, Object value) throws ReflectiveOperationException {
+            return annotationElement.newInstance(Class.forName(type), value);
+        }
+
+        private Object define(String name, String label, String category, boolean stackTrace, Object... fields) throws ReflectiveOperationException {
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotation("jdk.jfr.Name", name));
+            annotations.add(annotation("jdk.jfr.Label", label));
+            annotations.add(annotation("jdk.jfr.Category", new String[] { "Scotch", category }));
+            annotations.add(annotation("jdk.jfr.StackTrace", stackTrace));
+            return create.invoke(null, annotations, asList(fields));
+        }
+
+        private Object field(Class<?> type, String name, String label, Object... annotations) throws ReflectiveOperationException {
+            List<Object> elements = new ArrayList<>(asList(annotations));
+            elements.add(annotation("jdk.jfr.Label", label));
+            return valueDescriptor.newInstance(type, name, elements);
+        }
+
+        private Object invoke(Method method, Object target, Object... arguments) {
+            try {
+                return method.invoke(target, arguments);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package scotch.runtime;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Comparator.comparingInt;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import scotch.symbol.DataField;
+
+/**
+ * Evaluates values to normal form, forcing every {@link Callable} field reachable from the value.
+ *
+ * <p>{@link Callable#call()} only evaluates a value to weak head normal form, so the fields of a data constructor
+ * (such as the tail of a list) may still be suspended. Functions ({@link Applicable}) are left as-is, as they have
+ * no further structure to evaluate.</p>
+ *
+ * <p>Fields are read through {@link DataField} getters when a class declares them, and otherwise through its
+ * {@link Callable} fields. The accessors are resolved once per class into {@link MethodHandle}s, in field order.</p>
+ *
+ * <p>Values are walked depth-first with an explicit worklist, so deeply nested values do not grow the Java stack.
+ * Fields are pushed last to first, so the head of a list is forced before its tail is visited and the worklist stays
+ * shallow along a list. Visited values are not remembered: like Haskell's {@code deepseq}, forcing a cyclic value
+ * does not terminate.</p>
+ */
+public final class NormalForm {
+
+    private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+    private static final ClassValue<MethodHandle[]> accessors = new ClassValue<MethodHandle[]>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            try {
+                List<MethodHandle> handles = dataFieldAccessors(type);
+                if (handles.isEmpty()) {
+                    handles = callableFieldAccessors(type);
+                }
+                return handles.toArray(new MethodHandle[handles.size()]);
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException("Could not access fields of " + type.getName(), exception);
+            }
+        }
+    };
+
+    /**
+     * Evaluates the {@link Callable} and everything reachable from its value to normal form.
+     *
+     * @param callable The callable to evaluate.
+     * @param <A> The type of the value.
+     * @return The fully-evaluated value.
+     */
+    public static <A> A force(Callable<A> callable) {
+        A value = callable.call();
+        deepSeq(value);
+        return value;
+    }
+
+    /**
+     * Forces every {@link Callable} field reachable from the given value.
+     *
+     * @param value The value to evaluate.
+     */
+    public static void deepSeq(Object value) {
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(value);
+        while (!pending.isEmpty()) {
+            Object current = headNormalForm(pending.pop());
+            if (current != null && !(current instanceof Applicable)) {
+                MethodHandle[] fields = accessors.get(current.getClass());
+                for (int i = fields.length - 1; i >= 0; i--) {
+                    pending.push(access(fields[i], current));
+                }
+            }
+        }
+    }
+
+    private static Object access(MethodHandle accessor, Object value) {
+        try {
+            return (Object) accessor.invokeExact(value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static List<MethodHandle> callableFieldAccessors(Class<?> type) throws IllegalAccessException {
+        List<MethodHandle> handles = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && Callable.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    handles.add(lookup().unreflectGetter(field).asType(ACCESSOR_TYPE));
+                }
+            }
+        }
+        return handles;
+    }
+
+    private static List<MethodHandle> dataFieldAccessors(Class<?> type) throws IllegalAccessException {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (method.isAnnotationPresent(DataField.class)
+                && method.getParameterCount() == 0
+                && Callable.class.isAssignableFrom(method.getReturnType())) {
+                methods.add(method);
+            }
+        }
+        methods.sort(comparingInt(method -> method.getAnnotation(DataField.class).ordinal()));
+        List<MethodHandle> handles = new ArrayList<>();
+        for (Method method : methods) {
+            method.setAccessible(true);
+            handles.add(lookup().unreflect(method).asType(ACCESSOR_TYPE));
+        }
+        return handles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object headNormalForm(Object value) {
+        Object result = value;
+        while (result instanceof Callable && !(result instanceof Applicable)) {
+            result = ((Callable<Object>) result).call();
+        }
+        return result;
+    }
+
+    private NormalForm() {
+        // intentionally empty
+    }
+}
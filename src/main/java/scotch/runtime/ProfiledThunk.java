@@ -0,0 +1,38 @@
+package scotch.runtime;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link SuppliedThunk} counterpart generated in profiling mode, which reports its allocation and evaluation to
+ * the {@link ThunkProfiler} under the id of the site that allocated it.
+ *
+ * @param <A> The type of the value returned from the thunk.
+ */
+public class ProfiledThunk<A> extends Thunk<A> {
+
+    private final Supplier<A> supplier;
+    private final int         site;
+
+    /**
+     * Creates a thunk allocated at the given site.
+     *
+     * @param supplier The supplier computing the value.
+     * @param site The site id linked by {@link ThunkProfiler#site}.
+     */
+    public ProfiledThunk(Supplier<A> supplier, int site) {
+        this.supplier = supplier;
+        this.site = site;
+        ThunkProfiler.allocated(site);
+    }
+
+    @Override
+    protected A evaluate() {
+        ThunkProfiler.forced(site);
+        return supplier.get();
+    }
+
+    @Override
+    protected String site() {
+        return ThunkProfiler.location(site);
+    }
+}
@@ -4,5 +4,6 @@ public class RaisedException extends RuntimeException {
 
     public RaisedException(String message) {
         super(message);
+        FlightEvents.raised(message);
     }
 }
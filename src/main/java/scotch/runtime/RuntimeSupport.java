@@ -1,5 +1,11 @@
 package scotch.runtime;
 
+import static java.lang.invoke.MethodHandles.constant;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -8,6 +14,19 @@ import java.util.function.Supplier;
  */
 public final class RuntimeSupport {
 
+    /**
+     * The system property setting the smallest int served from the preallocated pool of boxed ints.
+     */
+    public static final String MIN_POOLED_INT_PROPERTY = "scotch.box.minInt";
+
+    /**
+     * The system property setting the largest int served from the preallocated pool of boxed ints.
+     */
+    public static final String MAX_POOLED_INT_PROPERTY = "scotch.box.maxInt";
+
+    private static final Callable<Boolean> TRUE  = new BoxedValue<>(true);
+    private static final Callable<Boolean> FALSE = new BoxedValue<>(false);
+
     /**
      * Shorthand for creating an {@link Applicable}.
      *
@@ -21,20 +40,26 @@ public final class RuntimeSupport {
     }
 
     /**
-     * Boxes a boolean into a {@link Callable}.
+     * Boxes a boolean into a {@link Callable}, sharing one instance for each of {@code True} and {@code False}.
      *
      * @param value The boolean to be boxed.
      * @return The boxed boolean.
      */
-    public static Callable<Boolean> box(boolean value) { return new BoxedCallable<>(value); }
+    public static Callable<Boolean> box(boolean value) { return value ? TRUE : FALSE; }
 
     /**
-     * Boxes a char into a {@link Callable}.
+     * Boxes a char into a {@link Callable}, sharing instances for ASCII characters.
      *
      * @param value The char to be boxed.
      * @return The boxed char.
      */
-    public static Callable<Character> box(char value) { return new BoxedCallable<>(value); }
+    public static Callable<Character> box(char value) {
+        if (value < CharPool.chars.length) {
+            return CharPool.chars[value];
+        } else {
+            return new BoxedValue<>(value);
+        }
+    }
 
     /**
      * Boxes a double into a {@link Callable}.
@@ -43,17 +68,22 @@ public final class RuntimeSupport {
      * @return The boxed double.
      */
     public static Callable<Double> box(double value) {
-        return new BoxedCallable<>(value);
+        return new BoxedValue<>(value);
     }
 
     /**
-     * Boxes an int into a {@link Callable}.
+     * Boxes an int into a {@link Callable}, sharing instances for ints between {@code -Dscotch.box.minInt} and
+     * {@code -Dscotch.box.maxInt}, -128 and 1024 by default.
      *
      * @param value The int to be boxed.
      * @return The boxed int.
      */
     public static Callable<Integer> box(int value) {
-        return new BoxedCallable<>(value);
+        if (value >= IntPool.min && value <= IntPool.max) {
+            return IntPool.ints[value - IntPool.min];
+        } else {
+            return new BoxedValue<>(value);
+        }
     }
 
     /**
@@ -64,7 +94,11 @@ public final class RuntimeSupport {
      * @return The boxed value.
      */
     public static <A> Callable<A> box(A value) {
-        return new BoxedCallable<>(value);
+        if (value instanceof Callable) {
+            return new BoxedCallable<>(value);
+        } else {
+            return new BoxedValue<>(value);
+        }
     }
 
     /**
@@ -100,6 +134,38 @@ public final class RuntimeSupport {
         };
     }
 
+    /**
+     * Bootstraps a literal, linking its site once to a constant boxed value so that evaluating the literal allocates
+     * nothing.
+     *
+     * @param lookup The caller's lookup.
+     * @param kind The kind of literal: {@code bool}, {@code char}, {@code double}, {@code int} or {@code string}.
+     * @param type The call site type, returning {@link Callable}.
+     * @param value The literal value, with booleans and chars passed as ints.
+     * @return A call site returning the boxed literal.
+     */
+    public static CallSite literal(MethodHandles.Lookup lookup, String kind, MethodType type, Object value) {
+        Callable<?> literal;
+        switch (kind) {
+            case "bool":
+                literal = box((Integer) value != 0);
+                break;
+            case "char":
+                literal = box((char) (int) (Integer) value);
+                break;
+            case "double":
+                literal = box((double) (Double) value);
+                break;
+            case "int":
+                literal = box((int) (Integer) value);
+                break;
+            default:
+                literal = box(value);
+                break;
+        }
+        return new ConstantCallSite(constant(Callable.class, literal));
+    }
+
     /**
      * Unboxes a boolean from a {@link Callable}.
      *
@@ -116,7 +182,7 @@ public final class RuntimeSupport {
     }
 
     /**
-     * Boxes values into {@link Callable}s.
+     * Boxes values into {@link Callable}s, unwrapping values which are themselves {@link Callable}s when called.
      *
      * @param <A> The contained type.
      */
@@ -138,4 +204,53 @@ public final class RuntimeSupport {
             }
         }
     }
+
+    /**
+     * Boxes plain values into {@link Callable}s, returning the value as-is when called.
+     *
+     * @param <A> The contained type.
+     */
+    public static final class BoxedValue<A> implements Callable<A> {
+
+        private final A value;
+
+        public BoxedValue(A value) {
+            this.value = value;
+        }
+
+        @Override
+        public A call() {
+            return value;
+        }
+    }
+
+    private static final class CharPool {
+
+        private static final Callable<Character>[] chars = pool();
+
+        @SuppressWarnings("unchecked")
+        private static Callable<Character>[] pool() {
+            Callable<Character>[] pool = new Callable[128];
+            for (char c = 0; c < pool.length; c++) {
+                pool[c] = new BoxedValue<>(c);
+            }
+            return pool;
+        }
+    }
+
+    private static final class IntPool {
+
+        private static final int                 min  = Integer.getInteger(MIN_POOLED_INT_PROPERTY, -128);
+        private static final int                 max  = Math.max(min - 1, Integer.getInteger(MAX_POOLED_INT_PROPERTY, 1024));
+        private static final Callable<Integer>[] ints = pool();
+
+        @SuppressWarnings("unchecked")
+        private static Callable<Integer>[] pool() {
+            Callable<Integer>[] pool = new Callable[max - min + 1];
+            for (int i = 0; i < pool.length; i++) {
+                pool[i] = new BoxedValue<>(min + i);
+            }
+            return pool;
+        }
+    }
 }
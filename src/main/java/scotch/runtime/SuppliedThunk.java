@@ -19,4 +19,9 @@ public class SuppliedThunk<A> extends Thunk<A> {
     protected A evaluate() {
         return supplier.get();
     }
+
+    @Override
+    protected String site() {
+        return supplier.getClass().getName();
+    }
 }
@@ -22,29 +22,52 @@ public abstract class Thunk<A> implements Callable<A> {
      *
      * @return The normalized value.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public A call() {
         if (value == null) {
             synchronized (this) {
                 if (value == null) {
-                    value = evaluate();
-                    while (value instanceof Callable) {
-                        if (value instanceof Applicable) {
-                            break;
-                        }
-                        value = ((Callable<A>) value).call();
-                    }
+                    value = FlightEvents.thunks ? FlightEvents.evaluate(this) : force();
                 }
             }
         }
         return value;
     }
 
+    /**
+     * Checks whether this thunk has already been evaluated, without evaluating it.
+     *
+     * @return Whether the value has been computed.
+     */
+    public boolean isEvaluated() {
+        return value != null;
+    }
+
     /**
      * Evaluates the value.
      *
      * @return The evaluated value.
      */
     protected abstract A evaluate();
+
+    /**
+     * Describes where this thunk was allocated, for diagnostics such as flight recorder events.
+     *
+     * @return The allocation site.
+     */
+    protected String site() {
+        return getClass().getName();
+    }
+
+    @SuppressWarnings("unchecked")
+    A force() {
+        A result = evaluate();
+        while (result instanceof Callable) {
+            if (result instanceof Applicable) {
+                break;
+            }
+            result = ((Callable<A>) result).call();
+        }
+        return result;
+    }
 }
@@ -0,0 +1,187 @@
+package scotch.runtime;
+
+import static java.lang.invoke.MethodHandles.constant;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts thunk allocations and evaluations per allocation site for code compiled in profiling mode.
+ *
+ * <p>Profiling is enabled at compile time with {@code -Dscotch.profile.thunks=true}, which makes the bytecode
+ * generator allocate {@link ProfiledThunk}s. Each allocation site links once, through an {@code invokedynamic}
+ * bootstrapped by {@link #site}, to a compact integer id describing its source location, so counting costs an
+ * array lookup and an increment.</p>
+ *
+ * <p>The report lists allocations, forces and never-forced thunks per site. It is available on demand through the
+ * {@code scotch.runtime:type=ThunkProfiler} MXBean, and is written at exit to the file named by
+ * {@code -Dscotch.profile.report}, or to standard error.</p>
+ */
+public final class ThunkProfiler implements ThunkProfilerMXBean {
+
+    /**
+     * The system property enabling profiling mode in the bytecode generator.
+     */
+    public static final String PROPERTY = "scotch.profile.thunks";
+
+    /**
+     * The system property naming the file the report is written to at exit.
+     */
+    public static final String REPORT_PROPERTY = "scotch.profile.report";
+
+    private static final String               OBJECT_NAME = "scotch.runtime:type=ThunkProfiler";
+    private static final ThunkProfiler        INSTANCE    = new ThunkProfiler();
+    private static final Map<String, Integer> siteIds     = new HashMap<>();
+
+    private static volatile Site[] sites = new Site[0];
+
+    /**
+     * Bootstraps an allocation site, linking it to the id of its source location.
+     *
+     * @param lookup The caller's lookup.
+     * @param name The call site name.
+     * @param type The call site type, returning {@code int}.
+     * @param location A description of the allocation site's source location.
+     * @return A call site returning the site id.
+     */
+    public static CallSite site(MethodHandles.Lookup lookup, String name, MethodType type, String location) {
+        return new ConstantCallSite(constant(int.class, register(location)));
+    }
+
+    /**
+     * Gets the profiler.
+     *
+     * @return The profiler.
+     */
+    public static ThunkProfiler profiler() {
+        return INSTANCE;
+    }
+
+    static void allocated(int site) {
+        sites[site].allocated.increment();
+    }
+
+    static void forced(int site) {
+        sites[site].forced.increment();
+    }
+
+    static String location(int site) {
+        return sites[site].location;
+    }
+
+    private static synchronized int register(String location) {
+        Integer id = siteIds.get(location);
+        if (id == null) {
+            if (sites.length == 0) {
+                INSTANCE.install();
+            }
+            id = sites.length;
+            Site[] grown = Arrays.copyOf(sites, id + 1);
+            grown[id] = new Site(location);
+            sites = grown;
+            siteIds.put(location, id);
+        }
+        return id;
+    }
+
+    private ThunkProfiler() {
+        // intentionally empty
+    }
+
+    @Override
+    public long getAllocated() {
+        return Arrays.stream(sites).mapToLong(site -> site.allocated.sum()).sum();
+    }
+
+    @Override
+    public long getForced() {
+        return Arrays.stream(sites).mapToLong(site -> site.forced.sum()).sum();
+    }
+
+    @Override
+    public String getReport() {
+        Site[] snapshot = sites.clone();
+        long[][] counts = new long[snapshot.length][];
+        Integer[] order = new Integer[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            long allocated = snapshot[i].allocated.sum();
+            long forced = snapshot[i].forced.sum();
+            counts[i] = new long[] { allocated, forced, allocated - forced };
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingLong(i -> counts[i][2]).thenComparingLong(i -> counts[i][0]).reversed());
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Thunk profile: %d sites, %d allocated, %d forced, %d never forced%n",
+            snapshot.length, getAllocated(), getForced(), getAllocated() - getForced()));
+        builder.append(String.format("%12s %12s %12s  %s%n", "allocated", "forced", "unforced", "site"));
+        for (int i : order) {
+            builder.append(String.format("%12d %12d %12d  %s%n", counts[i][0], counts[i][1], counts[i][2], snapshot[i].location));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public int getSiteCount() {
+        return sites.length;
+    }
+
+    @Override
+    public void reset() {
+        for (Site site : sites) {
+            site.allocated.reset();
+            site.forced.reset();
+        }
+    }
+
+    private void install() {
+        try {
+            getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException exception) {
+            // management is unavailable, the report is still written at exit
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writeReport, "scotch-thunk-profiler"));
+    }
+
+    private void writeReport() {
+        String path = System.getProperty(REPORT_PROPERTY);
+        if (path == null) {
+            PrintStream err = System.err;
+            err.print(getReport());
+            err.flush();
+        } else {
+            try {
+                Files.write(Paths.get(path), getReport().getBytes(UTF_8));
+            } catch (IOException exception) {
+                System.err.println("Could not write thunk profile to " + path + ": " + exception.getMessage());
+            }
+        }
+    }
+
+    private static final class Site {
+
+        private final String    location;
+        private final LongAdder allocated;
+        private final LongAdder forced;
+
+        public Site(String location) {
+            this.location = location;
+            this.allocated = new LongAdder();
+            this.forced = new LongAdder();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package scotch.runtime;
+
+/**
+ * Management interface of the {@link ThunkProfiler}, registered as {@code scotch.runtime:type=ThunkProfiler}.
+ */
+public interface ThunkProfilerMXBean {
+
+    /**
+     * Gets the total number of profiled thunks allocated.
+     *
+     * @return The allocation count.
+     */
+    long getAllocated();
+
+    /**
+     * Gets the total number of profiled thunks forced.
+     *
+     * @return The force count.
+     */
+    long getForced();
+
+    /**
+     * Gets a report of allocations, forces and never-forced thunks per allocation site.
+     *
+     * @return The report.
+     */
+    String getReport();
+
+    /**
+     * Gets the number of allocation sites linked so far.
+     *
+     * @return The site count.
+     */
+    int getSiteCount();
+
+    /**
+     * Resets the counters of every site.
+     */
+    void reset();
+}
@@ -24,6 +24,10 @@ public class MethodSignature {
         );
     }
 
+    public static MethodSignature fromMethod(int access, String className, String methodName, String descriptor) {
+        return new MethodSignature(MethodType.fromAccess(access), className, methodName, descriptor);
+    }
+
     public static MethodSignature fromMethod(Class<?> clazz, String methodName) {
         try {
             return stream(clazz.getMethods())
@@ -80,6 +84,10 @@ public class MethodSignature {
         return className;
     }
 
+    public MethodType getMethodType() {
+        return methodType;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(methodType, className, methodName, signature);
@@ -129,9 +137,13 @@ public class MethodSignature {
         };
 
         public static MethodType fromAccess(Method method) {
-            if (Modifier.isStatic(method.getModifiers())) {
+            return fromAccess(method.getModifiers());
+        }
+
+        public static MethodType fromAccess(int modifiers) {
+            if (Modifier.isStatic(modifiers)) {
                 return STATIC;
-            } else if (Modifier.isInterface(method.getModifiers())) {
+            } else if (Modifier.isInterface(modifiers)) {
                 return INTERFACE;
             } else {
                 return VIRTUAL;
@@ -34,6 +34,14 @@ public class Operator {
         }
     }
 
+    public Fixity getFixity() {
+        return fixity;
+    }
+
+    public int getPrecedence() {
+        return precedence;
+    }
+
     public boolean hasLessPrecedenceThan(Operator other) {
         return precedence < other.precedence;
     }
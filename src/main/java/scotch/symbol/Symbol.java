@@ -2,14 +2,11 @@ package scotch.symbol;
 
 import static java.lang.Character.isUpperCase;
 import static java.util.Arrays.asList;
-import static java.util.regex.Pattern.compile;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static scotch.compiler.util.Pair.pair;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -17,22 +14,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import scotch.compiler.util.Pair;
 import scotch.util.StringUtil;
 
 public abstract class Symbol implements Comparable<Symbol> {
 
-    private static final Pattern                tuplePattern           = compile("\\(,*\\)");
-    private static final String                 moduleSubPattern       = "[A-Za-z_]\\w*(?:\\.[A-Za-z_]\\w*)*";
-    private static final String                 memberSubPattern       = "(\\[\\]|\\((?:[^\\)]+)\\)|(?:[^\\.]+)|\\(,*\\))";
-    private static final Pattern                qualifiedPattern       = compile("^(\\$?" + moduleSubPattern + ")\\." + memberSubPattern + "$");
-    private static final Pattern                containsSymbolsPattern = compile("\\W");
-    private static final Set<String>            javaWords              = ImmutableSet.of(
+    private static final Interner<Symbol>    symbols     = Interners.newWeakInterner();
+    private static final Set<String>         javaWords   = ImmutableSet.of(
         "abstract", "assert",
         "boolean", "break", "byte",
         "case", "catch", "char", "class", "const", "continue",
@@ -50,33 +43,50 @@ public abstract class Symbol implements Comparable<Symbol> {
         "void", "volatile",
         "while"
     );
-    private static final Map<Symbol, String>    javaTypeMap            = ImmutableMap.<Symbol, String>builder()
+    private static final Map<Symbol, String> javaTypeMap = ImmutableMap.<Symbol, String>builder()
         .put(qualified("scotch.data.int", "Int"), p(Integer.class))
         .put(qualified("scotch.data.string", "String"), p(String.class))
         .put(qualified("scotch.data.char.Char", "Char"), p(Character.class))
         .put(qualified("scotch.data.bool", "Bool"), p(Boolean.class))
         .put(qualified("scotch.data.double", "Double"), p(Double.class))
         .build();
-    private static final Map<Character, String> javaSymbolMap          = ImmutableMap.<Character, String>builder()
-        .put('~', "$twiddle")
-        .put('|', "$or")
-        .put('!', "$bang")
-        .put('$', "$bux")
-        .put('%', "$chunk")
-        .put('^', "$point")
-        .put('&', "$ditto")
-        .put('*', "$splat")
-        .put('-', "$down")
-        .put('=', "$same")
-        .put('+', "$up")
-        .put('/', "$split")
-        .put('?', "$wat")
-        .put('<', "$left")
-        .put('>', "$right")
-        .put('.', "$dot")
-        .put(':', "$doot")
-        .put('#', "$")
-        .build();
+    private static final String[]            javaNames   = new String[128];
+
+    static {
+        javaNames['~'] = "$twiddle";
+        javaNames['|'] = "$or";
+        javaNames['!'] = "$bang";
+        javaNames['$'] = "$bux";
+        javaNames['%'] = "$chunk";
+        javaNames['^'] = "$point";
+        javaNames['&'] = "$ditto";
+        javaNames['*'] = "$splat";
+        javaNames['-'] = "$down";
+        javaNames['='] = "$same";
+        javaNames['+'] = "$up";
+        javaNames['/'] = "$split";
+        javaNames['?'] = "$wat";
+        javaNames['<'] = "$left";
+        javaNames['>'] = "$right";
+        javaNames['.'] = "$dot";
+        javaNames[':'] = "$doot";
+        javaNames['#'] = "$";
+    }
+
+    public static String getModuleName(String packageName) {
+        StringBuilder builder = new StringBuilder(packageName.length());
+        for (String section : packageName.split("\\.")) {
+            if (builder.length() > 0) {
+                builder.append('.');
+            }
+            if (section.endsWith("_") && javaWords.contains(section.substring(0, section.length() - 1))) {
+                builder.append(section, 0, section.length() - 1);
+            } else {
+                builder.append(section);
+            }
+        }
+        return builder.toString();
+    }
 
     public static String getPackageName(String moduleName) {
         return getPackageFor(moduleName, ".");
@@ -91,9 +101,9 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     public static String normalizeQualified(String moduleName, String memberName) {
-        if (memberName.matches("^\\d$")) {
+        if (memberName.length() == 1 && isDigit(memberName.charAt(0))) {
             return moduleName + ".(#" + memberName + ")";
-        } else if ("[]".equals(memberName) || tuplePattern.matcher(memberName).find() || !containsSymbolsPattern.matcher(memberName).find()) {
+        } else if ("[]".equals(memberName) || containsTuple(memberName) || !containsSymbols(memberName)) {
             return moduleName + '.' + memberName;
         } else {
             return moduleName + ".(" + memberName + ")";
@@ -113,19 +123,20 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     public static Symbol qualified(String moduleName, List<String> memberNames) {
-        return new QualifiedSymbol(moduleName, memberNames);
+        return symbols.intern(new QualifiedSymbol(moduleName, memberNames));
     }
 
     public static Pair<Optional<String>, String> splitQualified(String name) {
-        Matcher matcher = qualifiedPattern.matcher(name);
-        if (matcher.matches()) {
-            if (tuplePattern.matcher(matcher.group(2)).matches()) {
-                return pair(Optional.of(matcher.group(1)), matcher.group(2));
+        int split = findModuleEnd(name);
+        if (split == -1) {
+            return pair(Optional.empty(), name);
+        } else {
+            String memberName = name.substring(split + 1);
+            if (isTupleName(memberName)) {
+                return pair(Optional.of(name.substring(0, split)), memberName);
             } else {
-                return pair(Optional.of(matcher.group(1)), matcher.group(2).replaceAll("[\\(\\)]", ""));
+                return pair(Optional.of(name.substring(0, split)), stripParentheses(memberName));
             }
-        } else {
-            return pair(Optional.empty(), name);
         }
     }
 
@@ -138,9 +149,22 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     public static String toJavaName(String memberName) {
-        return memberName.chars()
-            .mapToObj(i -> javaSymbolMap.getOrDefault(i, String.valueOf(Character.toChars(i))))
-            .collect(joining());
+        StringBuilder builder = null;
+        for (int i = 0; i < memberName.length(); i++) {
+            char c = memberName.charAt(i);
+            String javaName = c < javaNames.length ? javaNames[c] : null;
+            if (javaName != null && builder == null) {
+                builder = new StringBuilder(memberName.length() + 16).append(memberName, 0, i);
+            }
+            if (builder != null) {
+                if (javaName == null) {
+                    builder.append(c);
+                } else {
+                    builder.append(javaName);
+                }
+            }
+        }
+        return builder == null ? memberName : builder.toString();
     }
 
     public static Symbol unqualified(String memberName) {
@@ -148,7 +172,7 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     public static Symbol unqualified(List<String> memberNames) {
-        return new UnqualifiedSymbol(memberNames);
+        return symbols.intern(new UnqualifiedSymbol(memberNames));
     }
 
     private static Integer compareMemberNames(Symbol left, Symbol right) {
@@ -167,14 +191,104 @@ public abstract class Symbol implements Comparable<Symbol> {
         return result;
     }
 
+    private static boolean containsSymbols(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (!isIdentifierPart(name.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsTuple(String name) {
+        for (int open = name.indexOf('('); open != -1; open = name.indexOf('(', open + 1)) {
+            int position = open + 1;
+            while (position < name.length() && name.charAt(position) == ',') {
+                position++;
+            }
+            if (position < name.length() && name.charAt(position) == ')') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int findModuleEnd(String name) {
+        int moduleEnd = -1;
+        int position = name.startsWith("$") ? 1 : 0;
+        while (position < name.length() && isIdentifierStart(name.charAt(position))) {
+            position++;
+            while (position < name.length() && isIdentifierPart(name.charAt(position))) {
+                position++;
+            }
+            if (position < name.length() && name.charAt(position) == '.') {
+                if (isMemberName(name, position + 1)) {
+                    moduleEnd = position;
+                }
+                position++;
+            } else {
+                break;
+            }
+        }
+        return moduleEnd;
+    }
+
     private static String getPackageFor(String moduleName, String delimiter) {
-        return Arrays.stream(moduleName.split("\\."))
-            .map(section -> javaWords.contains(section) ? section + "_" : section)
-            .collect(joining(delimiter));
+        StringBuilder builder = new StringBuilder(moduleName.length() + 8);
+        int start = 0;
+        while (true) {
+            int end = moduleName.indexOf('.', start);
+            String section = end == -1 ? moduleName.substring(start) : moduleName.substring(start, end);
+            builder.append(section);
+            if (javaWords.contains(section)) {
+                builder.append('_');
+            }
+            if (end == -1) {
+                return builder.toString();
+            }
+            builder.append(delimiter);
+            start = end + 1;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
+    }
+
+    private static boolean isMemberName(String name, int start) {
+        if (start == name.length()) {
+            return false;
+        } else if (name.indexOf('.', start) == -1) {
+            return true;
+        } else {
+            return name.length() - start >= 3
+                && name.charAt(start) == '('
+                && name.indexOf(')', start) == name.length() - 1;
+        }
+    }
+
+    private static boolean isTupleName(String name) {
+        if (name.length() < 2 || name.charAt(0) != '(' || name.charAt(name.length() - 1) != ')') {
+            return false;
+        }
+        for (int i = 1; i < name.length() - 1; i++) {
+            if (name.charAt(i) != ',') {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static String join(List<String> memberNames) {
-        if (memberNames.get(0).matches("^\\d.*$")) {
+        if (!memberNames.isEmpty() && startsWithDigit(memberNames.get(0))) {
             return "#" + join_(memberNames);
         } else {
             return join_(memberNames);
@@ -182,7 +296,25 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     private static String join_(List<String> memberNames) {
-        return memberNames.stream().collect(joining("#"));
+        return String.join("#", memberNames);
+    }
+
+    private static boolean startsWithDigit(String name) {
+        return !name.isEmpty() && isDigit(name.charAt(0));
+    }
+
+    private static String stripParentheses(String name) {
+        if (name.indexOf('(') == -1 && name.indexOf(')') == -1) {
+            return name;
+        }
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '(' && c != ')') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
     }
 
     private static List<String> normalize(List<String> memberNames) {
@@ -192,6 +324,9 @@ public abstract class Symbol implements Comparable<Symbol> {
             .collect(toList()));
     }
 
+    private String memberName;
+    private String simpleName;
+
     private Symbol() {
         // intentionally empty
     }
@@ -213,12 +348,10 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     public String getMemberName() {
-        String memberName = getMemberNames().stream().collect(joining("#"));
-        if (memberName.matches("^\\d+.*")) {
-            return "#" + memberName;
-        } else {
-            return memberName;
+        if (memberName == null) {
+            memberName = join(getMemberNames());
         }
+        return memberName;
     }
 
     public abstract List<String> getMemberNames();
@@ -230,12 +363,11 @@ public abstract class Symbol implements Comparable<Symbol> {
     public abstract String getModuleClass();
 
     public String getSimpleName() {
-        String simpleName = getMemberNames().get(getMemberNames().size() - 1);
-        if (simpleName.matches("^\\d+.*")) {
-            return "#" + simpleName;
-        } else {
-            return simpleName;
+        if (simpleName == null) {
+            String name = getMemberNames().get(getMemberNames().size() - 1);
+            simpleName = startsWithDigit(name) ? "#" + name : name;
         }
+        return simpleName;
     }
 
     @Override
@@ -254,7 +386,7 @@ public abstract class Symbol implements Comparable<Symbol> {
     }
 
     public boolean isTuple() {
-        return tuplePattern.matcher(getMemberName()).find();
+        return containsTuple(getMemberName());
     }
 
     public abstract Symbol map(Function<QualifiedSymbol, Symbol> function);
@@ -290,12 +422,17 @@ public abstract class Symbol implements Comparable<Symbol> {
 
     public static class QualifiedSymbol extends Symbol {
 
-        private final String moduleName;
+        private final String       moduleName;
         private final List<String> memberNames;
+        private final int          hash;
+        private       String       canonicalName;
+        private       String       className;
+        private       String       moduleClass;
 
         private QualifiedSymbol(String moduleName, List<String> memberNames) {
             this.moduleName = moduleName;
             this.memberNames = normalize(memberNames);
+            this.hash = Objects.hash(moduleName, this.memberNames);
         }
 
         @Override
@@ -329,7 +466,8 @@ public abstract class Symbol implements Comparable<Symbol> {
                 return true;
             } else if (o instanceof QualifiedSymbol) {
                 QualifiedSymbol other = (QualifiedSymbol) o;
-                return Objects.equals(moduleName, other.moduleName)
+                return hash == other.hash
+                    && Objects.equals(moduleName, other.moduleName)
                     && Objects.equals(memberNames, other.memberNames);
             } else {
                 return false;
@@ -338,13 +476,19 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         public String getCanonicalName() {
-            return normalizeQualified(moduleName, memberNames);
+            if (canonicalName == null) {
+                canonicalName = normalizeQualified(moduleName, memberNames);
+            }
+            return canonicalName;
         }
 
         @Override
         public String getClassName() {
-            return Optional.ofNullable(javaTypeMap.get(this))
-                .orElseGet(() -> getPackagePath() + "/" + toJavaName(getMemberName()));
+            if (className == null) {
+                className = Optional.ofNullable(javaTypeMap.get(this))
+                    .orElseGet(() -> getPackagePath() + "/" + toJavaName(getMemberName()));
+            }
+            return className;
         }
 
         @Override
@@ -354,8 +498,11 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         public String getModuleClass() {
-            return Optional.ofNullable(javaTypeMap.get(this))
-                .orElseGet(() -> getPackagePath() + "/$$Module");
+            if (moduleClass == null) {
+                moduleClass = Optional.ofNullable(javaTypeMap.get(this))
+                    .orElseGet(() -> getPackagePath() + "/$$Module");
+            }
+            return moduleClass;
         }
 
         public String getModuleName() {
@@ -364,7 +511,7 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         public int hashCode() {
-            return Objects.hash(moduleName, memberNames);
+            return hash;
         }
 
         @Override
@@ -388,16 +535,19 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         protected Symbol withMemberNames(List<String> memberNames) {
-            return new QualifiedSymbol(moduleName, memberNames);
+            return qualified(moduleName, memberNames);
         }
     }
 
     public static class UnqualifiedSymbol extends Symbol {
 
         private final List<String> memberNames;
+        private final int          hash;
+        private       String       canonicalName;
 
-        public UnqualifiedSymbol(List<String> memberNames) {
+        private UnqualifiedSymbol(List<String> memberNames) {
             this.memberNames = normalize(memberNames);
+            this.hash = Objects.hash(this.memberNames);
         }
 
         @Override
@@ -422,12 +572,17 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         public boolean equals(Object o) {
-            return o == this || o instanceof UnqualifiedSymbol && Objects.equals(memberNames, ((UnqualifiedSymbol) o).memberNames);
+            return o == this || o instanceof UnqualifiedSymbol
+                && hash == ((UnqualifiedSymbol) o).hash
+                && Objects.equals(memberNames, ((UnqualifiedSymbol) o).memberNames);
         }
 
         @Override
         public String getCanonicalName() {
-            return join(memberNames);
+            if (canonicalName == null) {
+                canonicalName = join(memberNames);
+            }
+            return canonicalName;
         }
 
         @Override
@@ -447,7 +602,7 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         public int hashCode() {
-            return Objects.hash(memberNames);
+            return hash;
         }
 
         @Override
@@ -467,7 +622,7 @@ public abstract class Symbol implements Comparable<Symbol> {
 
         @Override
         protected Symbol withMemberNames(List<String> memberNames) {
-            return new UnqualifiedSymbol(memberNames);
+            return unqualified(memberNames);
         }
     }
 }
@@ -2,6 +2,7 @@ package scotch.symbol;
 
 import static org.apache.commons.lang.StringUtils.capitalize;
 
+import java.util.Objects;
 import java.util.Optional;
 import scotch.symbol.descriptor.DataConstructorDescriptor;
 import scotch.symbol.descriptor.DataTypeDescriptor;
@@ -119,6 +120,26 @@ public abstract class SymbolEntry {
             throw existingSymbol("value");
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof ImmutableEntry) {
+                ImmutableEntry other = (ImmutableEntry) o;
+                return Objects.equals(symbol, other.symbol)
+                    && Objects.equals(optionalValue, other.optionalValue)
+                    && Objects.equals(optionalOperator, other.optionalOperator)
+                    && Objects.equals(optionalType, other.optionalType)
+                    && Objects.equals(optionalValueMethod, other.optionalValueMethod)
+                    && Objects.equals(optionalTypeClass, other.optionalTypeClass)
+                    && Objects.equals(optionalMemberOf, other.optionalMemberOf)
+                    && Objects.equals(optionalDataType, other.optionalDataType)
+                    && Objects.equals(optionalDataConstructor, other.optionalDataConstructor);
+            } else {
+                return false;
+            }
+        }
+
         @Override
         public Optional<DataConstructorDescriptor> getDataConstructor() {
             return optionalDataConstructor;
@@ -169,6 +190,11 @@ public abstract class SymbolEntry {
             return optionalValueMethod;
         }
 
+        @Override
+        public int hashCode() {
+            return Objects.hash(symbol, optionalValue, optionalOperator, optionalType, optionalValueMethod, optionalTypeClass, optionalMemberOf, optionalDataType, optionalDataConstructor);
+        }
+
         @Override
         public boolean isDataConstructor() {
             return optionalDataConstructor.isPresent();
@@ -204,6 +230,11 @@ public abstract class SymbolEntry {
             throw existingSymbol("value");
         }
 
+        @Override
+        public String toString() {
+            return "ImmutableEntry(" + symbol.quote() + ")";
+        }
+
         private IllegalStateException existingSymbol(String kind) {
             return new IllegalStateException("Can't define " + kind + " for existing symbol " + symbol.quote());
         }
@@ -281,22 +312,22 @@ public abstract class SymbolEntry {
     public static final class MutableEntry extends SymbolEntry {
 
         private final Symbol symbol;
-        private Optional<Type>                      optionalValue           = Optional.empty();
-        private Optional<Operator>                  optionalOperator        = Optional.empty();
-        private Optional<Type>                      optionalType            = Optional.empty();
-        private Optional<Type>                      optionalSignature       = Optional.empty();
-        private Optional<TypeClassDescriptor>       optionalTypeClass       = Optional.empty();
-        private Optional<Symbol>                    optionalMemberOf        = Optional.empty();
-        private Optional<DataTypeDescriptor>        optionalDataType        = Optional.empty();
-        private Optional<DataConstructorDescriptor> optionalDataConstructor = Optional.empty();
-        private Optional<MethodSignature>           optionalValueMethod     = Optional.empty();
+        private volatile Optional<Type>                      optionalValue           = Optional.empty();
+        private volatile Optional<Operator>                  optionalOperator        = Optional.empty();
+        private volatile Optional<Type>                      optionalType            = Optional.empty();
+        private volatile Optional<Type>                      optionalSignature       = Optional.empty();
+        private volatile Optional<TypeClassDescriptor>       optionalTypeClass       = Optional.empty();
+        private volatile Optional<Symbol>                    optionalMemberOf        = Optional.empty();
+        private volatile Optional<DataTypeDescriptor>        optionalDataType        = Optional.empty();
+        private volatile Optional<DataConstructorDescriptor> optionalDataConstructor = Optional.empty();
+        private volatile Optional<MethodSignature>           optionalValueMethod     = Optional.empty();
 
         private MutableEntry(Symbol symbol) {
             this.symbol = symbol;
         }
 
         @Override
-        public void defineDataConstructor(DataConstructorDescriptor dataConstructor) {
+        public synchronized void defineDataConstructor(DataConstructorDescriptor dataConstructor) {
             if (optionalDataConstructor.isPresent()) {
                 throw alreadyDefined("data constructor");
             } else {
@@ -305,7 +336,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void defineDataType(DataTypeDescriptor dataType) {
+        public synchronized void defineDataType(DataTypeDescriptor dataType) {
             if (optionalDataType.isPresent()) {
                 throw alreadyDefined("data type");
             } else {
@@ -314,7 +345,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void defineOperator(Operator operator) {
+        public synchronized void defineOperator(Operator operator) {
             if (optionalOperator.isPresent()) {
                 throw alreadyDefined("operator");
             } else {
@@ -323,7 +354,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void defineSignature(Type type) {
+        public synchronized void defineSignature(Type type) {
             if (optionalValue.isPresent()) {
                 throw alreadyDefined("value");
             } else if (optionalSignature.isPresent()) {
@@ -334,7 +365,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void defineValue(Type type, MethodSignature valueMethod) {
+        public synchronized void defineValue(Type type, MethodSignature valueMethod) {
             if (optionalValue.isPresent()) {
                 throw alreadyDefined("value");
             } else {
@@ -408,7 +439,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void redefineDataConstructor(DataConstructorDescriptor descriptor) {
+        public synchronized void redefineDataConstructor(DataConstructorDescriptor descriptor) {
             if (optionalDataConstructor.isPresent()) {
                 optionalDataConstructor = Optional.of(descriptor);
             } else {
@@ -417,7 +448,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void redefineDataType(DataTypeDescriptor descriptor) {
+        public synchronized void redefineDataType(DataTypeDescriptor descriptor) {
             if (optionalDataType.isPresent()) {
                 optionalDataType = Optional.of(descriptor);
             } else {
@@ -426,7 +457,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void redefineSignature(Type type) {
+        public synchronized void redefineSignature(Type type) {
             if (optionalSignature.isPresent()) {
                 optionalSignature = Optional.of(type);
             } else {
@@ -435,7 +466,7 @@ public abstract class SymbolEntry {
         }
 
         @Override
-        public void redefineValue(Type type, MethodSignature valueMethod) {
+        public synchronized void redefineValue(Type type, MethodSignature valueMethod) {
             if (optionalValue.isPresent()) {
                 optionalValue = Optional.of(type);
                 optionalValueMethod = Optional.of(valueMethod);
@@ -38,6 +38,10 @@ public class TypeClassDescriptor {
         }
     }
 
+    public Set<Symbol> getMembers() {
+        return members;
+    }
+
     public List<Type> getParameters() {
         return parameters;
     }
@@ -10,7 +10,6 @@ import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
-import scotch.symbol.TypeParameter;
 import scotch.symbol.type.Type;
 
 @EqualsAndHashCode
@@ -25,7 +24,7 @@ public class TypeInstanceDescriptor {
     private static List<TypeParameterDescriptor> parameterize(List arguments) {
         if (arguments.size() == 0) {
             return ImmutableList.of();
-        } else if (arguments.get(0) instanceof TypeParameter) {
+        } else if (arguments.get(0) instanceof TypeParameterDescriptor) {
             return arguments;
         } else if (arguments.get(0) instanceof Type) {
             return ((List<Type>) arguments).stream()
@@ -27,6 +27,10 @@ public class TypeParameterDescriptor {
         }
     }
 
+    public static TypeParameterDescriptor typeParam(Symbol symbol, List<Set<Symbol>> argumentContexts) {
+        return new TypeParameterDescriptor(symbol, argumentContexts);
+    }
+
     private static TypeParameterDescriptor fromType_(SumType type) {
         return new TypeParameterDescriptor(type.getSymbol(), type.getParameters().stream()
             .map(Type::getContext)
@@ -49,12 +53,20 @@ public class TypeParameterDescriptor {
             .collect(toList()));
     }
 
+    public List<Set<Symbol>> getArgumentContexts() {
+        return argumentContexts;
+    }
+
     public Set<Symbol> getContext() {
         Set<Symbol> context = new HashSet<>();
         argumentContexts.forEach(context::addAll);
         return context;
     }
 
+    public Symbol getSymbol() {
+        return symbol;
+    }
+
     public boolean matches(Type type) {
         return type instanceof SumType && matches_((SumType) type);
     }
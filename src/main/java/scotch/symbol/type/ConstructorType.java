@@ -1,6 +1,6 @@
 package scotch.symbol.type;
 
-import static lombok.AccessLevel.PACKAGE;
+import static scotch.symbol.type.TypeFactory.constructorType;
 import static scotch.symbol.type.Unification.mismatch;
 import static scotch.symbol.type.Unification.unified;
 import static scotch.symbol.type.Types.unifyVariable;
@@ -10,22 +10,44 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
+import com.google.common.collect.ImmutableSet;
 import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
 
-@AllArgsConstructor(access = PACKAGE)
-@EqualsAndHashCode(callSuper = false)
 public class ConstructorType extends Type {
 
-    private final Type head;
-    private final Type tail;
+    private final Type                            head;
+    private final Type                            tail;
+    private final int                             hash;
+    private final boolean                         canonical;
+    private       Set<Pair<VariableType, Symbol>> context;
+
+    ConstructorType(Type head, Type tail) {
+        this.head = head;
+        this.tail = tail;
+        this.hash = Objects.hash(head, tail);
+        this.canonical = head.isCanonical() && tail.isCanonical();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof ConstructorType) {
+            ConstructorType other = (ConstructorType) o;
+            return hash == other.hash
+                && Objects.equals(head, other.head)
+                && Objects.equals(tail, other.tail);
+        } else {
+            return false;
+        }
+    }
 
     @Override
     public Type flatten() {
@@ -40,6 +62,10 @@ public class ConstructorType extends Type {
         }};
     }
 
+    public Type getHead() {
+        return head;
+    }
+
     @Override
     public String getSignature() {
         throw new UnsupportedOperationException(); // TODO
@@ -50,9 +76,18 @@ public class ConstructorType extends Type {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    public Type getTail() {
+        return tail;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
-        return new ConstructorType(head.mapVariables(mapper), tail.mapVariables(mapper));
+        return constructorType(head.mapVariables(mapper), tail.mapVariables(mapper));
     }
 
     @Override
@@ -64,7 +99,7 @@ public class ConstructorType extends Type {
         return type.apply(head, scope).unify(
             (appliedType, remainingParameters) -> {
                 if (remainingParameters.isEmpty()) {
-                    return unified(new ConstructorType(appliedType, tail).flatten());
+                    return unified(constructorType(appliedType, tail).flatten());
                 } else {
                     return tail.apply(appliedType, remainingParameters, scope);
                 }
@@ -84,6 +119,11 @@ public class ConstructorType extends Type {
             });
     }
 
+    @Override
+    boolean isCanonical() {
+        return canonical;
+    }
+
     @Override
     protected boolean contains(VariableType type) {
         return head.contains(type) || tail.contains(type);
@@ -99,20 +139,23 @@ public class ConstructorType extends Type {
 
     @Override
     protected Set<Pair<VariableType, Symbol>> gatherContext_() {
-        return new HashSet<Pair<VariableType, Symbol>>() {{
-            addAll(head.gatherContext_());
-            addAll(tail.gatherContext_());
-        }};
+        if (context == null) {
+            context = ImmutableSet.copyOf(new HashSet<Pair<VariableType, Symbol>>() {{
+                addAll(head.gatherContext_());
+                addAll(tail.gatherContext_());
+            }});
+        }
+        return context;
     }
 
     @Override
     protected Type generate(TypeScope scope, Set<Type> visited) {
-        return new ConstructorType(head.generate(scope, visited), tail.generate(scope, visited)).flatten();
+        return constructorType(head.generate(scope, visited), tail.generate(scope, visited)).flatten();
     }
 
     @Override
     protected Type genericCopy(TypeScope scope, Map<Type, Type> mappings) {
-        return new ConstructorType(
+        return constructorType(
             head.genericCopy(scope, mappings),
             tail.genericCopy(scope, mappings)
         );
@@ -137,7 +180,7 @@ public class ConstructorType extends Type {
     protected Unification unifyWith(ConstructorType target, TypeScope scope) {
         return head.unify(target.head, scope)
             .map(checkedHead -> tail.unify(target.tail, scope)
-                .map(checkedTail -> unified(new ConstructorType(checkedHead, checkedTail))));
+                .map(checkedTail -> unified(constructorType(checkedHead, checkedTail))));
     }
 
     @Override
@@ -1,6 +1,8 @@
 package scotch.symbol.type;
 
 import static me.qmx.jitescript.util.CodegenUtils.p;
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
+import static scotch.symbol.type.TypeFactory.functionType;
 import static scotch.symbol.type.Unification.circular;
 import static scotch.symbol.type.Unification.mismatch;
 import static scotch.symbol.type.Unification.unified;
@@ -12,29 +14,34 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
-import lombok.EqualsAndHashCode;
 import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
 
-@EqualsAndHashCode(callSuper = false)
 public class FunctionType extends Type {
 
-    private final SourceLocation sourceLocation;
-    private final Type           argument;
-    private final Type           result;
+    private final SourceLocation                  sourceLocation;
+    private final Type                            argument;
+    private final Type                            result;
+    private final int                             hash;
+    private final boolean                         canonical;
+    private       String                          signature;
+    private       Set<Pair<VariableType, Symbol>> context;
 
     FunctionType(SourceLocation sourceLocation, Type argument, Type result) {
         this.sourceLocation = sourceLocation;
         this.argument = argument;
         this.result = result;
+        this.hash = Objects.hash(argument, result);
+        this.canonical = sourceLocation == NULL_SOURCE && argument.isCanonical() && result.isCanonical();
     }
 
     @Override
@@ -43,9 +50,24 @@ public class FunctionType extends Type {
         result.accept(consumer);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof FunctionType) {
+            FunctionType other = (FunctionType) o;
+            return hash == other.hash
+                && Objects.equals(sourceLocation, other.sourceLocation)
+                && Objects.equals(argument, other.argument)
+                && Objects.equals(result, other.result);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public Type flatten() {
-        return new FunctionType(sourceLocation, argument.flatten(), result.flatten());
+        return functionType(sourceLocation, argument.flatten(), result.flatten());
     }
 
     public Type getArgument() {
@@ -76,7 +98,10 @@ public class FunctionType extends Type {
 
     @Override
     public String getSignature() {
-        return "(" + argument.getSignature_() + ");" + result.getSignature_();
+        if (signature == null) {
+            signature = "(" + argument.getSignature_() + ");" + result.getSignature_();
+        }
+        return signature;
     }
 
     @Override
@@ -84,9 +109,14 @@ public class FunctionType extends Type {
         return sourceLocation;
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
-        return new FunctionType(sourceLocation, argument.mapVariables(mapper), result.mapVariables(mapper));
+        return functionType(sourceLocation, argument.mapVariables(mapper), result.mapVariables(mapper));
     }
 
     @Override
@@ -95,15 +125,20 @@ public class FunctionType extends Type {
     }
 
     public FunctionType withArgument(Type argument) {
-        return new FunctionType(sourceLocation, argument, result);
+        return functionType(sourceLocation, argument, result);
     }
 
     public FunctionType withResult(Type result) {
-        return new FunctionType(sourceLocation, argument, result);
+        return functionType(sourceLocation, argument, result);
     }
 
     public FunctionType withSourceLocation(SourceLocation sourceLocation) {
-        return new FunctionType(sourceLocation, argument, result);
+        return functionType(sourceLocation, argument, result);
+    }
+
+    @Override
+    boolean isCanonical() {
+        return canonical;
     }
 
     @Override
@@ -118,20 +153,23 @@ public class FunctionType extends Type {
 
     @Override
     protected Set<Pair<VariableType, Symbol>> gatherContext_() {
-        Set<Pair<VariableType, Symbol>> context = new HashSet<>();
-        context.addAll(argument.gatherContext_());
-        context.addAll(result.gatherContext_());
-        return ImmutableSortedSet.copyOf(Types::sort, context);
+        if (context == null) {
+            Set<Pair<VariableType, Symbol>> contexts = new HashSet<>();
+            contexts.addAll(argument.gatherContext_());
+            contexts.addAll(result.gatherContext_());
+            context = ImmutableSortedSet.copyOf(Types::sort, contexts);
+        }
+        return context;
     }
 
     @Override
     protected Type generate(TypeScope scope, Set<Type> visited) {
-        return new FunctionType(sourceLocation, argument.generate(scope), result.generate(scope)).flatten();
+        return functionType(sourceLocation, argument.generate(scope), result.generate(scope)).flatten();
     }
 
     @Override
     protected Type genericCopy(TypeScope scope, Map<Type, Type> mappings) {
-        return new FunctionType(
+        return functionType(
             sourceLocation,
             argument.genericCopy(scope, mappings),
             result.genericCopy(scope, mappings)
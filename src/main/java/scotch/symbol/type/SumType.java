@@ -3,6 +3,8 @@ package scotch.symbol.type;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
+import static scotch.symbol.type.TypeFactory.sumType;
 import static scotch.symbol.type.Types.unifyVariable;
 import static scotch.symbol.type.Unification.circular;
 import static scotch.symbol.type.Unification.mismatch;
@@ -13,19 +15,19 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import lombok.EqualsAndHashCode;
+import com.google.common.collect.ImmutableSet;
 import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
 
-@EqualsAndHashCode(callSuper = false)
 public class SumType extends Type {
 
     private static void shouldBeSumName(Symbol symbol) {
@@ -44,15 +46,21 @@ public class SumType extends Type {
         return result;
     }
 
-    private final SourceLocation sourceLocation;
-    private final Symbol         symbol;
-    private final List<Type>     parameters;
+    private final SourceLocation                  sourceLocation;
+    private final Symbol                          symbol;
+    private final List<Type>                      parameters;
+    private final int                             hash;
+    private final boolean                         canonical;
+    private       String                          signature;
+    private       Set<Pair<VariableType, Symbol>> context;
 
     SumType(SourceLocation sourceLocation, Symbol symbol, List<Type> parameters) {
         shouldBeSumName(symbol);
         this.sourceLocation = sourceLocation;
         this.symbol = symbol;
         this.parameters = ImmutableList.copyOf(parameters);
+        this.hash = Objects.hash(symbol, this.parameters);
+        this.canonical = sourceLocation == NULL_SOURCE && this.parameters.stream().allMatch(Type::isCanonical);
     }
 
     @Override
@@ -70,9 +78,24 @@ public class SumType extends Type {
         return head.applyZipWith(this, scope);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof SumType) {
+            SumType other = (SumType) o;
+            return hash == other.hash
+                && Objects.equals(sourceLocation, other.sourceLocation)
+                && Objects.equals(symbol, other.symbol)
+                && Objects.equals(parameters, other.parameters);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public Type flatten() {
-        return new SumType(sourceLocation, symbol, parameters.stream()
+        return sumType(sourceLocation, symbol, parameters.stream()
             .map(Type::flatten)
             .collect(toList()));
     }
@@ -88,7 +111,10 @@ public class SumType extends Type {
 
     @Override
     public String getSignature() {
-        return "()L" + getSignature_() + ";";
+        if (signature == null) {
+            signature = "()L" + getSignature_() + ";";
+        }
+        return signature;
     }
 
     @Override
@@ -96,6 +122,11 @@ public class SumType extends Type {
         return sourceLocation;
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public Type mapVariables(Function<VariableType, Type> mapper) {
         return withParameters(parameters.stream()
@@ -120,15 +151,20 @@ public class SumType extends Type {
     }
 
     public SumType withParameters(List<Type> arguments) {
-        return new SumType(sourceLocation, symbol, arguments);
+        return sumType(sourceLocation, symbol, arguments);
     }
 
     public SumType withSourceLocation(SourceLocation sourceLocation) {
-        return new SumType(sourceLocation, symbol, parameters);
+        return sumType(sourceLocation, symbol, parameters);
     }
 
     public SumType withSymbol(Symbol symbol) {
-        return new SumType(sourceLocation, symbol, parameters);
+        return sumType(sourceLocation, symbol, parameters);
+    }
+
+    @Override
+    boolean isCanonical() {
+        return canonical;
     }
 
     @Override
@@ -153,9 +189,12 @@ public class SumType extends Type {
 
     @Override
     protected Set<Pair<VariableType, Symbol>> gatherContext_() {
-        return parameters.stream()
-            .flatMap(parameter -> parameter.gatherContext_().stream())
-            .collect(toSet());
+        if (context == null) {
+            context = ImmutableSet.copyOf(parameters.stream()
+                .flatMap(parameter -> parameter.gatherContext_().stream())
+                .collect(toSet()));
+        }
+        return context;
     }
 
     @Override
@@ -167,7 +206,7 @@ public class SumType extends Type {
 
     @Override
     protected Type genericCopy(TypeScope scope, Map<Type, Type> mappings) {
-        return new SumType(sourceLocation, symbol, parameters.stream()
+        return sumType(sourceLocation, symbol, parameters.stream()
             .map(parameter -> parameter.genericCopy(scope, mappings))
             .collect(toList()));
     }
@@ -3,6 +3,7 @@ package scotch.symbol.type;
 import static java.util.Collections.reverse;
 import static java.util.stream.Collectors.joining;
 import static scotch.compiler.util.Pair.pair;
+import static scotch.symbol.type.TypeFactory.constructorType;
 import static scotch.symbol.type.Unification.unified;
 
 import java.util.ArrayList;
@@ -150,6 +151,10 @@ public abstract class Type {
         return zip.next((Type parameter) -> zip_(parameter, scope));
     }
 
+    boolean isCanonical() {
+        return false;
+    }
+
     protected abstract boolean contains(VariableType type);
 
     protected Type flatten(List<Type> types) {
@@ -161,7 +166,7 @@ public abstract class Type {
         Iterator<Type> iterator = reversedTypes.iterator();
         Type type = iterator.next();
         while (iterator.hasNext()) {
-            type = new ConstructorType(iterator.next(), type);
+            type = constructorType(iterator.next(), type);
         }
         return type;
     }
@@ -0,0 +1,42 @@
+package scotch.symbol.type;
+
+import java.util.Collection;
+import java.util.List;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import scotch.compiler.text.SourceLocation;
+import scotch.symbol.Symbol;
+
+final class TypeFactory {
+
+    private static final Interner<Type> types = Interners.newWeakInterner();
+
+    static ConstructorType constructorType(Type head, Type tail) {
+        return intern(new ConstructorType(head, tail));
+    }
+
+    static FunctionType functionType(SourceLocation sourceLocation, Type argument, Type result) {
+        return intern(new FunctionType(sourceLocation, argument, result));
+    }
+
+    static SumType sumType(SourceLocation sourceLocation, Symbol symbol, List<Type> parameters) {
+        return intern(new SumType(sourceLocation, symbol, parameters));
+    }
+
+    static VariableType variableType(SourceLocation sourceLocation, String name, Collection<Symbol> context) {
+        return intern(new VariableType(sourceLocation, name, context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Type> T intern(T type) {
+        if (type.isCanonical()) {
+            return (T) types.intern(type);
+        } else {
+            return type;
+        }
+    }
+
+    private TypeFactory() {
+        // intentionally empty
+    }
+}
@@ -3,6 +3,10 @@ package scotch.symbol.type;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.type.TypeFactory.constructorType;
+import static scotch.symbol.type.TypeFactory.functionType;
+import static scotch.symbol.type.TypeFactory.sumType;
+import static scotch.symbol.type.TypeFactory.variableType;
 import static scotch.symbol.type.Unification.contextMismatch;
 import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
 
@@ -17,11 +21,11 @@ import scotch.compiler.util.Pair;
 public class Types {
 
     public static ConstructorType ctor(Type head, Type tail) {
-        return new ConstructorType(head, tail);
+        return constructorType(head, tail);
     }
 
     public static FunctionType fn(Type argument, Type result) {
-        return new FunctionType(NULL_SOURCE, argument, result);
+        return functionType(NULL_SOURCE, argument, result);
     }
 
     public static InstanceType instance(Symbol symbol, Type binding) {
@@ -45,7 +49,7 @@ public class Types {
     }
 
     public static SumType sum(Symbol name, List<Type> arguments) {
-        return new SumType(NULL_SOURCE, name, arguments);
+        return sumType(NULL_SOURCE, name, arguments);
     }
 
     public static SumType sum(Symbol symbol) {
@@ -65,7 +69,7 @@ public class Types {
     }
 
     public static VariableType var(String name, Collection<?> context) {
-        return new VariableType(NULL_SOURCE, name, toSymbols(context));
+        return variableType(NULL_SOURCE, name, toSymbols(context));
     }
 
     protected static int sort(Pair<VariableType, Symbol> left, Pair<VariableType, Symbol> right) {
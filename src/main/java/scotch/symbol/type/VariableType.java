@@ -5,6 +5,8 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
+import static scotch.symbol.type.TypeFactory.variableType;
 import static scotch.symbol.type.Types.var;
 import static scotch.symbol.type.Unification.circular;
 import static scotch.symbol.type.Unification.mismatch;
@@ -31,9 +33,12 @@ import scotch.compiler.util.Pair;
 
 public class VariableType extends Type {
 
+    private static final String signature = sig(Object.class);
+
     private final SourceLocation sourceLocation;
     private final String         name;
     private final Set<Symbol>    context;
+    private final int            hash;
 
     VariableType(SourceLocation sourceLocation, String name, Collection<Symbol> context) {
         if (!isLowerCase(name.charAt(0))) {
@@ -42,6 +47,7 @@ public class VariableType extends Type {
         this.sourceLocation = sourceLocation;
         this.name = name;
         this.context = ImmutableSet.copyOf(context);
+        this.hash = Objects.hash(name, this.context);
     }
 
     @Override
@@ -87,7 +93,8 @@ public class VariableType extends Type {
             return true;
         } else if (o instanceof VariableType) {
             VariableType other = (VariableType) o;
-            return Objects.equals(name, other.name)
+            return hash == other.hash
+                && Objects.equals(name, other.name)
                 && Objects.equals(context, other.context);
         } else {
             return false;
@@ -125,7 +132,7 @@ public class VariableType extends Type {
 
     @Override
     public String getSignature() {
-        return sig(Object.class);
+        return signature;
     }
 
     @Override
@@ -135,7 +142,7 @@ public class VariableType extends Type {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, context);
+        return hash;
     }
 
     @Override
@@ -168,11 +175,11 @@ public class VariableType extends Type {
     }
 
     public VariableType withContext(Collection<Symbol> context) {
-        return new VariableType(sourceLocation, name, context);
+        return variableType(sourceLocation, name, context);
     }
 
     public VariableType withSourceLocation(SourceLocation sourceLocation) {
-        return new VariableType(sourceLocation, name, context);
+        return variableType(sourceLocation, name, context);
     }
 
     private Unification bind(Type target, TypeScope scope) {
@@ -191,6 +198,11 @@ public class VariableType extends Type {
         }
     }
 
+    @Override
+    boolean isCanonical() {
+        return sourceLocation == NULL_SOURCE;
+    }
+
     @Override
     protected boolean contains(VariableType type) {
         return equals(type);
@@ -6,41 +6,90 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import scotch.symbol.Symbol;
 import scotch.symbol.type.Types;
 import scotch.symbol.type.VariableType;
 
 public class DefaultSymbolGenerator implements SymbolGenerator {
 
-    private final Map<List<String>, AtomicInteger> counters;
-    private       int                              nextSymbol;
-    private       int                              nextType;
+    private final ConcurrentMap<List<String>, AtomicInteger> counters;
+    private final AtomicInteger                              nextSymbol;
+    private final AtomicInteger                              nextType;
+    private final ThreadLocal<Group>                         groups;
 
     public DefaultSymbolGenerator() {
-        counters = new HashMap<>();
+        counters = new ConcurrentHashMap<>();
+        nextSymbol = new AtomicInteger();
+        nextType = new AtomicInteger();
+        groups = new ThreadLocal<>();
+    }
+
+    public <T> T numberGroup(int group, Supplier<T> supplier) {
+        Group previous = groups.get();
+        groups.set(new Group(group));
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                groups.remove();
+            } else {
+                groups.set(previous);
+            }
+        }
     }
 
     @Override
     public Symbol reserveSymbol() {
-        return unqualified(String.valueOf(nextSymbol++));
+        Group group = groups.get();
+        if (group == null) {
+            return unqualified(String.valueOf(nextSymbol.getAndIncrement()));
+        } else {
+            return unqualified(group.prefix + group.nextSymbol++);
+        }
     }
 
     @Override
     public Symbol reserveSymbol(List<String> nestings) {
+        Group group = groups.get();
         List<String> memberNames = new ArrayList<>();
         memberNames.addAll(nestings);
-        memberNames.add(String.valueOf(counters.computeIfAbsent(nestings, k -> new AtomicInteger()).getAndIncrement()));
+        if (group == null) {
+            memberNames.add(String.valueOf(counters.computeIfAbsent(nestings, k -> new AtomicInteger()).getAndIncrement()));
+        } else {
+            memberNames.add(group.prefix + (group.counters.merge(nestings, 1, Integer::sum) - 1));
+        }
         return unqualified(memberNames);
     }
 
     @Override
     public VariableType reserveType() {
-        return Types.t(nextType++);
+        Group group = groups.get();
+        if (group == null) {
+            return Types.t(nextType.getAndIncrement());
+        } else {
+            return Types.var("t" + group.prefix + group.nextType++);
+        }
     }
 
     @Override
     public void startTypesAt(int counter) {
-        nextType = counter;
+        nextType.set(counter);
+    }
+
+    private static final class Group {
+
+        private final String                     prefix;
+        private final Map<List<String>, Integer> counters;
+        private       int                        nextSymbol;
+        private       int                        nextType;
+
+        public Group(int index) {
+            this.prefix = index + "_";
+            this.counters = new HashMap<>();
+        }
     }
 }
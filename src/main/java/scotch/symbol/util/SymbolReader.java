@@ -0,0 +1,218 @@
+package scotch.symbol.util;
+
+import static scotch.symbol.Operator.operator;
+import static scotch.symbol.Symbol.qualified;
+import static scotch.symbol.Symbol.unqualified;
+import static scotch.symbol.SymbolEntry.immutableEntry;
+import static scotch.symbol.descriptor.DataFieldDescriptor.field;
+import static scotch.symbol.descriptor.TypeClassDescriptor.typeClass;
+import static scotch.symbol.descriptor.TypeInstanceDescriptor.typeInstance;
+import static scotch.symbol.descriptor.TypeParameterDescriptor.typeParam;
+import static scotch.symbol.type.Types.ctor;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.instance;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+import static scotch.symbol.util.SymbolWriter.CONSTRUCTOR_TYPE;
+import static scotch.symbol.util.SymbolWriter.DATA_CONSTRUCTOR;
+import static scotch.symbol.util.SymbolWriter.DATA_TYPE;
+import static scotch.symbol.util.SymbolWriter.FUNCTION_TYPE;
+import static scotch.symbol.util.SymbolWriter.INSTANCE_TYPE;
+import static scotch.symbol.util.SymbolWriter.MEMBER_OF;
+import static scotch.symbol.util.SymbolWriter.OPERATOR;
+import static scotch.symbol.util.SymbolWriter.SUM_TYPE;
+import static scotch.symbol.util.SymbolWriter.TYPE;
+import static scotch.symbol.util.SymbolWriter.TYPE_CLASS;
+import static scotch.symbol.util.SymbolWriter.VALUE;
+import static scotch.symbol.util.SymbolWriter.VALUE_METHOD;
+import static scotch.symbol.util.SymbolWriter.VARIABLE_TYPE;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.MethodSignature.MethodType;
+import scotch.symbol.Symbol;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.SymbolEntry.ImmutableEntryBuilder;
+import scotch.symbol.Value.Fixity;
+import scotch.symbol.descriptor.DataConstructorDescriptor;
+import scotch.symbol.descriptor.DataFieldDescriptor;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.descriptor.TypeParameterDescriptor;
+import scotch.symbol.type.Type;
+
+public class SymbolReader {
+
+    private final DataInput    in;
+    private final List<String> strings;
+
+    public SymbolReader(DataInput in) {
+        this.in = in;
+        this.strings = new ArrayList<>();
+    }
+
+    public List<SymbolEntry> readEntries() throws IOException {
+        int size = readInt();
+        List<SymbolEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(readEntry());
+        }
+        return entries;
+    }
+
+    public SymbolEntry readEntry() throws IOException {
+        ImmutableEntryBuilder builder = immutableEntry(readSymbol());
+        int flags = readInt();
+        if ((flags & VALUE) != 0) {
+            builder.withValueType(readType());
+        }
+        if ((flags & OPERATOR) != 0) {
+            builder.withOperator(operator(Fixity.values()[readInt()], readInt()));
+        }
+        if ((flags & TYPE) != 0) {
+            builder.withType(readType());
+        }
+        if ((flags & VALUE_METHOD) != 0) {
+            builder.withValueMethod(readMethod());
+        }
+        if ((flags & TYPE_CLASS) != 0) {
+            builder.withTypeClass(typeClass(readSymbol(), readTypes(), readSymbols()));
+        }
+        if ((flags & MEMBER_OF) != 0) {
+            builder.withMemberOf(readSymbol());
+        }
+        if ((flags & DATA_TYPE) != 0) {
+            builder.dataType().withParameters(readTypes());
+            int size = readInt();
+            for (int i = 0; i < size; i++) {
+                builder.dataType().addConstructor(readDataConstructor());
+            }
+        }
+        if ((flags & DATA_CONSTRUCTOR) != 0) {
+            DataConstructorDescriptor constructor = readDataConstructor();
+            builder.dataConstructor(constructor.getOrdinal(), constructor.getDataType(), constructor.getClassName())
+                .withFields(constructor.getFields());
+        }
+        return builder.build();
+    }
+
+    public List<TypeInstanceDescriptor> readInstances() throws IOException {
+        int size = readInt();
+        List<TypeInstanceDescriptor> instances = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            instances.add(readInstance());
+        }
+        return instances;
+    }
+
+    public TypeInstanceDescriptor readInstance() throws IOException {
+        String moduleName = readString();
+        Symbol typeClass = readSymbol();
+        int size = readInt();
+        List<TypeParameterDescriptor> parameters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Symbol symbol = readSymbol();
+            int contextCount = readInt();
+            List<Set<Symbol>> contexts = new ArrayList<>(contextCount);
+            for (int j = 0; j < contextCount; j++) {
+                contexts.add(readSymbols());
+            }
+            parameters.add(typeParam(symbol, contexts));
+        }
+        return typeInstance(moduleName, typeClass, parameters, readMethod());
+    }
+
+    public int readInt() throws IOException {
+        int value = 0;
+        int shift = 0;
+        int current;
+        do {
+            current = in.readUnsignedByte();
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    public String readString() throws IOException {
+        int index = readInt();
+        if (index == 0) {
+            String value = in.readUTF();
+            strings.add(value);
+            return value;
+        } else {
+            return strings.get(index - 1);
+        }
+    }
+
+    public Symbol readSymbol() throws IOException {
+        boolean isQualified = in.readBoolean();
+        String moduleName = isQualified ? readString() : null;
+        int size = readInt();
+        List<String> memberNames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            memberNames.add(readString());
+        }
+        return isQualified ? qualified(moduleName, memberNames) : unqualified(memberNames);
+    }
+
+    public Type readType() throws IOException {
+        int tag = readInt();
+        switch (tag) {
+            case SUM_TYPE:
+                return sum(readSymbol(), readTypes());
+            case FUNCTION_TYPE:
+                return fn(readType(), readType());
+            case VARIABLE_TYPE:
+                return var(readString(), readSymbols());
+            case CONSTRUCTOR_TYPE:
+                return ctor(readType(), readType());
+            case INSTANCE_TYPE:
+                return instance(readSymbol(), readType());
+            default:
+                throw new IOException("Unknown type tag " + tag);
+        }
+    }
+
+    private DataConstructorDescriptor readDataConstructor() throws IOException {
+        int ordinal = readInt();
+        Symbol dataType = readSymbol();
+        Symbol symbol = readSymbol();
+        String className = readString();
+        int size = readInt();
+        List<DataFieldDescriptor> fields = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            fields.add(field(readInt(), readString(), readString(), readType()));
+        }
+        return DataConstructorDescriptor.builder(ordinal, dataType, symbol, className)
+            .withFields(fields)
+            .build();
+    }
+
+    private MethodSignature readMethod() throws IOException {
+        MethodType methodType = MethodType.values()[readInt()];
+        return MethodSignature.fromString(methodType, readString());
+    }
+
+    private Set<Symbol> readSymbols() throws IOException {
+        int size = readInt();
+        Set<Symbol> symbols = new HashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            symbols.add(readSymbol());
+        }
+        return symbols;
+    }
+
+    private List<Type> readTypes() throws IOException {
+        int size = readInt();
+        List<Type> types = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            types.add(readType());
+        }
+        return types;
+    }
+}
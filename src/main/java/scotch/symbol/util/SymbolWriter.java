@@ -0,0 +1,233 @@
+package scotch.symbol.util;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.Operator;
+import scotch.symbol.Symbol;
+import scotch.symbol.Symbol.QualifiedSymbol;
+import scotch.symbol.SymbolEntry;
+import scotch.symbol.descriptor.DataConstructorDescriptor;
+import scotch.symbol.descriptor.DataFieldDescriptor;
+import scotch.symbol.descriptor.DataTypeDescriptor;
+import scotch.symbol.descriptor.TypeClassDescriptor;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.descriptor.TypeParameterDescriptor;
+import scotch.symbol.type.ConstructorType;
+import scotch.symbol.type.FunctionType;
+import scotch.symbol.type.InstanceType;
+import scotch.symbol.type.SumType;
+import scotch.symbol.type.Type;
+import scotch.symbol.type.VariableType;
+
+public class SymbolWriter {
+
+    static final int VALUE            = 1;
+    static final int OPERATOR         = 1 << 1;
+    static final int TYPE             = 1 << 2;
+    static final int VALUE_METHOD     = 1 << 3;
+    static final int TYPE_CLASS       = 1 << 4;
+    static final int MEMBER_OF        = 1 << 5;
+    static final int DATA_TYPE        = 1 << 6;
+    static final int DATA_CONSTRUCTOR = 1 << 7;
+
+    static final int SUM_TYPE         = 0;
+    static final int FUNCTION_TYPE    = 1;
+    static final int VARIABLE_TYPE    = 2;
+    static final int CONSTRUCTOR_TYPE = 3;
+    static final int INSTANCE_TYPE    = 4;
+
+    private final DataOutput           out;
+    private final Map<String, Integer> strings;
+
+    public SymbolWriter(DataOutput out) {
+        this.out = out;
+        this.strings = new HashMap<>();
+    }
+
+    public void writeEntries(Collection<SymbolEntry> entries) throws IOException {
+        writeInt(entries.size());
+        for (SymbolEntry entry : entries) {
+            writeEntry(entry);
+        }
+    }
+
+    public void writeEntry(SymbolEntry entry) throws IOException {
+        writeSymbol(entry.getSymbol());
+        writeInt(flag(entry.getValue(), VALUE)
+            | flag(entry.getOperator(), OPERATOR)
+            | flag(entry.getType(), TYPE)
+            | flag(entry.getValueMethod(), VALUE_METHOD)
+            | flag(entry.getTypeClass(), TYPE_CLASS)
+            | flag(entry.getMemberOf(), MEMBER_OF)
+            | flag(entry.getDataType(), DATA_TYPE)
+            | flag(entry.getDataConstructor(), DATA_CONSTRUCTOR));
+        if (entry.getValue().isPresent()) {
+            writeType(entry.getValue().get());
+        }
+        if (entry.getOperator().isPresent()) {
+            writeOperator(entry.getOperator().get());
+        }
+        if (entry.getType().isPresent()) {
+            writeType(entry.getType().get());
+        }
+        if (entry.getValueMethod().isPresent()) {
+            writeMethod(entry.getValueMethod().get());
+        }
+        if (entry.getTypeClass().isPresent()) {
+            writeTypeClass(entry.getTypeClass().get());
+        }
+        if (entry.getMemberOf().isPresent()) {
+            writeSymbol(entry.getMemberOf().get());
+        }
+        if (entry.getDataType().isPresent()) {
+            writeDataType(entry.getDataType().get());
+        }
+        if (entry.getDataConstructor().isPresent()) {
+            writeDataConstructor(entry.getDataConstructor().get());
+        }
+    }
+
+    public void writeInstances(Collection<TypeInstanceDescriptor> instances) throws IOException {
+        writeInt(instances.size());
+        for (TypeInstanceDescriptor instance : instances) {
+            writeInstance(instance);
+        }
+    }
+
+    public void writeInstance(TypeInstanceDescriptor instance) throws IOException {
+        writeString(instance.getModuleName());
+        writeSymbol(instance.getTypeClass());
+        writeInt(instance.getParameters().size());
+        for (TypeParameterDescriptor parameter : instance.getParameters()) {
+            writeSymbol(parameter.getSymbol());
+            writeInt(parameter.getArgumentContexts().size());
+            for (Collection<Symbol> context : parameter.getArgumentContexts()) {
+                writeSymbols(context);
+            }
+        }
+        writeMethod(instance.getInstanceGetter());
+    }
+
+    public void writeInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        Integer index = strings.get(value);
+        if (index == null) {
+            strings.put(value, strings.size() + 1);
+            writeInt(0);
+            out.writeUTF(value);
+        } else {
+            writeInt(index);
+        }
+    }
+
+    public void writeSymbol(Symbol symbol) throws IOException {
+        if (symbol instanceof QualifiedSymbol) {
+            out.writeBoolean(true);
+            writeString(((QualifiedSymbol) symbol).getModuleName());
+        } else {
+            out.writeBoolean(false);
+        }
+        writeInt(symbol.getMemberNames().size());
+        for (String memberName : symbol.getMemberNames()) {
+            writeString(memberName);
+        }
+    }
+
+    public void writeType(Type type) throws IOException {
+        if (type instanceof SumType) {
+            writeInt(SUM_TYPE);
+            writeSymbol(((SumType) type).getSymbol());
+            writeTypes(((SumType) type).getParameters());
+        } else if (type instanceof FunctionType) {
+            writeInt(FUNCTION_TYPE);
+            writeType(((FunctionType) type).getArgument());
+            writeType(((FunctionType) type).getResult());
+        } else if (type instanceof VariableType) {
+            writeInt(VARIABLE_TYPE);
+            writeString(((VariableType) type).getName());
+            writeSymbols(((VariableType) type).getContext());
+        } else if (type instanceof ConstructorType) {
+            writeInt(CONSTRUCTOR_TYPE);
+            writeType(((ConstructorType) type).getHead());
+            writeType(((ConstructorType) type).getTail());
+        } else if (type instanceof InstanceType) {
+            writeInt(INSTANCE_TYPE);
+            writeSymbol(((InstanceType) type).getSymbol());
+            writeType(((InstanceType) type).getBinding());
+        } else {
+            throw new IllegalArgumentException("Can't write type " + type);
+        }
+    }
+
+    private int flag(Optional<?> optional, int flag) {
+        return optional.isPresent() ? flag : 0;
+    }
+
+    private void writeDataConstructor(DataConstructorDescriptor constructor) throws IOException {
+        writeInt(constructor.getOrdinal());
+        writeSymbol(constructor.getDataType());
+        writeSymbol(constructor.getSymbol());
+        writeString(constructor.getClassName());
+        writeInt(constructor.getFields().size());
+        for (DataFieldDescriptor field : constructor.getFields()) {
+            writeInt(field.getOrdinal());
+            writeString(field.getName());
+            writeString(field.getMethodName());
+            writeType(field.getType());
+        }
+    }
+
+    private void writeDataType(DataTypeDescriptor dataType) throws IOException {
+        writeTypes(dataType.getParameters());
+        writeInt(dataType.getConstructors().size());
+        for (DataConstructorDescriptor constructor : dataType.getConstructors()) {
+            writeDataConstructor(constructor);
+        }
+    }
+
+    private void writeMethod(MethodSignature method) throws IOException {
+        writeInt(method.getMethodType().ordinal());
+        writeString(method.toString());
+    }
+
+    private void writeOperator(Operator operator) throws IOException {
+        writeInt(operator.getFixity().ordinal());
+        writeInt(operator.getPrecedence());
+    }
+
+    private void writeSymbols(Collection<Symbol> symbols) throws IOException {
+        List<Symbol> sortedSymbols = new ArrayList<>(symbols);
+        sortedSymbols.sort(Symbol::compareTo);
+        writeInt(sortedSymbols.size());
+        for (Symbol symbol : sortedSymbols) {
+            writeSymbol(symbol);
+        }
+    }
+
+    private void writeTypeClass(TypeClassDescriptor typeClass) throws IOException {
+        writeSymbol(typeClass.getSymbol());
+        writeTypes(typeClass.getParameters());
+        writeSymbols(typeClass.getMembers());
+    }
+
+    private void writeTypes(List<Type> types) throws IOException {
+        writeInt(types.size());
+        for (Type type : types) {
+            writeType(type);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.data.maybe.Maybe;
+import scotch.data.maybe.MonadMaybe;
+
+public class ClassFileScannerTest {
+
+    private List<Class<?>> classes;
+
+    @Before
+    public void setUp() {
+        classes = asList(Maybe.class, Maybe.Nothing.class, Maybe.Just.class, MonadMaybe.class);
+    }
+
+    @Test
+    public void shouldProduceSameEntriesAsModuleScanner() {
+        assertThat(scanClassFiles().getEntries(), is(new ModuleScanner("scotch.data.maybe", classes).scan().getEntries()));
+    }
+
+    @Test
+    public void shouldProduceSameInstancesAsModuleScanner() {
+        assertThat(scanClassFiles().getInstances(), is(new ModuleScanner("scotch.data.maybe", classes).scan().getInstances()));
+    }
+
+    @Test
+    public void shouldScanInstancesAlone() {
+        assertThat(new ClassFileScanner("scotch.data.maybe", classes.stream().map(this::read).collect(toList()), getClass().getClassLoader()).scanInstances(),
+            is(new ModuleScanner("scotch.data.maybe", classes).scan().getInstances()));
+    }
+
+    private ClassReader read(Class<?> clazz) {
+        try (InputStream in = clazz.getResourceAsStream("/" + clazz.getName().replace('.', '/') + ".class")) {
+            return new ClassReader(in);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private ScanResult scanClassFiles() {
+        return new ClassFileScanner("scotch.data.maybe", classes.stream().map(this::read).collect(toList()), getClass().getClassLoader()).scan();
+    }
+}
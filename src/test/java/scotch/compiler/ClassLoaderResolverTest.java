@@ -4,6 +4,7 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static scotch.symbol.MethodSignature.methodSignature;
 import static scotch.symbol.Operator.operator;
@@ -114,6 +115,17 @@ public class ClassLoaderResolverTest {
         assertThat(typeInstances, hasSize(1));
     }
 
+    @Test
+    public void shouldMemoizeTypeInstanceLookup() {
+        Set<TypeInstanceDescriptor> typeInstances = resolver.getTypeInstances(symbol("scotch.data.num.Num"), asList(intType()));
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.num.Num"), asList(intType())), sameInstance(typeInstances));
+    }
+
+    @Test
+    public void shouldNotResolveTypeInstanceForVariable() {
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.num.Num"), asList(var("a"))), hasSize(0));
+    }
+
     @Test
     public void shouldGetIntThroughScotchLang() {
         Optional<SymbolEntry> maybeEntry = resolver.getEntry(qualified("scotch.lang", "Int"));
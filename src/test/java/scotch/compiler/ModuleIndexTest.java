@@ -0,0 +1,90 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.symbol.Symbol.symbol;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.compiler.ModuleScanner.ScanResult;
+import scotch.data.maybe.Maybe;
+import scotch.data.maybe.MonadMaybe;
+import scotch.symbol.SymbolEntry;
+
+public class ModuleIndexTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private ScanResult scan;
+    private File       root;
+
+    @Before
+    public void setUp() throws IOException {
+        scan = new ModuleScanner("scotch.data.maybe", asList(Maybe.class, Maybe.Nothing.class, Maybe.Just.class, MonadMaybe.class)).scan();
+        root = folder.newFolder("classes");
+        Map<String, ScanResult> scans = new TreeMap<>();
+        scans.put("scotch.data.maybe", scan);
+        ModuleIndex.writeIndex(root.toPath().resolve(ModuleIndex.INDEX_PATH), scans);
+    }
+
+    @Test
+    public void shouldListIndexedModules() throws IOException {
+        assertThat(readIndex().contains("scotch.data.maybe"), is(true));
+        assertThat(readIndex().contains("scotch.data.either"), is(false));
+    }
+
+    @Test
+    public void shouldReadDataTypeFromIndex() throws IOException {
+        ScanResult indexed = readIndex().scan("scotch.data.maybe").get();
+        assertThat(findEntry(indexed, "scotch.data.maybe.Maybe").getDataType(), is(findEntry(scan, "scotch.data.maybe.Maybe").getDataType()));
+        assertThat(findEntry(indexed, "scotch.data.maybe.Just").getValue(), is(findEntry(scan, "scotch.data.maybe.Just").getValue()));
+    }
+
+    @Test
+    public void shouldReadInstancesFromIndex() throws IOException {
+        assertThat(readIndex().scan("scotch.data.maybe").get().getInstances(), is(scan.getInstances()));
+    }
+
+    @Test
+    public void shouldNotFindModuleMissingFromIndex() throws IOException {
+        assertThat(readIndex().scan("scotch.data.either"), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldPreferFirstIndexOnClassPath_whenModuleIsIndexedTwice() throws IOException {
+        File other = folder.newFolder("other");
+        Map<String, ScanResult> scans = new TreeMap<>();
+        scans.put("scotch.data.maybe", new ScanResult(emptySet(), emptySet(), emptyMap()));
+        ModuleIndex.writeIndex(other.toPath().resolve(ModuleIndex.INDEX_PATH), scans);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toURI().toURL(), other.toURI().toURL() }, null)) {
+            ModuleIndex index = ModuleIndex.readIndexes(classLoader);
+            assertThat(index.scan("scotch.data.maybe").get().getInstances(), is(scan.getInstances()));
+            assertThat(index.getShadowedModules().get("scotch.data.maybe").size(), is(1));
+        }
+    }
+
+    private SymbolEntry findEntry(ScanResult result, String name) {
+        return result.getEntries().stream()
+            .filter(entry -> entry.getSymbol().equals(symbol(name)))
+            .findFirst()
+            .get();
+    }
+
+    private ModuleIndex readIndex() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toURI().toURL() }, null)) {
+            return ModuleIndex.readIndexes(classLoader);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.ModuleInterface.moduleInterface;
+import static scotch.compiler.ModuleInterface.readInterface;
+import static scotch.compiler.util.TestUtil.typeInstance;
+import static scotch.symbol.MethodSignature.staticMethod;
+import static scotch.symbol.type.Types.sum;
+
+import java.nio.file.Path;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+
+public class ModuleInterfaceTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldChangeInterfaceHash_whenOnlyAnInstanceChanges() {
+        ModuleInterface before = interfaceWith(ImmutableList.of(eqOf("scotch.test.a.Thing")));
+        ModuleInterface after = interfaceWith(ImmutableList.of(eqOf("scotch.test.a.Other")));
+        assertThat(after.getInterfaceHash(), not(before.getInterfaceHash()));
+    }
+
+    @Test
+    public void shouldKeepInterfaceHash_whenInstancesAreReordered() {
+        ModuleInterface before = interfaceWith(asList(eqOf("scotch.test.a.Thing"), eqOf("scotch.test.a.Other")));
+        ModuleInterface after = interfaceWith(asList(eqOf("scotch.test.a.Other"), eqOf("scotch.test.a.Thing")));
+        assertThat(after.getInterfaceHash(), is(before.getInterfaceHash()));
+    }
+
+    @Test
+    public void shouldReadBackWrittenInstances() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("a.scotchi");
+        interfaceWith(ImmutableList.of(eqOf("scotch.test.a.Thing"))).write(path);
+        assertThat(readInterface(path).get().getInstances(), contains(eqOf("scotch.test.a.Thing")));
+    }
+
+    private TypeInstanceDescriptor eqOf(String type) {
+        return typeInstance(
+            "scotch.test.a",
+            "scotch.data.eq.Eq",
+            asList(sum(type)),
+            staticMethod("scotch/test/a/EqThing", "instance", "()Lscotch/data/eq/Eq;")
+        );
+    }
+
+    private ModuleInterface interfaceWith(List<TypeInstanceDescriptor> instances) {
+        return moduleInterface("source", ImmutableSet.of("scotch.test.a"), ImmutableMap.of(), ImmutableList.of(), ImmutableList.of(), instances);
+    }
+}
@@ -0,0 +1,171 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static scotch.compiler.MultiModuleCompiler.multiModuleCompiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.compiler.error.CompileException;
+import scotch.runtime.Callable;
+
+public class MultiModuleCompilerTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private ClassLoaderResolver resolver;
+    private Path                sourceRoot;
+    private Path                outputPath;
+
+    @Before
+    public void setUp() throws IOException {
+        resolver = new ClassLoaderResolver(Optional.empty(), Compiler.class.getClassLoader());
+        sourceRoot = folder.newFolder("src").toPath();
+        outputPath = folder.newFolder("out").toPath();
+    }
+
+    @Test
+    public void shouldCompileModuleAgainstImportedModule() throws Exception {
+        write("scotch/test/b.scotch",
+            "module scotch.test.b",
+            "import scotch.test.a",
+            "run = answer + 1"
+        );
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 41"
+        );
+        compile();
+        assertThat(run("scotch.test.b"), is(42));
+    }
+
+    @Test
+    public void shouldCompileIndependentModules() throws Exception {
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "run = 2 + 2"
+        );
+        write("scotch/test/b.scotch",
+            "module scotch.test.b",
+            "run = 3 + 3"
+        );
+        compile();
+        assertThat(run("scotch.test.a"), is(4));
+        assertThat(run("scotch.test.b"), is(6));
+    }
+
+    @Test(expected = CompileException.class)
+    public void shouldFailCompilation_whenImportsAreCyclic() throws Exception {
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "import scotch.test.b",
+            "x = y"
+        );
+        write("scotch/test/b.scotch",
+            "module scotch.test.b",
+            "import scotch.test.a",
+            "y = x"
+        );
+        compile();
+    }
+
+    @Test
+    public void shouldWriteModuleInterfaces_whenCompilingToOutputPath() throws Exception {
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 41"
+        );
+        compileIncrementally();
+        assertTrue(Files.isRegularFile(outputPath.resolve("scotch/test/a.scotchi")));
+    }
+
+    @Test
+    public void shouldReuseModuleInterfaces_whenSourcesAreUnchanged() throws Exception {
+        write("scotch/test/b.scotch",
+            "module scotch.test.b",
+            "import scotch.test.a",
+            "run = answer + 1"
+        );
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 41"
+        );
+        compileIncrementally();
+        assertThat(compileIncrementally().getCompiledSources(), is(empty()));
+        assertThat(run("scotch.test.b"), is(42));
+    }
+
+    @Test
+    public void shouldRecompileOnlyChangedModule_whenItsInterfaceIsUnchanged() throws Exception {
+        write("scotch/test/b.scotch",
+            "module scotch.test.b",
+            "import scotch.test.a",
+            "run = answer + 1"
+        );
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 41"
+        );
+        compileIncrementally();
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 41",
+            ""
+        );
+        assertThat(compileIncrementally().getCompiledSources(), contains(sourceRoot.resolve("scotch/test/a.scotch")));
+        assertThat(run("scotch.test.b"), is(42));
+    }
+
+    @Test
+    public void shouldRecompileChangedModule_whenImportingModuleIsUnchanged() throws Exception {
+        write("scotch/test/b.scotch",
+            "module scotch.test.b",
+            "import scotch.test.a",
+            "run = answer + 1"
+        );
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 41"
+        );
+        compileIncrementally();
+        write("scotch/test/a.scotch",
+            "module scotch.test.a",
+            "answer = 1"
+        );
+        compileIncrementally();
+        assertThat(run("scotch.test.b"), is(2));
+    }
+
+    private void compile() {
+        resolver.defineAll(multiModuleCompiler(resolver, asList(sourceRoot), 4).generateBytecode());
+    }
+
+    private MultiModuleCompiler compileIncrementally() {
+        resolver = new ClassLoaderResolver(Optional.of(outputPath.toFile()), Compiler.class.getClassLoader());
+        MultiModuleCompiler compiler = multiModuleCompiler(resolver, asList(sourceRoot), 4, Optional.of(outputPath));
+        resolver.defineAll(compiler.generateBytecode());
+        return compiler;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A> A run(String moduleName) throws ReflectiveOperationException {
+        return ((Callable<A>) resolver.loadClass(moduleName + ".$$Module").getMethod("run").invoke(null)).call();
+    }
+
+    private void write(String fileName, String... lines) throws IOException {
+        File file = new File(sourceRoot.toFile(), fileName);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), asList(lines));
+    }
+}
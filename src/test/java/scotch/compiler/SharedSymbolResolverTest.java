@@ -0,0 +1,64 @@
+package scotch.compiler;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static scotch.compiler.SharedSymbolResolver.sharedResolver;
+import static scotch.compiler.util.TestUtil.typeInstance;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.type.Types.sum;
+
+import java.util.Optional;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import scotch.compiler.syntax.StubResolver;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.SymbolResolver;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
+
+public class SharedSymbolResolverTest {
+
+    private SharedSymbolResolver   resolver;
+    private TypeInstanceDescriptor instance;
+
+    @Before
+    public void setUp() {
+        resolver = sharedResolver(new StubResolver());
+        instance = typeInstance("scotch.test.a", "scotch.data.eq.Eq", asList(sum("scotch.test.a.Thing")), mock(MethodSignature.class));
+    }
+
+    @Test
+    public void shouldFindInstancePublishedByCompiledModule_whenImportingModuleLooksUpTypeClass() {
+        resolver.publish(ImmutableSet.of(), asList(instance));
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.eq.Eq"), asList(sum("scotch.test.a.Thing"))), contains(instance));
+    }
+
+    @Test
+    public void shouldFindInstancePublishedByCompiledModule_whenImportingModuleLooksUpModule() {
+        resolver.publish(ImmutableSet.of(), asList(instance));
+        assertThat(resolver.getTypeInstancesByModule("scotch.test.a"), contains(instance));
+    }
+
+    @Test
+    public void shouldNotFindPublishedInstance_whenParametersDoNotMatch() {
+        resolver.publish(ImmutableSet.of(), asList(instance));
+        assertThat(resolver.getTypeInstances(symbol("scotch.data.eq.Eq"), asList(sum("scotch.test.b.Other"))), is(empty()));
+    }
+
+    @Test
+    public void shouldOnlyAskDelegateOnce_whenEntryIsLookedUpRepeatedly() {
+        SymbolResolver delegate = mock(SymbolResolver.class);
+        when(delegate.getEntry(symbol("scotch.test.a.answer"))).thenReturn(Optional.empty());
+        resolver = sharedResolver(delegate);
+        resolver.getEntry(symbol("scotch.test.a.answer"));
+        resolver.getEntry(symbol("scotch.test.a.answer"));
+        verify(delegate, times(1)).getEntry(symbol("scotch.test.a.answer"));
+    }
+}
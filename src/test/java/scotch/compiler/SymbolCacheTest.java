@@ -0,0 +1,126 @@
+package scotch.compiler;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.SymbolCache.symbolCache;
+import static scotch.compiler.SymbolLibrary.privateLibrary;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.compiler.ModuleScanner.ScanResult;
+
+public class SymbolCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private Path        directory;
+    private SymbolCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.newFolder("symbols").toPath();
+        cache = symbolCache(directory, getClass().getClassLoader());
+    }
+
+    @Test
+    public void shouldKeyCacheByClassPath() {
+        assertThat(symbolCache(directory, getClass().getClassLoader()).getPath(), is(cache.getPath()));
+    }
+
+    @Test
+    public void shouldNotWriteCacheWhenNothingWasScanned() {
+        SymbolLibrary library = privateLibrary(getClass().getClassLoader());
+        library.useCache(cache);
+        library.persist();
+        assertThat(Files.exists(cache.getPath()), is(false));
+    }
+
+    @Test
+    public void shouldReadScannedModulesFromCache() {
+        SymbolLibrary library = privateLibrary(getClass().getClassLoader());
+        library.useCache(cache);
+        library.getModule("scotch.data.maybe");
+        library.persist();
+
+        assertThat(cache.read().get().contains("scotch.data.maybe"), is(true));
+    }
+
+    @Test
+    public void shouldLoadModuleFromCacheOnLaterRun() {
+        SymbolLibrary library = privateLibrary(getClass().getClassLoader());
+        library.useCache(cache);
+        library.getModule("scotch.data.maybe");
+        library.persist();
+
+        SymbolLibrary cached = privateLibrary(getClass().getClassLoader());
+        cached.useCache(cache);
+        ScanResult expected = library.getModule("scotch.data.maybe");
+        ScanResult actual = cached.getModule("scotch.data.maybe");
+        assertThat(actual.getEntries().isEmpty(), is(false));
+        assertThat(actual.getEntries(), is(expected.getEntries()));
+        assertThat(actual.getInstances(), is(expected.getInstances()));
+        assertThat(actual.getReExports(), is(expected.getReExports()));
+    }
+
+    @Test
+    public void shouldNotCacheModuleMissingFromLibrary() {
+        SymbolLibrary library = privateLibrary(getClass().getClassLoader());
+        library.useCache(cache);
+        library.getModule("scotch.test.missing");
+        library.persist();
+        assertThat(Files.exists(cache.getPath()), is(false));
+    }
+
+    @Test
+    public void shouldChangeKey_whenClassFileSizeChanges() throws IOException {
+        File classes = folder.newFolder("classes");
+        Path classFile = Files.write(classes.toPath().resolve("Thing.class"), new byte[] { 1 });
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1000));
+        Path before = keyFor(classes);
+        Files.write(classFile, new byte[] { 1, 2 });
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1000));
+        assertThat(keyFor(classes), not(before));
+    }
+
+    @Test
+    public void shouldKeepKey_whenClassFilesAreUnchanged() throws IOException {
+        File classes = folder.newFolder("classes");
+        Files.write(classes.toPath().resolve("Thing.class"), new byte[] { 1 });
+        assertThat(keyFor(classes), is(keyFor(classes)));
+    }
+
+    @Test
+    public void shouldChangeKey_whenClassFileIsTouched() throws IOException {
+        File classes = folder.newFolder("classes");
+        Path classFile = Files.write(classes.toPath().resolve("Thing.class"), new byte[] { 1 });
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1000));
+        Path before = keyFor(classes);
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(2000));
+        assertThat(keyFor(classes), not(before));
+    }
+
+    @Test
+    public void shouldChangeKey_whenClassFileIsAdded() throws IOException {
+        File classes = folder.newFolder("classes");
+        Files.write(classes.toPath().resolve("Thing.class"), new byte[] { 1 });
+        Path before = keyFor(classes);
+        Files.write(classes.toPath().resolve("Other.class"), new byte[] { 1 });
+        assertThat(keyFor(classes), not(before));
+    }
+
+    private Path keyFor(File classes) throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, null)) {
+            return symbolCache(directory, classLoader).getPath();
+        }
+    }
+}
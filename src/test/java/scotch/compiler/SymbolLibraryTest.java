@@ -0,0 +1,60 @@
+package scotch.compiler;
+
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.SymbolLibrary.classEntries;
+import static scotch.compiler.SymbolLibrary.library;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import scotch.compiler.ModuleScanner.ScanResult;
+
+public class SymbolLibraryTest {
+
+    @Test
+    public void shouldShareLibraryForClassLoader() {
+        assertThat(library(getClass().getClassLoader()), sameInstance(library(getClass().getClassLoader())));
+    }
+
+    @Test
+    public void shouldScanModuleOnce() {
+        SymbolLibrary library = library(getClass().getClassLoader());
+        assertThat(library.getModule("scotch.data.maybe"), sameInstance(library.getModule("scotch.data.maybe")));
+    }
+
+    @Test
+    public void shouldPublishSingleScanToConcurrentReaders() {
+        SymbolLibrary library = SymbolLibrary.privateLibrary(getClass().getClassLoader());
+        Set<ScanResult> scans = IntStream.range(0, 16).parallel()
+            .mapToObj(i -> library.getModule("scotch.data.eq"))
+            .collect(toSet());
+        assertThat(scans, hasSize(1));
+    }
+
+    @Test
+    public void shouldMatchClassEntriesInModulePackage() {
+        Predicate<String> classEntry = classEntries("scotch/data/maybe");
+        assertThat(classEntry.test("scotch/data/maybe/Maybe.class"), is(true));
+        assertThat(classEntry.test("scotch/data/maybe/Maybe$Just.class"), is(true));
+    }
+
+    @Test
+    public void shouldMatchClassEntriesUnderPrefixedJarLayout() {
+        Predicate<String> classEntry = classEntries("scotch/data/maybe");
+        assertThat(classEntry.test("BOOT-INF/classes/scotch/data/maybe/Maybe.class"), is(true));
+        assertThat(classEntry.test("WEB-INF/classes/scotch/data/maybe/Maybe.class"), is(true));
+    }
+
+    @Test
+    public void shouldNotMatchEntriesOutsideModulePackage() {
+        Predicate<String> classEntry = classEntries("scotch/data/maybe");
+        assertThat(classEntry.test("scotch/data/maybe/sub/Thing.class"), is(false));
+        assertThat(classEntry.test("scotch/data/either/Either.class"), is(false));
+        assertThat(classEntry.test("scotch/data/maybe/"), is(false));
+    }
+}
@@ -95,14 +95,14 @@ public class AccumulateDependenciesTest extends IsolatedCompilerTest {
         shouldHaveDependencies(asList(
             "scotch.test1.b",
             "scotch.test2.a",
-            "scotch.test3.c",
             "scotch.test1.fn1",
+            "scotch.test3.c",
             "scotch.test2.fn2"
         ));
     }
 
     @Test
-    public void shouldReportCyclicDependency() {
+    public void shouldNotReportMutuallyRecursiveDefinitions() {
         compile(
             "module scotch.test1",
             "import scotch.test2",
@@ -120,9 +120,40 @@ public class AccumulateDependenciesTest extends IsolatedCompilerTest {
             "import scotch.test2",
             "c = \\z -> a"
         );
+        shouldNotHaveErrors();
+        shouldHaveDependencies("scotch.test1.b", asList("scotch.test2.fn2"));
+        shouldHaveDependencies("scotch.test2.fn2", asList("scotch.test3.c", "scotch.test1.b"));
+    }
+
+    @Test
+    public void shouldKeepMutuallyRecursiveDefinitionsTogether() {
+        compile(
+            "module scotch.test",
+            "a = \\x -> b x",
+            "c = \\x -> d x",
+            "b = \\x -> a x",
+            "d = \\x -> c x"
+        );
+        shouldNotHaveErrors();
+        shouldHaveDependencies(asList(
+            "scotch.test.a",
+            "scotch.test.b",
+            "scotch.test.c",
+            "scotch.test.d"
+        ));
+    }
+
+    @Test
+    public void shouldReportUnguardedCyclicDependency() {
+        compile(
+            "module scotch.test",
+            "a = b",
+            "b = a",
+            "c = \\x -> c x"
+        );
         shouldHaveErrors(cyclicDependency(DependencyCycle.builder()
-            .addNode(symbol("scotch.test1.b"), asList(symbol("scotch.test2.fn2")))
-            .addNode(symbol("scotch.test2.fn2"), asList(symbol("scotch.test1.b")))
+            .addNode(symbol("scotch.test.a"), asList(symbol("scotch.test.b")))
+            .addNode(symbol("scotch.test.b"), asList(symbol("scotch.test.a")))
             .build()));
     }
 
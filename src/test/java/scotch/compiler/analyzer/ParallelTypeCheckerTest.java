@@ -0,0 +1,98 @@
+package scotch.compiler.analyzer;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.syntax.StubResolver.defaultFromInteger;
+import static scotch.compiler.syntax.StubResolver.defaultInt;
+import static scotch.compiler.syntax.StubResolver.defaultMinus;
+import static scotch.compiler.syntax.StubResolver.defaultNum;
+import static scotch.compiler.syntax.StubResolver.defaultNumOf;
+import static scotch.compiler.syntax.StubResolver.defaultPlus;
+import static scotch.compiler.util.TestUtil.valueRef;
+import static scotch.symbol.type.Types.fn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import scotch.compiler.Compiler;
+import scotch.compiler.IsolatedCompilerTest;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+public class ParallelTypeCheckerTest extends IsolatedCompilerTest {
+
+    private static final int VALUES = 200;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+        executor = Executors.newFixedThreadPool(4);
+        resolver
+            .define(defaultInt())
+            .define(defaultNum())
+            .define(defaultNumOf(intType))
+            .define(defaultPlus())
+            .define(defaultMinus())
+            .define(defaultFromInteger());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldCheckIndependentGroupsConcurrently() {
+        compile(independentValues());
+        shouldNotHaveErrors();
+        for (int i = 0; i < VALUES; i++) {
+            shouldHaveValue("scotch.test.value" + i, fn(intType, intType));
+        }
+    }
+
+    @Test
+    public void shouldNumberGeneratedNamesDeterministically() {
+        compile(independentValues());
+        DefinitionGraph first = graph;
+        compile(independentValues());
+        for (int i = 0; i < VALUES; i++) {
+            assertThat(graph.getDefinition(valueRef("scotch.test.id" + i)), is(first.getDefinition(valueRef("scotch.test.id" + i))));
+            assertThat(graph.getDefinition(valueRef("scotch.test.value" + i)), is(first.getDefinition(valueRef("scotch.test.value" + i))));
+        }
+    }
+
+    @Test
+    public void shouldCheckMutuallyRecursiveGroupOnPool() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "ping n = pong (n - 1)",
+            "pong n = ping n + 1"
+        );
+        shouldNotHaveErrors();
+        shouldHaveValue("scotch.test.ping", fn(intType, intType));
+        shouldHaveValue("scotch.test.pong", fn(intType, intType));
+    }
+
+    @Override
+    protected Function<Compiler, DefinitionGraph> compile() {
+        return compiler -> compiler.checkTypes(executor);
+    }
+
+    private String[] independentValues() {
+        List<String> lines = new ArrayList<>();
+        lines.add("module scotch.test");
+        lines.add("import scotch.data.num");
+        for (int i = 0; i < VALUES; i++) {
+            lines.add("id" + i + " x = x");
+            lines.add("value" + i + " x = id" + i + " x + " + i);
+        }
+        return lines.toArray(new String[lines.size()]);
+    }
+}
@@ -90,19 +90,19 @@ public class TypeCheckerIntegrationTest extends CompilerTest<ClassLoaderResolver
             "third (_, (_, c)) = c"
         );
         shouldNotHaveErrors();
-        Type tuple = tupleType(t(49), t(50));
+        Type tuple = tupleType(t(45), t(46));
         String tag = "scotch.data.tuple.(,)";
-        shouldHaveValue("scotch.test.second", fn(tuple, t(50)));
+        shouldHaveValue("scotch.test.second", fn(tuple, t(46)));
         shouldHaveValue("scotch.test.second", fn("scotch.test.(second#0)", arg("#0", tuple),
             conditional(
                 isConstructor(arg("#0", tuple, tag), tag),
                 scope("scotch.test.(second#0#0)",
-                    let(t(50), "b", access(arg("#0", tuple, tag), "_1", t(50)), arg("b", t(50)))),
-                raise("Incomplete match", t(50)),
-                t(50)
+                    let(t(46), "b", access(arg("#0", tuple, tag), "_1", t(46)), arg("b", t(46)))),
+                raise("Incomplete match", t(46)),
+                t(46)
             )
         ));
-        shouldHaveValue("scotch.test.third", fn(tupleType(t(45), tupleType(t(47), t(48))), t(48)));
+        shouldHaveValue("scotch.test.third", fn(tupleType(t(47), tupleType(t(49), t(50))), t(50)));
     }
 
     private static SumType tupleType(Type... types) {
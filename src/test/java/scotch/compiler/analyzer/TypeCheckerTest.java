@@ -117,6 +117,19 @@ public class TypeCheckerTest extends IsolatedCompilerTest {
         shouldHaveValue("scotch.test.fib", fn(intType, intType));
     }
 
+    @Test
+    public void mutuallyRecursiveDefinitionsShouldBeTypedAsOneGroup() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "ping n = pong (n - 1)",
+            "pong n = ping n + 1"
+        );
+        shouldNotHaveErrors();
+        shouldHaveValue("scotch.test.ping", fn(intType, intType));
+        shouldHaveValue("scotch.test.pong", fn(intType, intType));
+    }
+
     @Test
     public void mismatchedSignatureAndValueShouldReportTypeError() {
         compile(
@@ -159,8 +172,8 @@ public class TypeCheckerTest extends IsolatedCompilerTest {
             "fn2 n = 9"
         );
         shouldHaveErrors(
-            typeError(mismatch(stringType, intType), source("test://shouldReportAllTypeErrors", point(126, 7, 1), point(135, 7, 10))),
-            typeError(mismatch(intType, stringType), source("test://shouldReportAllTypeErrors", point(110, 6, 1), point(125, 6, 16)))
+            typeError(mismatch(intType, stringType), source("test://shouldReportAllTypeErrors", point(110, 6, 1), point(125, 6, 16))),
+            typeError(mismatch(stringType, intType), source("test://shouldReportAllTypeErrors", point(126, 7, 1), point(135, 7, 10)))
         );
     }
 
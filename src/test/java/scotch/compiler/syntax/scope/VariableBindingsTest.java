@@ -0,0 +1,102 @@
+package scotch.compiler.syntax.scope;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import scotch.symbol.type.Type;
+
+public class VariableBindingsTest {
+
+    private VariableBindings bindings;
+
+    @Before
+    public void setUp() {
+        bindings = new VariableBindings();
+    }
+
+    @Test
+    public void shouldNotHaveTarget_whenVariableIsUnbound() {
+        assertThat(bindings.getTarget(var("a")), is(Optional.empty()));
+        assertThat(bindings.isBound(var("a")), is(false));
+    }
+
+    @Test
+    public void shouldGetEndOfChain_whenChainIsUnresolved() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("b"), var("c"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(var("c"))));
+        assertThat(bindings.isBound(var("c")), is(false));
+    }
+
+    @Test
+    public void shouldResolveWholeChain_whenEndIsBound() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("b"), var("c"));
+        bindings.bind(var("c"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+        assertThat(bindings.getTarget(var("b")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+    }
+
+    @Test
+    public void shouldOnlyRebindVariable_whenBoundVariableIsRebound() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("b"), var("c"));
+        bindings.bind(var("a"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+        assertThat(bindings.getTarget(var("b")), is(Optional.<Type>of(var("c"))));
+    }
+
+    @Test
+    public void shouldFollowRebinding_whenChainWasAlreadyResolved() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("b"), var("c"));
+        bindings.bind(var("c"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+        bindings.bind(var("b"), sum("scotch.data.string.String"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(sum("scotch.data.string.String"))));
+        assertThat(bindings.getTarget(var("c")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+    }
+
+    @Test
+    public void shouldExtendResolvedChain_whenEndIsBoundLater() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("b"), var("c"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(var("c"))));
+        bindings.bind(var("c"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+    }
+
+    @Test
+    public void shouldResolveLongChain() {
+        for (int i = 0; i < 10000; i++) {
+            bindings.bind(var("t" + i), var("t" + (i + 1)));
+        }
+        bindings.bind(var("t10000"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("t0")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+    }
+
+    @Test
+    public void shouldMergeChains_whenHeadIsBoundIntoAnotherChain() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("c"), var("d"));
+        bindings.bind(var("b"), var("c"));
+        bindings.bind(var("d"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("a")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+        assertThat(bindings.getTarget(var("c")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+    }
+
+    @Test
+    public void shouldKeepBindingAfterRebinding() {
+        bindings.bind(var("a"), var("b"));
+        bindings.bind(var("a"), var("c"));
+        bindings.bind(var("d"), var("a"));
+        bindings.bind(var("c"), sum("scotch.data.int.Int"));
+        assertThat(bindings.getTarget(var("d")), is(Optional.<Type>of(sum("scotch.data.int.Int"))));
+        assertThat(bindings.isBound(var("b")), is(false));
+    }
+}
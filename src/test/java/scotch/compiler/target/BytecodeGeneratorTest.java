@@ -1,5 +1,6 @@
 package scotch.compiler.target;
 
+import static java.util.Arrays.stream;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static scotch.data.either.Either.left;
@@ -10,11 +11,16 @@ import static scotch.data.tuple.TupleValues.tuple3;
 
 import java.io.File;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodNode;
 import scotch.compiler.ClassLoaderResolver;
 import scotch.compiler.error.CompileException;
 import scotch.compiler.util.TestUtil;
@@ -24,7 +30,10 @@ import scotch.data.maybe.Maybe;
 import scotch.data.tuple.Tuple2;
 import scotch.data.tuple.Tuple3;
 import scotch.runtime.Callable;
+import scotch.runtime.NormalForm;
 import scotch.runtime.RaisedException;
+import scotch.runtime.ThunkProfiler;
+import scotch.symbol.DataField;
 
 public class BytecodeGeneratorTest {
 
@@ -202,6 +211,43 @@ public class BytecodeGeneratorTest {
         );
     }
 
+    @Test
+    public void shouldCompileOperatorWithMangledName() throws ReflectiveOperationException {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(
+            Optional.of(new File("build/generated-test-classes/" + testName.getMethodName())),
+            scotch.compiler.Compiler.class.getClassLoader()
+        );
+        resolver.defineAll(TestUtil.generateBytecode(testName.getMethodName(), resolver,
+            "module scotch.test",
+            "",
+            "left infix 7 (<+>)",
+            "x <+> y = x + y",
+            "",
+            "run = 1 <+> 2"
+        ));
+        Class<?> module = resolver.loadClass("scotch.test.$$Module");
+        module.getMethod("$left$up$right");
+        assertThat(((Callable<?>) module.getMethod("run").invoke(null)).call(), is((Object) 3));
+    }
+
+    @Test
+    public void shouldAnnotateGeneratedFieldGettersAsDataFields() throws ReflectiveOperationException {
+        Object thing = exec(
+            "module scotch.test",
+            "",
+            "data Thing n { first :: n, second :: n }",
+            "",
+            "run = Thing 1 2"
+        );
+        DataField first = thing.getClass().getMethod("getFirst").getAnnotation(DataField.class);
+        DataField second = thing.getClass().getMethod("getSecond").getAnnotation(DataField.class);
+        assertThat(first.memberName(), is("first"));
+        assertThat(first.ordinal(), is(0));
+        assertThat(second.memberName(), is("second"));
+        assertThat(second.ordinal(), is(1));
+        NormalForm.deepSeq(thing);
+    }
+
     @Test
     public void shouldCompileBind() {
         Left result = exec(
@@ -597,6 +643,59 @@ public class BytecodeGeneratorTest {
     }
 
     @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCountThunksPerSiteWhenProfiling() {
+        System.setProperty(ThunkProfiler.PROPERTY, "true");
+        try {
+            int result = exec(
+                "module scotch.test",
+                "add = \\x y -> x + y",
+                "run = add 2 2"
+            );
+            assertThat(result, is(4));
+        } finally {
+            System.clearProperty(ThunkProfiler.PROPERTY);
+        }
+        assertThat(ThunkProfiler.profiler().getSiteCount() > 0, is(true));
+        assertThat(ThunkProfiler.profiler().getForced() > 0, is(true));
+        assertThat(ThunkProfiler.profiler().getReport().contains(testName.getMethodName()), is(true));
+    }
+
+    @Test
+    public void shouldMapGeneratedMethodsBackToSource() {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), scotch.compiler.Compiler.class.getClassLoader());
+        ClassNode module = new ClassNode();
+        TestUtil.generateBytecode(testName.getMethodName(), resolver,
+            "module scotch.test",
+            "",
+            "add = \\x y -> x + y",
+            "run = add 2 2"
+        ).stream()
+            .filter(generatedClass -> generatedClass.getClassName().equals("scotch.test.$$Module"))
+            .findFirst()
+            .ifPresent(generatedClass -> new ClassReader(generatedClass.getBytes()).accept(module, 0));
+        assertThat(module.sourceFile, is(testName.getMethodName()));
+        assertThat(module.sourceDebug.contains("*S Scotch"), is(true));
+        assertThat(lineOf(module, "run"), is(4));
+        assertThat(methods(module).stream().anyMatch(method -> method.name.startsWith("lambda$add$")), is(true));
+        assertThat(methods(module).stream().anyMatch(method -> method.name.startsWith("apply$run$")), is(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MethodNode> methods(ClassNode classNode) {
+        return (List<MethodNode>) classNode.methods;
+    }
+
+    private int lineOf(ClassNode classNode, String methodName) {
+        return methods(classNode).stream()
+            .filter(method -> method.name.equals(methodName))
+            .flatMap(method -> stream(method.instructions.toArray()))
+            .filter(instruction -> instruction instanceof LineNumberNode)
+            .map(instruction -> ((LineNumberNode) instruction).line)
+            .findFirst()
+            .orElse(-1);
+    }
+
     private <A> A exec(String... lines) {
         try {
             ClassLoaderResolver resolver = new ClassLoaderResolver(
@@ -0,0 +1,71 @@
+package scotch.control.concurrent;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.io.IO.io;
+import static scotch.io.IO.pure;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import org.junit.Test;
+import scotch.io.IO;
+import scotch.io.MonadIO;
+import scotch.runtime.Callable;
+
+public class ConcurrentTest {
+
+    @Test
+    public void shouldForkAndAwaitTask() {
+        IO<Integer> program = Concurrent.<Integer>fork().apply(box(pure(box(21)))).call()
+            .flatMap(applicable(task -> Concurrent.<Integer>await().apply(task)))
+            .flatMap(applicable(value -> callable(() -> pure(box(value.call() * 2)))));
+        assertThat(program.run().call(), is(42));
+    }
+
+    @Test
+    public void shouldComposeTasksThroughMonadInstance() {
+        MonadIO monad = MonadIO.instance().call();
+        Callable<IO<Integer>> program = monad.bind(
+            Concurrent.<Integer>fork().apply(box(pure(box(42)))),
+            Concurrent.<Integer>await()
+        );
+        assertThat(program.call().run().call(), is(42));
+    }
+
+    @Test
+    public void shouldHandOffThroughMVar() throws InterruptedException {
+        MVar<Integer> mVar = MVar.emptyMVar();
+        Task<Integer> task = Task.start(io(() -> {
+            try {
+                return mVar.take() + 1;
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }), Scheduler.executor());
+        mVar.put(41);
+        assertThat(task.await(), is(42));
+    }
+
+    @Test
+    public void shouldPipeValuesThroughBoundedChannel() throws InterruptedException {
+        Chan<Integer> chan = Chan.chan(4);
+        Task<Integer> producer = Task.start(io(() -> {
+            try {
+                for (int i = 1; i <= 1000; i++) {
+                    chan.write(i);
+                }
+                return 1000;
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }), Scheduler.executor());
+        long sum = 0;
+        for (int i = 0; i < 1000; i++) {
+            sum += chan.read();
+        }
+        assertThat(producer.await(), is(1000));
+        assertThat(sum, is(500_500L));
+        assertThat(chan.size(), is(0));
+    }
+}
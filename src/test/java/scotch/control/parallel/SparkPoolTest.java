@@ -0,0 +1,80 @@
+package scotch.control.parallel;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.runtime.Callable;
+
+public class SparkPoolTest {
+
+    @Test
+    public void shouldConvertSparkWhenNobodyForcesItFirst() {
+        SparkPool pool = new SparkPool(1);
+        Callable<Integer> value = callable(() -> 42);
+        pool.spark(value);
+        pool.awaitQuiescence(10_000);
+        assertThat(pool.getCreated(), is(1L));
+        assertThat(pool.getConverted(), is(1L));
+        assertThat(pool.getFizzled(), is(0L));
+    }
+
+    @Test
+    public void shouldFizzleSparkWhenConsumerForcesItFirst() throws InterruptedException {
+        SparkPool pool = new SparkPool(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pool.spark(callable(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        }));
+        started.await();
+        Callable<Integer> value = callable(() -> 42);
+        pool.spark(value);
+        assertThat(value.call(), is(42));
+        release.countDown();
+        pool.awaitQuiescence(10_000);
+        assertThat(pool.getCreated(), is(2L));
+        assertThat(pool.getFizzled(), is(1L));
+    }
+
+    @Test
+    public void shouldNotSparkEvaluatedValues() {
+        SparkPool pool = new SparkPool(1);
+        pool.spark(box(42));
+        assertThat(pool.getCreated(), is(0L));
+    }
+
+    @Test
+    public void shouldMapInParallel() {
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        ConsList<Integer> result = Strategy.<Integer, Integer>parMap()
+            .apply(Strategy.rdeepseq()).call()
+            .apply(applicable(value -> callable(() -> value.call() * 2))).call()
+            .apply(box(ConsList.eagerCons(values))).call();
+        List<Integer> doubled = new ArrayList<>();
+        ConsList<Integer> current = result;
+        while (current instanceof ConsCell) {
+            doubled.add(((ConsCell<Integer>) current).getHead().call());
+            current = ((ConsCell<Integer>) current).getTail().call();
+        }
+        assertThat(doubled.size(), is(1000));
+        assertThat(doubled.get(999), is(1998));
+    }
+}
@@ -0,0 +1,66 @@
+package scotch.data.bytestring;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static scotch.data.bytestring.ByteString.fromString;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.List;
+import org.junit.Test;
+import scotch.data.eq.Eq;
+import scotch.data.ord.Ordering;
+
+public class ByteStringTest {
+
+    @Test
+    public void shouldSliceWithoutCopying() {
+        ByteString value = fromString("hello world");
+        assertThat(value.drop(6).take(3), is(fromString("wor")));
+        assertThat(value.drop(6).take(3).byteAt(0), is((int) 'w'));
+        assertThat(value.take(100), is(value));
+        assertThat(value.drop(100).length(), is(0));
+    }
+
+    @Test
+    public void shouldSplitOnSeparator() {
+        assertThat(toStrings(fromString("a,b,,c").split((byte) ',')), is(asList("a", "b", "", "c")));
+    }
+
+    @Test
+    public void shouldSplitLinesWithoutTrailingEmptyLine() {
+        assertThat(toStrings(fromString("one\ntwo\n").lines()), is(asList("one", "two")));
+    }
+
+    @Test
+    public void shouldFoldStrictlyOverBytes() {
+        int sum = fromString("abc").<Integer>foldl(applicable(acc -> applicable(b -> callable(() -> acc.call() + b.call()))), box(0)).call();
+        assertThat(sum, is('a' + 'b' + 'c'));
+    }
+
+    @Test
+    public void shouldCompareUnsignedBytes() {
+        ByteString high = ByteString.copyOf(new byte[] { (byte) 0xFF });
+        ByteString low = ByteString.copyOf(new byte[] { 0x01 });
+        assertThat(high.compareTo(low), greaterThan(0));
+        assertThat(fromString("ab").compareTo(fromString("abc")), lessThan(0));
+    }
+
+    @Test
+    public void shouldCompareSlicesThroughOrdInstance() {
+        ByteString left = fromString("xxabc").drop(2);
+        ByteString right = fromString("abd");
+        assertThat(OrdByteString.instance().call().compare(box((Eq<ByteString>) EqByteString.instance().call()), box(left), box(right)).call(), is(Ordering.lessThan().call()));
+        assertThat(EqByteString.instance().call().eq(box(left), box(fromString("abc"))).call(), is(true));
+        assertThat(left.hashCode(), is(fromString("abc").hashCode()));
+    }
+
+    private List<String> toStrings(List<ByteString> values) {
+        return values.stream().map(ByteString::toString).collect(toList());
+    }
+}
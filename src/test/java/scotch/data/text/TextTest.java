@@ -0,0 +1,57 @@
+package scotch.data.text;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static scotch.data.text.Text.fromString;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.List;
+import org.junit.Test;
+
+public class TextTest {
+
+    @Test
+    public void shouldSliceWithoutCopying() {
+        Text value = fromString("hello world");
+        assertThat(value.drop(6).take(3), is(fromString("wor")));
+        assertThat(value.subSequence(0, 5).toString(), is("hello"));
+    }
+
+    @Test
+    public void shouldSplitWords() {
+        assertThat(toStrings(fromString("  the quick\tbrown\n fox ").words()), is(asList("the", "quick", "brown", "fox")));
+    }
+
+    @Test
+    public void shouldSplitLines() {
+        assertThat(toStrings(fromString("one\n\nthree").lines()), is(asList("one", "", "three")));
+    }
+
+    @Test
+    public void shouldRoundTripThroughUtf8() {
+        Text value = fromString("héllo wörld");
+        assertThat(Text.decode(value.encode()), is(value));
+        assertThat(value.encode().length(), is(13));
+    }
+
+    @Test
+    public void shouldFoldStrictlyOverChars() {
+        int count = fromString("banana").<Integer>foldl(applicable(acc -> applicable(c -> callable(() -> c.call() == 'a' ? acc.call() + 1 : acc.call()))), box(0)).call();
+        assertThat(count, is(3));
+    }
+
+    @Test
+    public void shouldCompareLikeString() {
+        assertThat(fromString("apple").compareTo(fromString("apricot")), lessThan(0));
+        assertThat(fromString("xapple").drop(1).compareTo(fromString("apple")), is(0));
+    }
+
+    private List<String> toStrings(List<Text> values) {
+        return values.stream().map(Text::toString).collect(toList());
+    }
+}
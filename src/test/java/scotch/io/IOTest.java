@@ -0,0 +1,124 @@
+package scotch.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static scotch.io.IO.io;
+import static scotch.io.IO.pure;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.google.common.base.Strings;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.runtime.Callable;
+
+public class IOTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldRunLeftNestedBindsWithoutOverflowingStack() {
+        IO<Integer> io = pure(box(0));
+        for (int i = 0; i < 100_000; i++) {
+            io = io.flatMap(applicable(value -> callable(() -> pure(box(value.call() + 1)))));
+        }
+        assertThat(io.run().call(), is(100_000));
+    }
+
+    @Test
+    public void shouldRunRightNestedBindsWithoutOverflowingStack() {
+        assertThat(countTo(0, 100_000).run().call(), is(100_000));
+    }
+
+    @Test
+    public void shouldNotPerformEffectUntilRun() {
+        AtomicInteger effects = new AtomicInteger();
+        IO<Integer> io = io(effects::incrementAndGet);
+        assertThat(effects.get(), is(0));
+        io.run();
+        io.run();
+        assertThat(effects.get(), is(2));
+    }
+
+    @Test
+    public void shouldBindThroughMonadInstance() {
+        MonadIO monad = MonadIO.instance().call();
+        Callable<IO<Integer>> io = monad.bind(monad.wrap(box(20)), applicable(value -> monad.wrap(box((Integer) value.call() + 22))));
+        assertThat(io.call().run().call(), is(42));
+    }
+
+    @Test
+    public void shouldWritePutStrToConsoleStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Console.setOut(new PrintStream(bytes, true, "UTF-8"));
+        try {
+            FileIO.putStr().apply(box("hello")).call().run().call();
+        } finally {
+            Console.resetOut();
+        }
+        assertThat(new String(bytes.toByteArray(), UTF_8), is("hello"));
+    }
+
+    @Test
+    public void shouldExitWithStatusWhenRun() {
+        IO<Object> io = FileIO.exitWith().apply(box(3)).call();
+        try {
+            io.run();
+            fail("Expected exit");
+        } catch (ExitException exception) {
+            assertThat(exception.getStatus(), is(3));
+        }
+    }
+
+    @Test
+    public void shouldWriteAndReadFile() throws IOException {
+        String path = folder.getRoot().toPath().resolve("file.txt").toString();
+        String contents = Strings.repeat("héllo wörld\n", 20_000);
+        assertThat(FileIO.writeFile().apply(box(path)).call().apply(box(contents)).call().run().call(), is(contents.getBytes(UTF_8).length));
+        assertThat(FileIO.readFile().apply(box(path)).call().run().call(), is(contents));
+    }
+
+    @Test
+    public void shouldAppendToFile() throws IOException {
+        String path = folder.getRoot().toPath().resolve("file.txt").toString();
+        FileIO.writeFile().apply(box(path)).call().apply(box("one\n")).call()
+            .flatMap(applicable(written -> FileIO.appendFile().apply(box(path)).call().apply(box("two\n"))))
+            .run().call();
+        assertThat(FileIO.readFile().apply(box(path)).call().run().call(), is("one\ntwo\n"));
+    }
+
+    @Test
+    public void shouldCopyFile() throws IOException {
+        Path source = folder.newFile("source.txt").toPath();
+        Path target = folder.getRoot().toPath().resolve("target.txt");
+        Files.write(source, Strings.repeat("copy me\n", 50_000).getBytes(UTF_8));
+        int copied = FileIO.copyFile().apply(box(source.toString())).call().apply(box(target.toString())).call().run().call();
+        assertThat(copied, is((int) Files.size(source)));
+        assertThat(Files.readAllBytes(target), is(Files.readAllBytes(source)));
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void shouldSurfaceIOExceptionWhenRun() {
+        FileIO.readFile().apply(box(folder.getRoot().toPath().resolve("missing.txt").toString())).call().run();
+    }
+
+    private IO<Integer> countTo(int value, int limit) {
+        if (value == limit) {
+            return pure(box(value));
+        } else {
+            return pure(box(value + 1)).flatMap(applicable(next -> callable(() -> countTo(next.call(), limit))));
+        }
+    }
+}
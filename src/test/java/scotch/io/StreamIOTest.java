@@ -0,0 +1,109 @@
+package scotch.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.io.IO.pure;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import com.google.common.base.Strings;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.runtime.Callable;
+
+public class StreamIOTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadLines() throws IOException {
+        Path path = write("one\r\ntwo\n\nthree");
+        assertThat(toList(StreamIO.readLines().apply(box(path.toString())).call().run().call()), is(asList("one", "two", "", "three")));
+    }
+
+    @Test
+    public void shouldReadLinesSpanningBuffers() throws IOException {
+        String longLine = Strings.repeat("é", BufferPool.BUFFER_SIZE);
+        Path path = write("short\n" + longLine + "\nlast\n");
+        assertThat(toList(StreamIO.readLines().apply(box(path.toString())).call().run().call()), is(asList("short", longLine, "last")));
+    }
+
+    @Test
+    public void shouldReadChunks() throws IOException {
+        Path path = write("abcdefgh");
+        ConsList<String> chunks = StreamIO.readChunks().apply(box(3)).call().apply(box(path.toString())).call().run().call();
+        assertThat(toList(chunks), is(asList("abc", "def", "gh")));
+    }
+
+    @Test
+    public void shouldKeepReaderOpenUntilStreamIsConsumed() throws IOException {
+        Path path = write(Strings.repeat("line\n", 100_000));
+        ChannelReader reader = ChannelReader.open(path);
+        ConsCell<String> first = (ConsCell<String>) StreamIO.lines(reader).call();
+        assertThat(first.getHead().call(), is("line"));
+        assertThat(reader.isOpen(), is(true));
+        reader.close();
+    }
+
+    @Test
+    public void shouldCloseReaderWhenFullyConsumed() throws IOException {
+        ChannelReader reader = ChannelReader.open(write("one\ntwo\n"));
+        toList(StreamIO.lines(reader).call());
+        assertThat(reader.isOpen(), is(false));
+    }
+
+    @Test
+    public void shouldCloseReaderWhenScopeEnds() throws IOException {
+        Path path = write("one\ntwo\nthree\n");
+        List<Callable<ConsList<String>>> captured = new ArrayList<>();
+        String head = StreamIO.<String>withLines().apply(box(path.toString())).call()
+            .apply(applicable(lines -> callable(() -> {
+                captured.add(lines);
+                return pure(((ConsCell<String>) lines.call()).getHead());
+            }))).call().run().call();
+        assertThat(head, is("one"));
+        try {
+            toList(captured.get(0).call());
+            throw new AssertionError("Expected stream to be closed");
+        } catch (UncheckedIOException exception) {
+            assertThat(exception.getCause().getMessage(), is("Channel reader is closed"));
+        }
+    }
+
+    @Test
+    public void shouldForceResultBeforeClosingReader() throws IOException {
+        Path path = write("one\ntwo\nthree\n");
+        ConsList<String> lines = StreamIO.<ConsList<String>>withLines().apply(box(path.toString())).call()
+            .apply(applicable(list -> callable(() -> pure(list)))).call().run().call();
+        assertThat(toList(lines), is(asList("one", "two", "three")));
+    }
+
+    private List<String> toList(ConsList<String> list) {
+        List<String> values = new ArrayList<>();
+        ConsList<String> current = list;
+        while (current instanceof ConsCell) {
+            values.add(((ConsCell<String>) current).getHead().call());
+            current = ((ConsCell<String>) current).getTail().call();
+        }
+        return values;
+    }
+
+    private Path write(String contents) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, contents.getBytes(UTF_8));
+        return path;
+    }
+}
@@ -0,0 +1,70 @@
+package scotch.runner;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.output.GeneratedClass.ClassType.MODULE;
+import static scotch.runner.ModuleCache.moduleCache;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import scotch.compiler.output.GeneratedClass;
+
+public class ModuleCacheTest {
+
+    private final Path path = Paths.get("scotch/test.scotch");
+
+    @Test
+    public void shouldCompileUnchangedModuleOnce() {
+        ModuleCache cache = moduleCache(1024);
+        AtomicInteger compiles = new AtomicInteger();
+        List<GeneratedClass> classes = cache.getClasses(path, asList("module scotch.test", "run = 1"), () -> {
+            compiles.incrementAndGet();
+            return asList(new GeneratedClass(MODULE, "scotch.test.$$Module", new byte[16]));
+        });
+        assertThat(cache.getClasses(path, asList("module scotch.test", "run = 1"), () -> {
+            compiles.incrementAndGet();
+            return asList();
+        }), sameInstance(classes));
+        assertThat(compiles.get(), is(1));
+    }
+
+    @Test
+    public void shouldRecompileChangedModule() {
+        ModuleCache cache = moduleCache(1024);
+        AtomicInteger compiles = new AtomicInteger();
+        cache.getClasses(path, asList("module scotch.test", "run = 1"), () -> asList(new GeneratedClass(MODULE, "scotch.test.$$Module", new byte[16])));
+        cache.getClasses(path, asList("module scotch.test", "run = 2"), () -> {
+            compiles.incrementAndGet();
+            return asList(new GeneratedClass(MODULE, "scotch.test.$$Module", new byte[16]));
+        });
+        assertThat(compiles.get(), is(1));
+    }
+
+    @Test
+    public void shouldEvictBeyondMaximumBytes() {
+        ModuleCache cache = moduleCache(1024);
+        for (int i = 0; i < 16; i++) {
+            String line = "run = " + i;
+            cache.getClasses(path, asList("module scotch.test", line), () -> asList(new GeneratedClass(MODULE, "scotch.test.$$Module", new byte[256])));
+        }
+        assertThat(cache.size(), lessThanOrEqualTo(4L));
+    }
+
+    @Test
+    public void shouldRecompileModule_whenCompileFlagsChange() {
+        ModuleCache cache = moduleCache(1024);
+        AtomicInteger compiles = new AtomicInteger();
+        cache.getClasses(path, asList("module scotch.test", "run = 1"), asList(), () -> asList(new GeneratedClass(MODULE, "scotch.test.$$Module", new byte[16])));
+        cache.getClasses(path, asList("module scotch.test", "run = 1"), asList("--profile"), () -> {
+            compiles.incrementAndGet();
+            return asList(new GeneratedClass(MODULE, "scotch.test.$$Module", new byte[16]));
+        });
+        assertThat(compiles.get(), is(1));
+    }
+}
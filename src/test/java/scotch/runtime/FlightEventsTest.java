@@ -0,0 +1,43 @@
+package scotch.runtime;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import org.junit.Test;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+
+public class FlightEventsTest {
+
+    @Test
+    public void shouldReturnResultOfPhase() {
+        assertThat(FlightEvents.phase("checkTypes", () -> "checked"), is("checked"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldUnwrapNestedThunksWhenEvaluatingThroughEvents() {
+        Thunk<Integer> thunk = (Thunk) callable(() -> callable(() -> 42));
+        assertThat(FlightEvents.evaluate(thunk), is(42));
+    }
+
+    @Test
+    public void shouldNameSupplierAsSiteOfSuppliedThunk() {
+        assertThat(new SuppliedThunk<>(() -> 42).site().startsWith(FlightEventsTest.class.getName()), is(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldAccessFieldThroughBootstrappedSite() throws Throwable {
+        MethodType type = methodType(Callable.class, Callable.class);
+        MethodHandle site = AccessorSupport.site(lookup(), "access", type, "getHead", "test.scotch (1, 1)").dynamicInvoker();
+        Callable<ConsList<Integer>> list = callable(() -> new ConsCell<>(callable(() -> 42), ConsList.empty()));
+        Callable<Integer> head = (Callable<Integer>) site.invoke(list);
+        assertThat(head.call(), is(42));
+    }
+}
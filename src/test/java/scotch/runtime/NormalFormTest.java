@@ -0,0 +1,94 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.NormalForm.deepSeq;
+import static scotch.runtime.NormalForm.force;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import scotch.control.deepseq.ScotchModule;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+
+public class NormalFormTest {
+
+    @Test
+    public void shouldForceEveryElementOfList() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Callable<ConsList<Integer>> list = ConsList.empty();
+        for (int i = 0; i < 10_000; i++) {
+            int value = i;
+            Callable<ConsList<Integer>> tail = list;
+            list = callable(() -> new ConsCell<>(callable(() -> {
+                evaluations.incrementAndGet();
+                return value;
+            }), tail));
+        }
+        force(list);
+        assertThat(evaluations.get(), is(10_000));
+    }
+
+    @Test
+    public void shouldForceHeadBeforeVisitingTail() {
+        List<Integer> order = new ArrayList<>();
+        Callable<ConsList<Integer>> list = callable(() -> {
+            order.add(0);
+            return new ConsCell<>(callable(() -> {
+                order.add(1);
+                return 1;
+            }), callable(() -> {
+                order.add(2);
+                return new ConsCell<>(callable(() -> {
+                    order.add(3);
+                    return 3;
+                }), ConsList.empty());
+            }));
+        });
+        force(list);
+        assertThat(order, contains(0, 1, 2, 3));
+    }
+
+    @Test
+    public void shouldLeaveFunctionsUnapplied() {
+        AtomicInteger applications = new AtomicInteger();
+        deepSeq(applicable(argument -> {
+            applications.incrementAndGet();
+            return argument;
+        }));
+        assertThat(applications.get(), is(0));
+    }
+
+    @Test
+    public void shouldForceCallableFieldsOfClassesWithoutDataFieldGetters() {
+        AtomicInteger evaluations = new AtomicInteger();
+        force(callable(() -> new Pair(callable(evaluations::incrementAndGet), callable(evaluations::incrementAndGet))));
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test
+    public void shouldForceValueBeforeReturningResultOfDeepseq() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Callable<ConsList<Integer>> list = callable(() -> new ConsCell<>(callable(evaluations::incrementAndGet), ConsList.empty()));
+        Callable<String> result = ScotchModule.<ConsList<Integer>, String>deepseq().apply(list).call().apply(callable(() -> "done"));
+        assertThat(evaluations.get(), is(0));
+        assertThat(result.call(), is("done"));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    private static final class Pair {
+
+        private final Callable<Integer> first;
+        private final Callable<Integer> second;
+
+        public Pair(Callable<Integer> first, Callable<Integer> second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package scotch.runtime;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.literal;
+
+import org.junit.Test;
+
+public class RuntimeSupportTest {
+
+    @Test
+    public void shouldShareBoxedSmallInts() {
+        assertThat(box(-1), sameInstance(box(-1)));
+        assertThat(box(1024), sameInstance(box(1024)));
+    }
+
+    @Test
+    public void shouldAllocateBoxedIntsOutsideOfPool() {
+        assertThat(box(100_000), not(sameInstance(box(100_000))));
+        assertThat(box(100_000).call(), is(100_000));
+    }
+
+    @Test
+    public void shouldShareBoxedBooleans() {
+        assertThat(box(true), sameInstance(box(true)));
+        assertThat(box(false).call(), is(false));
+    }
+
+    @Test
+    public void shouldUnwrapBoxedCallables() {
+        assertThat(box((Object) box(3)).call(), is((Object) 3));
+    }
+
+    @Test
+    public void shouldLinkLiteralToConstantBox() throws Throwable {
+        Callable<?> literal = (Callable<?>) literal(lookup(), "char", methodType(Callable.class), (int) 'x').dynamicInvoker().invoke();
+        assertThat(literal.call(), is((Object) 'x'));
+        assertThat(literal, sameInstance((Object) box('x')));
+    }
+}
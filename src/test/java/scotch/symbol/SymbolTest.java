@@ -2,9 +2,15 @@ package scotch.symbol;
 
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static scotch.compiler.util.Pair.pair;
 import static scotch.symbol.Symbol.qualified;
+import static scotch.symbol.Symbol.splitQualified;
 import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.Symbol.toJavaName;
+
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -51,4 +57,38 @@ public class SymbolTest {
     public void shouldPrefixNumericNameWithAlphaSuffix() {
         assertThat(symbol("#0i").getCanonicalName(), is("#0i"));
     }
+
+    @Test
+    public void shouldSplitOperatorWithDotFromModuleName() {
+        assertThat(splitQualified("scotch.data.function.(.)"), is(pair(Optional.of("scotch.data.function"), ".")));
+    }
+
+    @Test
+    public void shouldSplitOnLastModuleSegment() {
+        assertThat(splitQualified("scotch.data.maybe.Just"), is(pair(Optional.of("scotch.data.maybe"), "Just")));
+    }
+
+    @Test
+    public void shouldNotSplitUnqualifiedName() {
+        assertThat(splitQualified(">>="), is(pair(Optional.empty(), ">>=")));
+        assertThat(splitQualified("scotch.test."), is(pair(Optional.empty(), "scotch.test.")));
+    }
+
+    @Test
+    public void shouldInternSymbols() {
+        assertThat(symbol("scotch.test.fn"), sameInstance(qualified("scotch.test", "fn")));
+        assertThat(symbol("fn"), sameInstance(symbol("fn")));
+    }
+
+    @Test
+    public void shouldMangleSymbolCharactersInJavaName() {
+        assertThat(toJavaName("<.>"), is("$left$dot$right"));
+        assertThat(toJavaName("fn#1"), is("fn$1"));
+    }
+
+    @Test
+    public void shouldKeepPlainJavaName() {
+        String name = "plainName";
+        assertThat(toJavaName(name), sameInstance(name));
+    }
 }
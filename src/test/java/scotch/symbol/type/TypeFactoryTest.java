@@ -0,0 +1,42 @@
+package scotch.symbol.type;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.text.SourceLocation.source;
+import static scotch.compiler.text.SourcePoint.point;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import org.junit.Test;
+import scotch.compiler.text.SourceLocation;
+
+public class TypeFactoryTest {
+
+    @Test
+    public void shouldShareStructurallyEqualTypes() {
+        assertThat(fn(var("a"), sum("Maybe", var("a"))), sameInstance(fn(var("a"), sum("Maybe", var("a")))));
+    }
+
+    @Test
+    public void shouldShareSimplifiedVariables() {
+        assertThat(var("a", asList("Eq")).simplify(), sameInstance(var("a")));
+    }
+
+    @Test
+    public void shouldNotShareTypesWithSourceLocations() {
+        SourceLocation location = source("test://example", point(0, 1, 1), point(3, 1, 4));
+        SumType located = sum("Int").withSourceLocation(location);
+        assertThat(located, not(sameInstance(sum("Int").withSourceLocation(location))));
+        assertThat(located.getSourceLocation(), is(location));
+    }
+
+    @Test
+    public void shouldCacheSignature() {
+        FunctionType type = fn(sum("scotch.data.int.Int"), sum("scotch.data.int.Int"));
+        assertThat(type.getSignature(), sameInstance(type.getSignature()));
+    }
+}